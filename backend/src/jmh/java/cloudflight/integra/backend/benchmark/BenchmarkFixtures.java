@@ -0,0 +1,71 @@
+package cloudflight.integra.backend.benchmark;
+
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.Income;
+import cloudflight.integra.backend.entity.Payment;
+import cloudflight.integra.backend.entity.Saving;
+import cloudflight.integra.backend.entity.User;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/** Deterministic entities shared by the benchmarks, shaped like typical production rows. */
+final class BenchmarkFixtures {
+
+    static final User USER = new User(1L, "Bench User", "bench@example.com", "password123");
+
+    private static final String[] CATEGORIES = {"Rent", "Food", "Utilities", "Transport", "Health"};
+
+    private BenchmarkFixtures() {}
+
+    static Expense expense(long id) {
+        return new Expense(
+                id,
+                USER,
+                BigDecimal.valueOf(1000 + id % 5000, 2),
+                CATEGORIES[(int) (id % CATEGORIES.length)],
+                LocalDate.of(2025, 1, 1).plusDays(id % 365),
+                "Expense " + id,
+                Expense.Frequency.MONTHLY,
+                null,
+                LocalDate.of(2025, 2, 1),
+                Expense.PaymentMethod.CARD);
+    }
+
+    static Income income(long id) {
+        return new Income(
+                id,
+                USER.getId(),
+                BigDecimal.valueOf(250_000 + id, 2),
+                "Salary",
+                new Date(1_735_689_600_000L + id * 86_400_000L),
+                "Income " + id,
+                Frequency.MONTHLY,
+                null);
+    }
+
+    static Saving saving(long id) {
+        Saving saving = new Saving(
+                USER, BigDecimal.valueOf(5000 + id, 2), new Date(1_735_689_600_000L), "Goal " + id % 10, "Saving");
+        saving.setId(id);
+        return saving;
+    }
+
+    static Payment payment(long id) {
+        Payment payment =
+                new Payment(expense(id), "Payment " + id, Payment.StatusEnum.PENDING, LocalDate.of(2025, 3, 1));
+        payment.setId(id);
+        return payment;
+    }
+
+    static List<Expense> expenses(int size) {
+        List<Expense> expenses = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            expenses.add(expense(id));
+        }
+        return expenses;
+    }
+}
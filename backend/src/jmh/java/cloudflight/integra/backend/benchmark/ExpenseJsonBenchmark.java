@@ -0,0 +1,47 @@
+package cloudflight.integra.backend.benchmark;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.mapper.ExpenseMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serialization of expense lists as returned by the collection endpoints, using an {@link
+ * ObjectMapper} configured with Spring's defaults.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExpenseJsonBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<ExpenseDTO> expenses;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, ExpenseDTO.class));
+        expenses = ExpenseMapper.toDTOList(BenchmarkFixtures.expenses(size));
+    }
+
+    @Benchmark
+    public byte[] serializeExpenses() throws JsonProcessingException {
+        return writer.writeValueAsBytes(expenses);
+    }
+}
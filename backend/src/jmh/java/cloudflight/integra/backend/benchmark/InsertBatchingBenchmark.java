@@ -0,0 +1,125 @@
+package cloudflight.integra.backend.benchmark;
+
+import cloudflight.integra.backend.BackendApplication;
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Throughput of {@link ExpenseService#createExpenses}, the path behind {@code POST /expenses/batch},
+ * in rows per second. {@code jdbcBatchSize=1} sends one INSERT per round trip, the behaviour identity
+ * ids forced on Hibernate; {@code 50} is the configured batch size that pooled sequence ids allow.
+ * Runs against in-memory H2, where a round trip is cheap, so the gap against a networked PostgreSQL
+ * is larger than measured here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(InsertBatchingBenchmark.ROWS)
+public class InsertBatchingBenchmark {
+
+    static final int ROWS = 1000;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private ExpenseService expenseService;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private List<ExpenseDTO> expenses;
+
+    @Setup
+    public void setUp() {
+        // The merged benchmark jar keeps only one copy of each Spring Boot factories file, so neither
+        // application.properties nor the actuator auto-configuration is picked up; both are supplied here
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("meterRegistry", new SimpleMeterRegistry()))
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:insert-batching;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.properties.hibernate.order_inserts=true",
+                        "jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-benchmark",
+                        "jwt.expiration=86400",
+                        "logging.level.root=WARN")
+                .run();
+        expenseService = context.getBean(ExpenseService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User(null, "Bench User", "bench@example.com", "password123"));
+        expenses = IntStream.range(0, ROWS)
+                .mapToObj(i -> new ExpenseDTO(
+                        null,
+                        user.getId(),
+                        BigDecimal.valueOf(1000 + i, 2),
+                        "Category " + i % 5,
+                        LocalDate.of(2025, 1, 1).plusDays(i % 365),
+                        "Expense " + i,
+                        ExpenseDTO.Frequency.ONE_TIME,
+                        null,
+                        null,
+                        ExpenseDTO.PaymentMethod.CARD))
+                .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteRows() {
+        jdbcTemplate.execute("DELETE FROM expense");
+        jdbcTemplate.execute("DELETE FROM user_monthly_rollup");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ExpenseDTO> createExpenses() {
+        return transactionTemplate.execute(status -> {
+            // The service joins this transaction, so the session's batch size applies to its inserts
+            EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                    .unwrap(Session.class)
+                    .setJdbcBatchSize(jdbcBatchSize);
+            return expenseService.createExpenses(expenses);
+        });
+    }
+}
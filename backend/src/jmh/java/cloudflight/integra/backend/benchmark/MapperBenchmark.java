@@ -0,0 +1,81 @@
+package cloudflight.integra.backend.benchmark;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.dto.PaymentDTO;
+import cloudflight.integra.backend.dto.SavingDTO;
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Income;
+import cloudflight.integra.backend.entity.Payment;
+import cloudflight.integra.backend.entity.Saving;
+import cloudflight.integra.backend.mapper.ExpenseMapper;
+import cloudflight.integra.backend.mapper.IncomeMapper;
+import cloudflight.integra.backend.mapper.PaymentMapper;
+import cloudflight.integra.backend.mapper.SavingMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Entity to DTO conversion, per element and for whole collections. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private Expense expense;
+    private List<Expense> expenses;
+    private List<Income> incomes;
+    private List<Saving> savings;
+    private List<Payment> payments;
+
+    @Setup
+    public void setUp() {
+        expense = BenchmarkFixtures.expense(1);
+        expenses = BenchmarkFixtures.expenses(size);
+        incomes = LongStream.rangeClosed(1, size)
+                .mapToObj(BenchmarkFixtures::income)
+                .toList();
+        savings = LongStream.rangeClosed(1, size)
+                .mapToObj(BenchmarkFixtures::saving)
+                .toList();
+        payments = LongStream.rangeClosed(1, size)
+                .mapToObj(BenchmarkFixtures::payment)
+                .toList();
+    }
+
+    @Benchmark
+    public ExpenseDTO expenseToDTO() {
+        return ExpenseMapper.toDTO(expense);
+    }
+
+    @Benchmark
+    public List<ExpenseDTO> expenseToDTOList() {
+        return ExpenseMapper.toDTOList(expenses);
+    }
+
+    @Benchmark
+    public List<IncomeDTO> incomeToDTOList() {
+        return incomes.stream().map(IncomeMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public Iterable<SavingDTO> savingToDtoList() {
+        return SavingMapper.toDtoList(savings);
+    }
+
+    @Benchmark
+    public List<PaymentDTO> paymentDTOsFromPayments() {
+        return PaymentMapper.getPaymentDTOsFromPayments(payments);
+    }
+}
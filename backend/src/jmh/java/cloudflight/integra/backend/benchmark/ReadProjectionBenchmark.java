@@ -0,0 +1,109 @@
+package cloudflight.integra.backend.benchmark;
+
+import cloudflight.integra.backend.BackendApplication;
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.mapper.ExpenseMapper;
+import cloudflight.integra.backend.repository.ExpenseRepository;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reading a user's expenses as DTOs in a read-only transaction. {@code entities} is the former read
+ * path: managed {@code Expense} entities, each with its payment, converted by {@link ExpenseMapper};
+ * {@code projections} selects straight into {@link ExpenseDTO}s as the list and export endpoints now
+ * do. Run with {@code -PjmhProfilers=gc} to compare the allocation per read as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadProjectionBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private ExpenseRepository expenseRepository;
+    private TransactionTemplate readOnly;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        // The merged benchmark jar keeps only one copy of each Spring Boot factories file, so neither
+        // application.properties nor the actuator auto-configuration is picked up; both are supplied here
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("meterRegistry", new SimpleMeterRegistry()))
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:read-projection;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "spring.flyway.enabled=false",
+                        "jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-benchmark",
+                        "jwt.expiration=86400",
+                        "logging.level.root=WARN")
+                .run();
+        expenseRepository = context.getBean(ExpenseRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User(null, "Bench User", "bench@example.com", "password123"));
+        userId = user.getId();
+        context.getBean(ExpenseService.class)
+                .createExpenses(IntStream.range(0, rows)
+                        .mapToObj(i -> new ExpenseDTO(
+                                null,
+                                userId,
+                                BigDecimal.valueOf(1000 + i, 2),
+                                "Category " + i % 5,
+                                LocalDate.of(2025, 1, 1).plusDays(i % 365),
+                                "Expense " + i,
+                                ExpenseDTO.Frequency.ONE_TIME,
+                                null,
+                                null,
+                                ExpenseDTO.PaymentMethod.CARD))
+                        .toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ExpenseDTO> entities() {
+        return readOnly.execute(status -> ExpenseMapper.toDTOList(expenseRepository.findAllByUserId(userId)));
+    }
+
+    @Benchmark
+    public List<ExpenseDTO> projections() {
+        return readOnly.execute(status -> expenseRepository.findPageByUserId(userId, Limit.unlimited()));
+    }
+}
@@ -0,0 +1,148 @@
+package cloudflight.integra.backend.benchmark;
+
+import cloudflight.integra.backend.BackendApplication;
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.security.AuthenticatedUser;
+import cloudflight.integra.backend.security.JwtUtils;
+import cloudflight.integra.backend.service.ExpenseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.ApplicationContextFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Time for {@code clients} concurrent clients to each get one page of {@code GET /api/v1/expenses}
+ * through the real Tomcat, JWT filter and Hikari pool, served on platform threads (Tomcat's pool of
+ * 200) or on virtual threads. The Hikari pool is kept at {@link #POOL_SIZE} connections, so beyond a
+ * few hundred clients requests queue for a connection rather than for a thread.
+ *
+ * <p>Runs against in-memory H2 by default, where queries take microseconds; pass
+ * {@code -jvmArgs -Dspring.datasource.url=...} (plus username, password and
+ * {@code spring.jpa.properties.hibernate.dialect}) to measure against a networked database instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RequestConcurrencyBenchmark {
+
+    static final int POOL_SIZE = 10;
+    private static final int EXPENSES = 50;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"200", "1000", "5000"})
+    public int clients;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientThreads;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        // See InsertBatchingBenchmark: the merged benchmark jar needs its configuration supplied here,
+        // including the servlet context that would otherwise be picked from the factories file
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .contextFactory(ApplicationContextFactory.ofContextClass(
+                        AnnotationConfigServletWebServerApplicationContext.class))
+                .initializers(ctx -> ctx.getBeanFactory().registerSingleton("meterRegistry", new SimpleMeterRegistry()))
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.max-connections=" + (clients + 100),
+                        "spring.threads.virtual.enabled=" + threads.equals("virtual"),
+                        "spring.datasource.url=jdbc:h2:mem:request-concurrency;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.datasource.hikari.connection-timeout=60000",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.flyway.enabled=false",
+                        "jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-benchmark",
+                        "jwt.expiration=86400",
+                        "logging.level.root=WARN")
+                .run();
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User(null, "Bench User", "bench@example.com", "password123"));
+        context.getBean(ExpenseService.class)
+                .createExpenses(IntStream.range(0, EXPENSES)
+                        .mapToObj(i -> new ExpenseDTO(
+                                null,
+                                user.getId(),
+                                BigDecimal.valueOf(1000 + i, 2),
+                                "Category " + i % 5,
+                                LocalDate.of(2025, 1, 1).plusDays(i),
+                                "Expense " + i,
+                                ExpenseDTO.Frequency.ONE_TIME,
+                                null,
+                                null,
+                                ExpenseDTO.PaymentMethod.CARD))
+                        .toList());
+        String token = context.getBean(JwtUtils.class).generateToken(AuthenticatedUser.of(user));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientThreads)
+                .build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/expenses?limit=20"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofMinutes(2))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        clientThreads.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int concurrentRequests() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = IntStream.range(0, clients)
+                .mapToObj(i -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                .toList();
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            int status = response.join().statusCode();
+            if (status != 200) {
+                throw new IllegalStateException("Request failed with status " + status);
+            }
+            ok++;
+        }
+        return ok;
+    }
+}
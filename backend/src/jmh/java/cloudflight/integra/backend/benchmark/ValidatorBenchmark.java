@@ -0,0 +1,100 @@
+package cloudflight.integra.backend.benchmark;
+
+import cloudflight.integra.backend.dto.PaymentDTO;
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Income;
+import cloudflight.integra.backend.entity.Payment;
+import cloudflight.integra.backend.entity.Saving;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.entity.validation.ExpenseValidator;
+import cloudflight.integra.backend.entity.validation.IncomeValidator;
+import cloudflight.integra.backend.entity.validation.PaymentValidator;
+import cloudflight.integra.backend.entity.validation.SavingValidator;
+import cloudflight.integra.backend.entity.validation.UserValidator;
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import cloudflight.integra.backend.mapper.PaymentMapper;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * The validators on the happy path and, for expenses, on the rejection path, where the cost is
+ * dominated by building the {@link ValidationException}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private final ExpenseValidator expenseValidator = new ExpenseValidator();
+    private final IncomeValidator incomeValidator = new IncomeValidator();
+    private final SavingValidator savingValidator = new SavingValidator();
+    private final PaymentValidator paymentValidator = new PaymentValidator();
+    private final UserValidator userValidator = new UserValidator();
+
+    private Expense validExpense;
+    private Expense invalidExpense;
+    private Income income;
+    private Saving saving;
+    private PaymentDTO payment;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        validExpense = BenchmarkFixtures.expense(1);
+        invalidExpense = BenchmarkFixtures.expense(2);
+        invalidExpense.setAmount(BigDecimal.valueOf(-5));
+        invalidExpense.setCategory("");
+        income = BenchmarkFixtures.income(1);
+        saving = BenchmarkFixtures.saving(1);
+        Payment entity = BenchmarkFixtures.payment(1);
+        payment = PaymentMapper.getDTO(entity);
+        user = BenchmarkFixtures.USER;
+    }
+
+    @Benchmark
+    public Expense expenseValid() {
+        expenseValidator.validate(validExpense);
+        return validExpense;
+    }
+
+    @Benchmark
+    public ValidationException expenseInvalid() {
+        try {
+            expenseValidator.validate(invalidExpense);
+            return null;
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Income incomeValid() {
+        incomeValidator.validate(income);
+        return income;
+    }
+
+    @Benchmark
+    public Saving savingValid() {
+        savingValidator.validate(saving);
+        return saving;
+    }
+
+    @Benchmark
+    public PaymentDTO paymentValid() {
+        paymentValidator.validate(payment);
+        return payment;
+    }
+
+    @Benchmark
+    public User userValid() {
+        userValidator.validate(user);
+        return user;
+    }
+}
@@ -5,6 +5,7 @@ import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
 import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
 import cloudflight.integra.backend.dto.auth.RegisterRequest;
 import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.security.AuthenticatedUser;
 import cloudflight.integra.backend.security.JwtUtils;
 import cloudflight.integra.backend.service.ActivityService;
 import cloudflight.integra.backend.service.UserService;
@@ -22,8 +23,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -36,7 +36,6 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
     private final UserService userService;
     private final JwtUtils jwtUtils;
     private final PasswordEncoder passwordEncoder;
@@ -44,13 +43,11 @@ public class AuthController {
 
     public AuthController(
             AuthenticationManager authenticationManager,
-            UserDetailsService userDetailsService,
             UserService userService,
             JwtUtils jwtUtils,
             PasswordEncoder passwordEncoder,
             ActivityService activityService) {
         this.authenticationManager = authenticationManager;
-        this.userDetailsService = userDetailsService;
         this.userService = userService;
         this.jwtUtils = jwtUtils;
         this.passwordEncoder = passwordEncoder;
@@ -105,12 +102,12 @@ public class AuthController {
     @PostMapping(value = "/login", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<?> login(
             @Parameter(description = "User login credentials") @RequestBody AuthenticationRequest request) {
-        authenticationManager.authenticate(
+        // The authenticated principal already holds the user's id and token version
+        Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword()));
 
-        final UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-        User user = userService.getUserByEmail(request.getEmail());
-        final String token = jwtUtils.generateToken(userDetails);
+        final AuthenticatedUser user = (AuthenticatedUser) authentication.getPrincipal();
+        final String token = jwtUtils.generateToken(user);
 
         activityService.logActivity(user.getId(), "LOGIN", "Logged in", "pi pi-sign-in");
 
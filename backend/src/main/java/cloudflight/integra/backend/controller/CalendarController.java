@@ -0,0 +1,48 @@
+package cloudflight.integra.backend.controller;
+
+import cloudflight.integra.backend.controller.problem.CalendarApiErrorResponses;
+import cloudflight.integra.backend.dto.CalendarDTO;
+import cloudflight.integra.backend.security.CurrentUserId;
+import cloudflight.integra.backend.service.CalendarService;
+import java.time.YearMonth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller exposing the calendar of the authenticated user's expense and income occurrences. */
+@RestController
+@CalendarApiErrorResponses
+@RequestMapping("/api/v1/calendar")
+public class CalendarController {
+
+    private static final Logger log = LoggerFactory.getLogger(CalendarController.class);
+
+    private final CalendarService calendarService;
+
+    public CalendarController(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    /**
+     * Returns the per-day totals of the authenticated user's expenses and incomes in one month, with
+     * recurring entries expanded into their occurrences.
+     *
+     * @param userId the id of the authenticated user
+     * @param month the month in the format {@code yyyy-MM}; defaults to the current month
+     * @return {@link ResponseEntity} containing the {@link CalendarDTO}
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CalendarDTO> getCalendar(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        YearMonth shown = month != null ? month : YearMonth.now();
+        log.debug("Fetching calendar of {}", shown);
+        return ResponseEntity.ok(calendarService.getCalendar(userId, shown));
+    }
+}
@@ -0,0 +1,55 @@
+package cloudflight.integra.backend.controller;
+
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Conditional GET for the per-user collection endpoints. A request whose {@code If-None-Match} matches
+ * the collection's current ETag is answered with {@code 304 Not Modified} before the service runs;
+ * otherwise the response carries the ETag. Responses may be stored by the browser but must be
+ * revalidated on every use, which replaces Spring Security's default {@code no-store}.
+ *
+ * <p>A single resource carries the ETag of its owner's collection, which changes with every change of
+ * the resource. That ETag only speaks for the caller's own resources, so the detail endpoints look the
+ * resource up within the caller's collection before comparing it.
+ */
+final class ConditionalResponses {
+
+    private static final String REVALIDATE =
+            CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalResponses() {}
+
+    /**
+     * @param request the current request
+     * @param etag the collection's current ETag, {@code null} to answer unconditionally
+     * @param response produces the full response when the client's copy is outdated
+     * @return the full response, or {@code null} once a {@code 304} has been written
+     */
+    static <T> ResponseEntity<T> unlessNotModified(
+            ServletWebRequest request, String etag, Supplier<ResponseEntity<T>> response) {
+        if (etag == null) {
+            return response.get();
+        }
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return response.get();
+    }
+
+    /**
+     * @param request the current request
+     * @param etag the current ETag of the caller's collection, read before the resource
+     * @param resource looks the resource up within the caller's collection, throwing if it is not there
+     * @return the resource, or {@code null} once a {@code 304} has been written
+     */
+    static <T> ResponseEntity<T> resourceUnlessNotModified(
+            ServletWebRequest request, String etag, Supplier<T> resource) {
+        T body = resource.get();
+        return unlessNotModified(request, etag, () -> ResponseEntity.ok(body));
+    }
+}
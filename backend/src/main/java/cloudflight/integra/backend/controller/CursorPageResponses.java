@@ -0,0 +1,27 @@
+package cloudflight.integra.backend.controller;
+
+import cloudflight.integra.backend.dto.CursorPage;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Renders a {@link CursorPage} as a plain JSON array, with the continuation token in the {@value
+ * CursorPage#NEXT_CURSOR_HEADER} header, so existing clients that expect an array keep working.
+ */
+final class CursorPageResponses {
+
+    private CursorPageResponses() {}
+
+    static <T> ResponseEntity<List<T>> ok(CursorPage<T> page) {
+        return ok(page, Function.identity());
+    }
+
+    static <T, R> ResponseEntity<List<R>> ok(CursorPage<T> page, Function<T, R> mapper) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems().stream().map(mapper).toList());
+    }
+}
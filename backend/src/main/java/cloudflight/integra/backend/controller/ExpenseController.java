@@ -1,17 +1,28 @@
 package cloudflight.integra.backend.controller;
 
 import cloudflight.integra.backend.controller.problem.ExpenseApiErrorResponses;
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.ImportResultDTO;
 import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.VersionedResource;
+import cloudflight.integra.backend.security.CurrentUserId;
 import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /** REST controller for managing {@link Expense} entities. */
 @RestController
@@ -22,9 +33,11 @@ public class ExpenseController {
     private static final Logger log = LoggerFactory.getLogger(ExpenseController.class);
 
     private final ExpenseService expenseService;
+    private final ResourceVersions resourceVersions;
 
-    public ExpenseController(ExpenseService expenseService) {
+    public ExpenseController(ExpenseService expenseService, ResourceVersions resourceVersions) {
         this.expenseService = expenseService;
+        this.resourceVersions = resourceVersions;
     }
 
     /**
@@ -41,30 +54,101 @@ public class ExpenseController {
     }
 
     /**
-     * Retrieves an expense by its ID.
+     * Creates several expenses in one transaction. If any of them is invalid, none is stored and the
+     * problems of all of them are reported, each prefixed with the item's index.
+     *
+     * @param dtos the expenses to create, at most 1000
+     * @return {@link ResponseEntity} containing the created expenses with generated IDs
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ExpenseDTO>> createExpenses(@RequestBody List<ExpenseDTO> dtos) {
+        log.info("Creating {} expenses", dtos.size());
+        List<ExpenseDTO> created = expenseService.createExpenses(dtos);
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
+    /**
+     * Retrieves an expense by its ID. Answers {@code 304 Not Modified} while the authenticated user's
+     * expenses are unchanged since the ETag in {@code If-None-Match}.
      *
      * @param id the ID of the expense to retrieve
+     * @param userId the id of the authenticated user
+     * @param request the current request, for its conditional headers
      * @return {@link ResponseEntity} containing the found {@link ExpenseDTO}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ExpenseDTO> getExpenseById(@PathVariable Long id) {
+    public ResponseEntity<ExpenseDTO> getExpenseById(
+            @PathVariable Long id, @CurrentUserId Long userId, ServletWebRequest request) {
         log.debug("Fetching expense with id {}", id);
-        ExpenseDTO expense = expenseService.getExpense(id);
-        return new ResponseEntity<>(expense, HttpStatus.OK);
+        return ConditionalResponses.resourceUnlessNotModified(
+                request, etag(userId), () -> expenseService.getExpense(id, userId));
     }
 
     /**
-     * Retrieves all expenses.
+     * Retrieves one page of the authenticated user's expenses, newest first. The token for the next
+     * page is returned in the {@value CursorPage#NEXT_CURSOR_HEADER} header.
      *
-     * @return {@link ResponseEntity} containing the list of all {@link ExpenseDTO}
+     * @param userId the id of the authenticated user
+     * @param cursor the continuation token of the previous page, absent for the first page
+     * @param limit the maximum number of expenses to return
+     * @param request the current request, for its conditional headers
+     * @return {@link ResponseEntity} containing the page of the user's {@link ExpenseDTO}, or {@code 304
+     *     Not Modified} while the user's expenses are unchanged since the ETag in {@code If-None-Match}
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<ExpenseDTO>> getAllExpenses() {
-        log.debug("Fetching all expenses");
-        List<ExpenseDTO> expenses = StreamSupport.stream(
-                        expenseService.getAllExpenses().spliterator(), false)
-                .toList();
-        return new ResponseEntity<>(expenses, HttpStatus.OK);
+    public ResponseEntity<List<ExpenseDTO>> getAllExpenses(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit,
+            ServletWebRequest request) {
+        log.debug("Fetching expenses page, cursor={}, limit={}", cursor, limit);
+        return ConditionalResponses.unlessNotModified(
+                request,
+                etag(userId),
+                () -> CursorPageResponses.ok(expenseService.getAllExpenses(userId, cursor, limit)));
+    }
+
+    /**
+     * Streams all expenses of the authenticated user, oldest first. Rows are written as they are read
+     * from the database, so the export size is not bounded by the heap.
+     *
+     * @param userId the id of the authenticated user
+     * @param format {@code ndjson} (default) or {@code csv}
+     * @return {@link ResponseEntity} streaming the user's expenses as an attachment
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @CurrentUserId Long userId, @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting expenses of user {} as {}", userId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"expenses." + exportFormat.getExtension() + "\"")
+                .body(out -> expenseService.exportExpenses(userId, exportFormat, out));
+    }
+
+    /**
+     * Imports expenses for the authenticated user from the request body, in the layout written by the
+     * export. The body is parsed while it is being received and stored in batches, so uploads of any
+     * size are accepted; invalid rows are skipped and reported with their line number.
+     *
+     * @param userId the id of the authenticated user
+     * @param format {@code ndjson} (default) or {@code csv}
+     * @param body the uploaded expenses
+     * @return {@link ResponseEntity} with the number of imported and rejected rows
+     * @throws IOException if reading the body fails
+     */
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResultDTO> importExpenses(
+            @CurrentUserId Long userId, @RequestParam(defaultValue = "ndjson") String format, InputStream body)
+            throws IOException {
+        ExportFormat importFormat = ExportFormat.from(format);
+        log.info("Importing expenses of user {} as {}", userId, importFormat);
+        ImportResultDTO result = expenseService.importExpenses(userId, importFormat, body);
+        log.info("Imported {} expenses of user {}, rejected {}", result.getImported(), userId, result.getRejected());
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -95,4 +179,8 @@ public class ExpenseController {
         expenseService.deleteExpense(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private String etag(Long userId) {
+        return resourceVersions.etag(userId, VersionedResource.EXPENSES);
+    }
 }
@@ -0,0 +1,44 @@
+package cloudflight.integra.backend.controller;
+
+import cloudflight.integra.backend.controller.problem.ForecastApiErrorResponses;
+import cloudflight.integra.backend.dto.ForecastDTO;
+import cloudflight.integra.backend.security.CurrentUserId;
+import cloudflight.integra.backend.service.ForecastService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller exposing the balance forecast of the authenticated user. */
+@RestController
+@ForecastApiErrorResponses
+@RequestMapping("/api/v1/forecast")
+public class ForecastController {
+
+    private static final Logger log = LoggerFactory.getLogger(ForecastController.class);
+
+    private final ForecastService forecastService;
+
+    public ForecastController(ForecastService forecastService) {
+        this.forecastService = forecastService;
+    }
+
+    /**
+     * Returns the authenticated user's balance projected month by month, starting with the current
+     * month.
+     *
+     * @param userId the id of the authenticated user
+     * @param months the number of months to project; defaults to 12
+     * @return {@link ResponseEntity} containing the {@link ForecastDTO}
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ForecastDTO> getForecast(
+            @CurrentUserId Long userId, @RequestParam(defaultValue = "12") int months) {
+        log.debug("Fetching forecast of {} months", months);
+        return ResponseEntity.ok(forecastService.getForecast(userId, months));
+    }
+}
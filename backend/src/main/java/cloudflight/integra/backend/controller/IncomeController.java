@@ -1,16 +1,26 @@
 package cloudflight.integra.backend.controller;
 
 import cloudflight.integra.backend.controller.problem.IncomeApiErrorResponses;
+import cloudflight.integra.backend.dto.ImportResultDTO;
 import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.entity.VersionedResource;
+import cloudflight.integra.backend.security.CurrentUserId;
 import cloudflight.integra.backend.service.IncomeService;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
-import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/incomes")
@@ -20,9 +30,11 @@ public class IncomeController {
     private static final Logger log = LoggerFactory.getLogger(IncomeController.class);
 
     private final IncomeService incomeService;
+    private final ResourceVersions resourceVersions;
 
-    public IncomeController(IncomeService incomeService) {
+    public IncomeController(IncomeService incomeService, ResourceVersions resourceVersions) {
         this.incomeService = incomeService;
+        this.resourceVersions = resourceVersions;
     }
 
     @PostMapping
@@ -32,20 +44,67 @@ public class IncomeController {
         return new ResponseEntity<>(saved, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<IncomeDTO>> createIncomes(@RequestBody List<IncomeDTO> dtos) {
+        log.info("Creating {} incomes", dtos.size());
+        List<IncomeDTO> saved = incomeService.createIncomes(dtos);
+        return new ResponseEntity<>(saved, HttpStatus.CREATED);
+    }
+
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<IncomeDTO> getIncomeById(@PathVariable Long id) {
+    public ResponseEntity<IncomeDTO> getIncomeById(
+            @PathVariable Long id, @CurrentUserId Long userId, ServletWebRequest request) {
         log.debug("Fetching income with id {}", id);
-        IncomeDTO income = incomeService.getIncomeById(id);
-        return new ResponseEntity<>(income, HttpStatus.OK);
+        return ConditionalResponses.resourceUnlessNotModified(
+                request, etag(userId), () -> incomeService.getIncomeById(id, userId));
     }
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<IncomeDTO>> getAllIncomes() {
-        log.debug("Fetching all incomes");
-        List<IncomeDTO> incomes = StreamSupport.stream(
-                        incomeService.getAllIncomes().spliterator(), false)
-                .toList();
-        return new ResponseEntity<>(incomes, HttpStatus.OK);
+    public ResponseEntity<List<IncomeDTO>> getAllIncomes(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit,
+            ServletWebRequest request) {
+        log.debug("Fetching incomes page, cursor={}, limit={}", cursor, limit);
+        return ConditionalResponses.unlessNotModified(
+                request,
+                etag(userId),
+                () -> CursorPageResponses.ok(incomeService.getAllIncomes(userId, cursor, limit)));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportIncomes(
+            @CurrentUserId Long userId, @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting incomes of user {} as {}", userId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"incomes." + exportFormat.getExtension() + "\"")
+                .body(out -> incomeService.exportIncomes(userId, exportFormat, out));
+    }
+
+    /**
+     * Imports incomes for the authenticated user from the request body, in the layout written by the
+     * export. The body is parsed while it is being received and stored in batches, so uploads of any
+     * size are accepted; invalid rows are skipped and reported with their line number.
+     *
+     * @param userId the id of the authenticated user
+     * @param format {@code ndjson} (default) or {@code csv}
+     * @param body the uploaded incomes
+     * @return {@link ResponseEntity} with the number of imported and rejected rows
+     * @throws IOException if reading the body fails
+     */
+    @PostMapping(value = "/import", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ImportResultDTO> importIncomes(
+            @CurrentUserId Long userId, @RequestParam(defaultValue = "ndjson") String format, InputStream body)
+            throws IOException {
+        ExportFormat importFormat = ExportFormat.from(format);
+        log.info("Importing incomes of user {} as {}", userId, importFormat);
+        ImportResultDTO result = incomeService.importIncomes(userId, importFormat, body);
+        log.info("Imported {} incomes of user {}, rejected {}", result.getImported(), userId, result.getRejected());
+        return ResponseEntity.ok(result);
     }
 
     @PutMapping("/{id}")
@@ -62,4 +121,8 @@ public class IncomeController {
         incomeService.deleteIncome(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private String etag(Long userId) {
+        return resourceVersions.etag(userId, VersionedResource.INCOMES);
+    }
 }
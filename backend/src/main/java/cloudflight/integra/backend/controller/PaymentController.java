@@ -1,9 +1,14 @@
 package cloudflight.integra.backend.controller;
 
 import cloudflight.integra.backend.controller.problem.PaymentApiErrorResponses;
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.PaymentDTO;
+import cloudflight.integra.backend.entity.VersionedResource;
 import cloudflight.integra.backend.exception.NotFoundException;
+import cloudflight.integra.backend.security.CurrentUserId;
 import cloudflight.integra.backend.service.PaymentService;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
 import jakarta.validation.Valid;
 import java.util.List;
 import org.slf4j.Logger;
@@ -12,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /** REST controller for managing payments. Provides CRUD operations for {@link PaymentDTO}. */
 @RestController
@@ -22,17 +28,22 @@ public class PaymentController {
     private static final Logger log = LoggerFactory.getLogger(PaymentController.class);
 
     private final PaymentService paymentService;
+    private final ResourceVersions resourceVersions;
 
-    public PaymentController(PaymentService paymentService) {
+    public PaymentController(PaymentService paymentService, ResourceVersions resourceVersions) {
         this.paymentService = paymentService;
+        this.resourceVersions = resourceVersions;
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PaymentDTO> getPaymentById(@PathVariable Long id) {
+    public ResponseEntity<PaymentDTO> getPaymentById(
+            @PathVariable Long id, @CurrentUserId Long userId, ServletWebRequest request) {
         log.info("Fetching payment with id={}", id);
-        PaymentDTO paymentDto = paymentService.getPaymentById(id);
-        log.debug("Found payment: {}", paymentDto);
-        return ResponseEntity.ok(paymentDto);
+        return ConditionalResponses.resourceUnlessNotModified(request, etag(userId), () -> {
+            PaymentDTO paymentDto = paymentService.getPaymentById(id, userId);
+            log.debug("Found payment: {}", paymentDto);
+            return paymentDto;
+        });
     }
 
     @PostMapping
@@ -45,12 +56,27 @@ public class PaymentController {
         return new ResponseEntity<>(created, HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<PaymentDTO>> createPayments(@RequestBody List<PaymentDTO> paymentDtos) {
+        log.info("Creating {} payments", paymentDtos.size());
+
+        List<PaymentDTO> created = paymentService.addPayments(paymentDtos);
+        log.debug("Created payments: {}", created);
+        return new ResponseEntity<>(created, HttpStatus.CREATED);
+    }
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<PaymentDTO>> getAllPayments() {
-        log.info("Fetching all payments");
-        List<PaymentDTO> payments = paymentService.getAllPayments();
-        log.debug("Found {} payments", payments.size());
-        return ResponseEntity.ok(payments);
+    public ResponseEntity<List<PaymentDTO>> getAllPayments(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT) int limit,
+            ServletWebRequest request) {
+        log.info("Fetching payments page, cursor={}, limit={}", cursor, limit);
+        return ConditionalResponses.unlessNotModified(request, etag(userId), () -> {
+            CursorPage<PaymentDTO> payments = paymentService.getAllPayments(userId, cursor, limit);
+            log.debug("Found {} payments", payments.getItems().size());
+            return CursorPageResponses.ok(payments);
+        });
     }
 
     @PutMapping("/{id}")
@@ -73,6 +99,10 @@ public class PaymentController {
         return ResponseEntity.ok(deletedPayment);
     }
 
+    private String etag(Long userId) {
+        return resourceVersions.etag(userId, VersionedResource.PAYMENTS);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<String> handleNotFound(NotFoundException ex) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
@@ -2,7 +2,12 @@ package cloudflight.integra.backend.controller;
 
 import cloudflight.integra.backend.controller.problem.SavingApiErrorResponses;
 import cloudflight.integra.backend.dto.SavingDTO;
+import cloudflight.integra.backend.entity.VersionedResource;
+import cloudflight.integra.backend.security.CurrentUserId;
 import cloudflight.integra.backend.service.SavingService;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -16,9 +21,12 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/savings")
@@ -28,10 +36,12 @@ public class SavingController {
 
     private static final Logger log = LoggerFactory.getLogger(SavingController.class);
     private final SavingService savingService;
+    private final ResourceVersions resourceVersions;
 
     @Autowired
-    public SavingController(SavingService savingService) {
+    public SavingController(SavingService savingService, ResourceVersions resourceVersions) {
         this.savingService = savingService;
+        this.resourceVersions = resourceVersions;
     }
 
     @Operation(summary = "Get saving by ID", description = "Returns a single saving")
@@ -48,27 +58,63 @@ public class SavingController {
             })
     @GetMapping(value = "/{savingId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<?> getSavingById(
-            @Parameter(description = "ID of saving to return") @PathVariable Long savingId) {
+            @Parameter(description = "ID of saving to return") @PathVariable Long savingId,
+            @CurrentUserId Long userId,
+            ServletWebRequest request) {
         log.info("GET /savings/{} called, searching for saving with ID: {}", savingId, savingId);
 
-        SavingDTO savingDTO = savingService.getSavingById(savingId);
-        return ResponseEntity.ok(savingDTO);
+        return ConditionalResponses.resourceUnlessNotModified(
+                request, etag(userId), () -> savingService.getSavingById(savingId, userId));
     }
 
-    @Operation(summary = "Get all savings", description = "Returns all available savings")
+    @Operation(
+            summary = "Get all savings",
+            description = "Returns one page of the authenticated user's savings, newest first. The token for the"
+                    + " next page is returned in the X-Next-Cursor header.")
     @ApiResponse(
             responseCode = "200",
-            description = "All savings returned",
+            description = "Page of the user's savings returned",
             content =
                     @Content(
                             mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = SavingDTO.class))))
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<SavingDTO>> getAllSavings() {
+    public ResponseEntity<List<SavingDTO>> getAllSavings(
+            @CurrentUserId Long userId,
+            @Parameter(description = "Continuation token of the previous page") @RequestParam(required = false)
+                    String cursor,
+            @Parameter(description = "Maximum number of savings to return")
+                    @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT)
+                    int limit,
+            ServletWebRequest request) {
 
-        log.info("GET /savings called, returning all savings.");
-        List<SavingDTO> savingDTOS = savingService.getAllSavings();
-        return ResponseEntity.ok(savingDTOS);
+        log.info("GET /savings called, returning a page of the user's savings.");
+        return ConditionalResponses.unlessNotModified(
+                request,
+                etag(userId),
+                () -> CursorPageResponses.ok(savingService.getAllSavings(userId, cursor, limit)));
+    }
+
+    @Operation(
+            summary = "Export all savings",
+            description = "Streams all savings of the authenticated user, oldest first, as NDJSON or CSV")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Savings streamed as an attachment"),
+                @ApiResponse(responseCode = "400", description = "Unsupported export format")
+            })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSavings(
+            @CurrentUserId Long userId,
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("GET /savings/export called, exporting savings of user {} as {}", userId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"savings." + exportFormat.getExtension() + "\"")
+                .body(out -> savingService.exportSavings(userId, exportFormat, out));
     }
 
     @Operation(summary = "Add a new saving")
@@ -111,6 +157,26 @@ public class SavingController {
         return ResponseEntity.ok(created);
     }
 
+    @Operation(
+            summary = "Add several savings at once",
+            description = "Adds up to 1000 savings in one transaction; if any is invalid, none is added")
+    @ApiResponses(
+            value = {
+                @ApiResponse(responseCode = "200", description = "Savings added successfully"),
+                @ApiResponse(responseCode = "400", description = "Invalid input, reported per item index"),
+                @ApiResponse(responseCode = "404", description = "User not found")
+            })
+    @PostMapping("/batch")
+    public ResponseEntity<List<SavingDTO>> addSavings(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Savings to add", required = true)
+                    @RequestBody
+                    List<SavingDTO> savingDTOs) {
+        log.info("POST /savings/batch called, adding {} savings", savingDTOs.size());
+        List<SavingDTO> created = savingService.addSavings(savingDTOs);
+        log.info("{} savings added successfully", created.size());
+        return ResponseEntity.ok(created);
+    }
+
     @Operation(summary = "Update an existing saving by ID")
     @ApiResponses(
             value = {
@@ -155,4 +221,8 @@ public class SavingController {
         log.info("Saving deleted successfully with ID: {}", savingId);
         return ResponseEntity.noContent().build();
     }
+
+    private String etag(Long userId) {
+        return resourceVersions.etag(userId, VersionedResource.SAVINGS);
+    }
 }
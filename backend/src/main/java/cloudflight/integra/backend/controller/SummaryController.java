@@ -0,0 +1,52 @@
+package cloudflight.integra.backend.controller;
+
+import cloudflight.integra.backend.controller.problem.SummaryApiErrorResponses;
+import cloudflight.integra.backend.dto.SummaryDTO;
+import cloudflight.integra.backend.security.CurrentUserId;
+import cloudflight.integra.backend.service.SummaryService;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** REST controller exposing aggregated totals of the authenticated user's finances. */
+@RestController
+@SummaryApiErrorResponses
+@RequestMapping("/api/v1/summary")
+public class SummaryController {
+
+    private static final Logger log = LoggerFactory.getLogger(SummaryController.class);
+
+    private final SummaryService summaryService;
+
+    public SummaryController(SummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    /**
+     * Returns the totals of the authenticated user's expenses, incomes and savings, grouped by month
+     * and by category (expense category, income source, saving goal).
+     *
+     * @param userId the id of the authenticated user
+     * @param from the first day of the period, inclusive; defaults to the first day of the month eleven
+     *     months before {@code to}
+     * @param to the last day of the period, inclusive; defaults to today
+     * @return {@link ResponseEntity} containing the {@link SummaryDTO}
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SummaryDTO> getSummary(
+            @CurrentUserId Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusMonths(11).withDayOfMonth(1);
+        log.debug("Fetching summary from {} to {}", start, end);
+        return ResponseEntity.ok(summaryService.getSummary(userId, start, end));
+    }
+}
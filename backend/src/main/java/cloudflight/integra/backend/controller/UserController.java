@@ -1,18 +1,20 @@
 package cloudflight.integra.backend.controller;
 
 import cloudflight.integra.backend.controller.problem.UserApiErrorResponses;
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.UserDTO;
 import cloudflight.integra.backend.entity.User;
 import cloudflight.integra.backend.mapper.UserMapper;
 import cloudflight.integra.backend.service.ActivityService;
 import cloudflight.integra.backend.service.UserService;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
-import java.util.Collection;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -35,7 +37,10 @@ public class UserController {
         this.activityService = activityService;
     }
 
-    @Operation(summary = "Get all users", description = "Returns a list of all users")
+    @Operation(
+            summary = "Get all users",
+            description = "Returns one page of users ordered by id. The token for the next page is returned in the"
+                    + " X-Next-Cursor header.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -47,13 +52,17 @@ public class UserController {
                                         schema = @Schema(implementation = UserDTO.class)))
             })
     @GetMapping()
-    public ResponseEntity<Collection<UserDTO>> getAllUsers() {
-        logger.info("Received GET request for all users");
-
-        Collection<User> users = userService.getAllUsers();
-        Collection<UserDTO> userDTOs = UserMapper.toDtoList(users);
-        logger.info("Users retrieved: {}", userDTOs);
-        return ResponseEntity.ok(userDTOs);
+    public ResponseEntity<List<UserDTO>> getAllUsers(
+            @Parameter(description = "Continuation token of the previous page") @RequestParam(required = false)
+                    String cursor,
+            @Parameter(description = "Maximum number of users to return")
+                    @RequestParam(defaultValue = "" + KeysetCursor.DEFAULT_LIMIT)
+                    int limit) {
+        logger.info("Received GET request for users, cursor={}, limit={}", cursor, limit);
+
+        CursorPage<User> users = userService.getAllUsers(cursor, limit);
+        logger.info("Users retrieved: {}", users.getItems().size());
+        return CursorPageResponses.ok(users, UserMapper::toDto);
     }
 
     @Operation(summary = "Get user by ID", description = "Returns a single user by their ID")
@@ -147,6 +156,9 @@ public class UserController {
         existingUser.setEmail(userDto.getEmail());
 
         User updatedUser = userService.updateUser(existingUser);
+        if (passwordChanged) {
+            userService.revokeTokens(id);
+        }
 
         // Log activity
         if (passwordChanged) {
@@ -0,0 +1,45 @@
+package cloudflight.integra.backend.controller.problem;
+
+import cloudflight.integra.backend.exception.NotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+@ControllerAdvice(annotations = CalendarApiErrorResponses.class)
+public class CalendarRestExceptionHandler {
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Object> handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest req) {
+        return buildErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                "Validation Failed",
+                req,
+                List.of("'" + ex.getName() + "' must be a month in the format yyyy-MM"));
+    }
+
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<Object> handleNotFound(NotFoundException ex, HttpServletRequest req) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), req, List.of());
+    }
+
+    private ResponseEntity<Object> buildErrorResponse(
+            HttpStatus status, String message, HttpServletRequest req, List<?> errors) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", Instant.now().toString());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("path", req.getRequestURI());
+        body.put("message", message);
+        if (!errors.isEmpty()) {
+            body.put("details", errors);
+        }
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -2,6 +2,7 @@ package cloudflight.integra.backend.controller.problem;
 
 import cloudflight.integra.backend.entity.validation.ValidationException;
 import cloudflight.integra.backend.exception.NotFoundException;
+import cloudflight.integra.backend.security.PasswordHashingRejectedException;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -109,6 +111,27 @@ public class UserRestExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    /**
+     * Handles a full password hashing pool and returns a 503 Service Unavailable response asking the
+     * client to retry after a second.
+     */
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "503",
+                        description = "Too many password checks in progress",
+                        content =
+                                @Content(mediaType = "application/json", schema = @Schema(implementation = Map.class)))
+            })
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingRejected(PasswordHashingRejectedException ex) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ApiResponses(
             value = {
                 @ApiResponse(
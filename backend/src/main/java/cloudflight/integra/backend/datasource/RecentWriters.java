@@ -0,0 +1,51 @@
+package cloudflight.integra.backend.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+
+/**
+ * Users who committed a read-write transaction within the read-your-writes window. Their read-only
+ * transactions stay on the primary until the window has passed, so they never see a replica that has
+ * not yet replayed their own change.
+ */
+public class RecentWriters {
+
+    private final Cache<String, Boolean> writers;
+
+    /**
+     * @param window how long after a commit a user's reads stay on the primary; zero disables tracking
+     * @param maxSize the most users remembered at once, oldest evicted first
+     */
+    public RecentWriters(Duration window, long maxSize) {
+        this.writers = window.isZero()
+                ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(window)
+                        .maximumSize(maxSize)
+                        .build();
+    }
+
+    public boolean isEnabled() {
+        return writers != null;
+    }
+
+    /**
+     * Starts the window of the given user, or restarts it if it is still open.
+     *
+     * @param user the user's principal name
+     */
+    public void recordWrite(String user) {
+        if (writers != null) {
+            writers.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * @param user the user's principal name
+     * @return whether the user committed a write within the window
+     */
+    public boolean wroteRecently(String user) {
+        return writers != null && writers.getIfPresent(user) != null;
+    }
+}
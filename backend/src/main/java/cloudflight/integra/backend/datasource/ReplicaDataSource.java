@@ -0,0 +1,214 @@
+package cloudflight.integra.backend.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The read-only side of a {@link LazyConnectionDataSourceProxy}: the proxy decides on the
+ * transaction's read-only flag and hands read-only transactions ({@code @Transactional(readOnly =
+ * true)}) to this data source, which spreads them over the replicas, round robin. Reads stay on the
+ * primary when
+ * <ul>
+ *   <li>the current user committed a read-write transaction within the read-your-writes window, or
+ *   <li>no replica hands out a connection. A replica that fails is skipped for
+ *       {@code retryAfter} before it is tried again.
+ * </ul>
+ *
+ * <p>Use {@link #getWriteDataSource()} as the proxy's target, so that commits on the primary start
+ * the read-your-writes window of the current user.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements MeterBinder, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final DataSource primary;
+    private final DataSource writeDataSource;
+    private final List<Replica> replicas;
+    private final RecentWriters recentWriters;
+    private final Supplier<String> currentUser;
+    private final Duration retryAfter;
+    private final Clock clock;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong readYourWrites = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    /**
+     * @param primary the read-write data source
+     * @param replicas the read-only data sources, by name
+     * @param recentWriters the users whose reads stay on the primary
+     * @param currentUser the principal name of the current user, {@code null} when there is none
+     * @param retryAfter how long a failed replica is skipped
+     * @param clock the clock the retry time is measured with
+     */
+    public ReplicaDataSource(
+            DataSource primary,
+            List<Replica> replicas,
+            RecentWriters recentWriters,
+            Supplier<String> currentUser,
+            Duration retryAfter,
+            Clock clock) {
+        this.primary = primary;
+        this.writeDataSource = new WriteDataSource(primary);
+        this.replicas = List.copyOf(replicas);
+        this.recentWriters = recentWriters;
+        this.currentUser = currentUser;
+        this.retryAfter = retryAfter;
+        this.clock = clock;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String user = currentUser.get();
+        if (user != null && recentWriters.wroteRecently(user)) {
+            readYourWrites.incrementAndGet();
+            return primary.getConnection();
+        }
+        Connection connection = replicaConnection();
+        if (connection != null) {
+            replicaReads.incrementAndGet();
+            return connection;
+        }
+        fallbacks.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    /** The primary, remembering the current user when a transaction on it commits. */
+    public DataSource getWriteDataSource() {
+        return writeDataSource;
+    }
+
+    /** The replicas, in routing order. */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /** Publishes the routing decisions as {@code datasource.routing.connections}, tagged by route. */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "write", writes);
+        counter(registry, "replica", replicaReads);
+        counter(registry, "read-your-writes", readYourWrites);
+        counter(registry, "replica-unavailable", fallbacks);
+    }
+
+    /** Closes the replica pools; the primary belongs to whoever passed it in. */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void rememberWriter() {
+        if (!recentWriters.isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String user = currentUser.get();
+        if (user == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.recordWrite(user);
+            }
+        });
+    }
+
+    private Connection replicaConnection() {
+        if (replicas.isEmpty()) {
+            return null;
+        }
+        long now = clock.millis();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.downUntil.get() > now) {
+                continue;
+            }
+            try {
+                return replica.getDataSource().getConnection();
+            } catch (SQLException e) {
+                replica.downUntil.set(now + retryAfter.toMillis());
+                log.warn(
+                        "Replica {} is unavailable, retrying it in {}: {}",
+                        replica.getName(),
+                        retryAfter,
+                        e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private static void counter(MeterRegistry registry, String route, AtomicLong count) {
+        FunctionCounter.builder("datasource.routing.connections", count, AtomicLong::get)
+                .tag("route", route)
+                .register(registry);
+    }
+
+    /** The proxy only asks its target for read-write connections. */
+    private final class WriteDataSource extends DelegatingDataSource {
+
+        private WriteDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            writes.incrementAndGet();
+            rememberWriter();
+            return super.getConnection();
+        }
+    }
+
+    /** A read-only data source; {@code name} identifies it in logs. */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicLong downUntil = new AtomicLong();
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package cloudflight.integra.backend.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
+import org.springframework.boot.actuate.metrics.jdbc.DataSourcePoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.metadata.DataSourcePoolMetadataProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Replaces the auto-configured data source with a {@link LazyConnectionDataSourceProxy} once
+ * {@code datasource.replicas.urls} lists at least one replica: read-write transactions get the
+ * primary, read-only ones the {@link ReplicaDataSource}. The primary pool is built from
+ * {@code spring.datasource.*} as before; each replica gets a pool with the same
+ * {@code spring.datasource.hikari.*} settings, a short connection timeout and no startup check, so a
+ * replica that is down neither delays requests nor prevents startup.
+ *
+ * <p>The primary pool is a bean of its own, so Boot publishes its {@code hikaricp.*} and
+ * {@code jdbc.connections.*} meters and checks it under the {@code db} health component. The replica
+ * pools are registered the same way here: their meters are tagged with {@code replica-1},
+ * {@code replica-2}, and so on, and they are checked under the {@code replicas} health component.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.urls")
+public class ReplicaRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    /** The read-write pool, built from {@code spring.datasource.*} like the auto-configured one. */
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource primary = properties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties properties,
+            Environment environment,
+            @Value("${datasource.replicas.urls}") List<String> urls,
+            @Value("${datasource.replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replicas.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${datasource.replicas.retry-after:30s}") Duration retryAfter,
+            @Value("${datasource.replicas.read-your-writes-window:0s}") Duration readYourWritesWindow,
+            @Value("${datasource.replicas.read-your-writes-max-users:100000}") long readYourWritesMaxUsers) {
+        Binder binder = Binder.get(environment);
+        List<ReplicaDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = new HikariDataSource();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(url.trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(connectionTimeout.toMillis());
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaDataSource.Replica(replica.getPoolName() + " (" + url.trim() + ")", replica));
+        }
+        return new ReplicaDataSource(
+                primaryDataSource,
+                replicas,
+                new RecentWriters(readYourWritesWindow, readYourWritesMaxUsers),
+                ReplicaRoutingConfig::currentUser,
+                retryAfter,
+                Clock.systemUTC());
+    }
+
+    /**
+     * The data source everything else uses. It defers the connection to the first statement, when the
+     * transaction's read-only flag is known, and takes it from the replicas for read-only transactions.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(replicaDataSource.getWriteDataSource());
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    /**
+     * Publishes the {@code hikaricp.*} and {@code jdbc.connections.*} meters of the replica pools, which
+     * Boot only does for data source beans.
+     */
+    @Bean
+    public MeterBinder replicaPoolMetrics(
+            ReplicaDataSource replicaDataSource, ObjectProvider<DataSourcePoolMetadataProvider> metadataProviders) {
+        return registry -> {
+            for (HikariDataSource replica : replicaPools(replicaDataSource)) {
+                if (replica.getMetricsTrackerFactory() == null) {
+                    replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+                new DataSourcePoolMetrics(
+                                replica, metadataProviders.orderedStream().toList(), replica.getPoolName(), List.of())
+                        .bindTo(registry);
+            }
+        };
+    }
+
+    /** Checks every replica pool with its validation query, under the {@code replicas} health component. */
+    @Bean
+    public HealthContributor replicasHealthContributor(ReplicaDataSource replicaDataSource) {
+        Map<String, HealthIndicator> indicators = new LinkedHashMap<>();
+        for (HikariDataSource replica : replicaPools(replicaDataSource)) {
+            indicators.put(replica.getPoolName(), new DataSourceHealthIndicator(replica));
+        }
+        return CompositeHealthContributor.fromMap(indicators);
+    }
+
+    private static List<HikariDataSource> replicaPools(ReplicaDataSource replicaDataSource) {
+        return replicaDataSource.getReplicas().stream()
+                .map(replica -> (HikariDataSource) replica.getDataSource())
+                .toList();
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null
+                || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
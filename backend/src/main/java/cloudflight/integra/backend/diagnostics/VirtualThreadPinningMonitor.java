@@ -0,0 +1,139 @@
+package cloudflight.integra.backend.diagnostics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, from the JFR event
+ * {@code jdk.VirtualThreadPinned}. A pinned virtual thread holds one of the few carrier threads for as
+ * long as it blocks, so a pinning request path caps throughput at the carrier count however many
+ * requests are in flight.
+ *
+ * <p>Only active with {@code spring.threads.virtual.enabled=true}. Events longer than
+ * {@code threads.pinning-monitor.threshold} are counted as {@code jvm.threads.virtual.pinned}; the
+ * first event at each of our own frames is logged with its stack, events inside libraries only at
+ * debug level.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "threads.pinning-monitor.enabled", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String APPLICATION_PACKAGE = "cloudflight.integra.backend.";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final Duration threshold;
+    private final AtomicLong applicationPinned = new AtomicLong();
+    private final AtomicLong libraryPinned = new AtomicLong();
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.pinning-monitor.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public long getApplicationPinnedCount() {
+        return applicationPinned.get();
+    }
+
+    public long getLibraryPinnedCount() {
+        return libraryPinned.get();
+    }
+
+    /** Publishes the counts above as {@code jvm.threads.virtual.pinned}, tagged by where the thread pinned. */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jvm.threads.virtual.pinned", applicationPinned, AtomicLong::get)
+                .tag("source", "application")
+                .register(registry);
+        FunctionCounter.builder("jvm.threads.virtual.pinned", libraryPinned, AtomicLong::get)
+                .tag("source", "library")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("Virtual threads enabled; reporting carrier pinning longer than {}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream == null) {
+            return;
+        }
+        stream.close();
+        stream = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void report(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        RecordedFrame applicationFrame = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse(null);
+        if (applicationFrame == null) {
+            libraryPinned.incrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Virtual thread pinned for {} in a library:{}", event.getDuration(), describe(frames));
+            }
+            return;
+        }
+        applicationPinned.incrementAndGet();
+        if (reportedFrames.add(describe(applicationFrame))) {
+            log.warn(
+                    "Virtual thread pinned its carrier for {} at {}; later pinning there is only counted:{}",
+                    event.getDuration(),
+                    describe(applicationFrame),
+                    describe(frames));
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String describe(List<RecordedFrame> frames) {
+        StringBuilder text = new StringBuilder();
+        frames.stream().limit(LOGGED_FRAMES).forEach(frame -> text.append("\n\tat ")
+                .append(describe(frame)));
+        return text.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package cloudflight.integra.backend.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/** The days of one month on which a user's expenses or incomes occur, oldest day first. */
+public class CalendarDTO {
+    private YearMonth month;
+    private List<CalendarDayDTO> days;
+
+    public CalendarDTO() {}
+
+    public CalendarDTO(YearMonth month, List<CalendarDayDTO> days) {
+        this.month = month;
+        this.days = days;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public void setMonth(YearMonth month) {
+        this.month = month;
+    }
+
+    public List<CalendarDayDTO> getDays() {
+        return days;
+    }
+
+    public void setDays(List<CalendarDayDTO> days) {
+        this.days = days;
+    }
+}
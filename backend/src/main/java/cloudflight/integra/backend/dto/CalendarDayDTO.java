@@ -0,0 +1,54 @@
+package cloudflight.integra.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** Totals of the expense and income occurrences falling on one day. */
+public class CalendarDayDTO {
+    private LocalDate date;
+    private BigDecimal expenses;
+    private BigDecimal incomes;
+    private long count;
+
+    public CalendarDayDTO() {}
+
+    /** Used by JPQL constructor expressions grouping occurrences by date. */
+    public CalendarDayDTO(LocalDate date, BigDecimal expenses, BigDecimal incomes, Long count) {
+        this.date = date;
+        this.expenses = expenses;
+        this.incomes = incomes;
+        this.count = count;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public BigDecimal getExpenses() {
+        return expenses;
+    }
+
+    public void setExpenses(BigDecimal expenses) {
+        this.expenses = expenses;
+    }
+
+    public BigDecimal getIncomes() {
+        return incomes;
+    }
+
+    public void setIncomes(BigDecimal incomes) {
+        this.incomes = incomes;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
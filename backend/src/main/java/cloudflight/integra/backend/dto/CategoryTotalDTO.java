@@ -0,0 +1,43 @@
+package cloudflight.integra.backend.dto;
+
+import java.math.BigDecimal;
+
+/** Sum and number of entries of one category (expense category, income source or saving goal). */
+public class CategoryTotalDTO {
+    private String category;
+    private BigDecimal total;
+    private long count;
+
+    public CategoryTotalDTO() {}
+
+    /** Used by JPQL constructor expressions. */
+    public CategoryTotalDTO(String category, BigDecimal total, Long count) {
+        this.category = category;
+        this.total = total;
+        this.count = count;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
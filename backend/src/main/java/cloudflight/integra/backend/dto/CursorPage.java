@@ -0,0 +1,35 @@
+package cloudflight.integra.backend.dto;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated collection. The items are already ordered; {@code nextCursor} is an
+ * opaque continuation token pointing right after the last item, or {@code null} on the last page.
+ *
+ * @param <T> the type of the items
+ */
+public class CursorPage<T> {
+
+    /** Response header carrying {@link #getNextCursor()} for list endpoints that return a plain array. */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
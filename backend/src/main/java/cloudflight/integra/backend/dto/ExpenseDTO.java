@@ -1,5 +1,6 @@
 package cloudflight.integra.backend.dto;
 
+import cloudflight.integra.backend.entity.Expense;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
@@ -79,6 +80,34 @@ public class ExpenseDTO {
         this.paymentMethod = paymentMethod;
     }
 
+    /**
+     * Constructs an {@code ExpenseDTO} from the columns of an {@link Expense}; used by the JPQL
+     * constructor expressions of the expense repository.
+     */
+    public ExpenseDTO(
+            Long id,
+            Long userId,
+            BigDecimal amount,
+            String category,
+            LocalDate date,
+            String description,
+            Expense.Frequency frequency,
+            LocalDate endDate,
+            LocalDate nextDueDate,
+            Expense.PaymentMethod paymentMethod) {
+        this(
+                id,
+                userId,
+                amount,
+                category,
+                date,
+                description,
+                Frequency.valueOf(frequency.name()),
+                endDate,
+                nextDueDate,
+                PaymentMethod.valueOf(paymentMethod.name()));
+    }
+
     public ExpenseDTO() {}
 
     public Long getId() {
@@ -0,0 +1,47 @@
+package cloudflight.integra.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A user's balance projected month by month from the expenses and incomes still to occur. The first
+ * month only counts the days after {@code asOf}.
+ */
+public class ForecastDTO {
+    private LocalDate asOf;
+    private BigDecimal openingBalance;
+    private List<ForecastMonthDTO> months;
+
+    public ForecastDTO() {}
+
+    public ForecastDTO(LocalDate asOf, BigDecimal openingBalance, List<ForecastMonthDTO> months) {
+        this.asOf = asOf;
+        this.openingBalance = openingBalance;
+        this.months = months;
+    }
+
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDate asOf) {
+        this.asOf = asOf;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public void setOpeningBalance(BigDecimal openingBalance) {
+        this.openingBalance = openingBalance;
+    }
+
+    public List<ForecastMonthDTO> getMonths() {
+        return months;
+    }
+
+    public void setMonths(List<ForecastMonthDTO> months) {
+        this.months = months;
+    }
+}
@@ -0,0 +1,53 @@
+package cloudflight.integra.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/** The projected incomes, expenses and closing balance of one month of a forecast. */
+public class ForecastMonthDTO {
+    private YearMonth month;
+    private BigDecimal incomes;
+    private BigDecimal expenses;
+    private BigDecimal balance;
+
+    public ForecastMonthDTO() {}
+
+    public ForecastMonthDTO(YearMonth month, BigDecimal incomes, BigDecimal expenses, BigDecimal balance) {
+        this.month = month;
+        this.incomes = incomes;
+        this.expenses = expenses;
+        this.balance = balance;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public void setMonth(YearMonth month) {
+        this.month = month;
+    }
+
+    public BigDecimal getIncomes() {
+        return incomes;
+    }
+
+    public void setIncomes(BigDecimal incomes) {
+        this.incomes = incomes;
+    }
+
+    public BigDecimal getExpenses() {
+        return expenses;
+    }
+
+    public void setExpenses(BigDecimal expenses) {
+        this.expenses = expenses;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public void setBalance(BigDecimal balance) {
+        this.balance = balance;
+    }
+}
@@ -0,0 +1,46 @@
+package cloudflight.integra.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code rejected} counts every record that was not stored, while
+ * {@code errors} lists the reasons for at most the first {@code import.max-reported-errors} of them.
+ */
+public class ImportResultDTO {
+    private long imported;
+    private long rejected;
+    private List<ImportRowErrorDTO> errors = new ArrayList<>();
+
+    public ImportResultDTO() {}
+
+    public ImportResultDTO(long imported, long rejected, List<ImportRowErrorDTO> errors) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = errors;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<ImportRowErrorDTO> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportRowErrorDTO> errors) {
+        this.errors = errors;
+    }
+}
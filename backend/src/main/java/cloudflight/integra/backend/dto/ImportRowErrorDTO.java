@@ -0,0 +1,32 @@
+package cloudflight.integra.backend.dto;
+
+import java.util.List;
+
+/** The reasons why one record of an import was rejected. */
+public class ImportRowErrorDTO {
+    private long line;
+    private List<String> messages;
+
+    public ImportRowErrorDTO() {}
+
+    public ImportRowErrorDTO(long line, List<String> messages) {
+        this.line = line;
+        this.messages = messages;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    public void setMessages(List<String> messages) {
+        this.messages = messages;
+    }
+}
@@ -15,6 +15,27 @@ public class IncomeDTO {
     private Frequency frequency;
     private Date endDate;
 
+    public IncomeDTO() {}
+
+    public IncomeDTO(
+            Long id,
+            Long userId,
+            BigDecimal amount,
+            String source,
+            Date date,
+            String description,
+            Frequency frequency,
+            Date endDate) {
+        this.id = id;
+        this.userId = userId;
+        this.amount = amount;
+        this.source = source;
+        this.date = date;
+        this.description = description;
+        this.frequency = frequency;
+        this.endDate = endDate;
+    }
+
     public Long getId() {
         return id;
     }
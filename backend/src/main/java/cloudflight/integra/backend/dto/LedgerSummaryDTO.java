@@ -0,0 +1,54 @@
+package cloudflight.integra.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/** Totals of one ledger (expenses, incomes or savings) over a period. */
+public class LedgerSummaryDTO {
+    private BigDecimal total;
+    private long count;
+    private List<MonthlyTotalDTO> byMonth;
+    private List<CategoryTotalDTO> byCategory;
+
+    public LedgerSummaryDTO() {}
+
+    public LedgerSummaryDTO(
+            BigDecimal total, long count, List<MonthlyTotalDTO> byMonth, List<CategoryTotalDTO> byCategory) {
+        this.total = total;
+        this.count = count;
+        this.byMonth = byMonth;
+        this.byCategory = byCategory;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public List<MonthlyTotalDTO> getByMonth() {
+        return byMonth;
+    }
+
+    public void setByMonth(List<MonthlyTotalDTO> byMonth) {
+        this.byMonth = byMonth;
+    }
+
+    public List<CategoryTotalDTO> getByCategory() {
+        return byCategory;
+    }
+
+    public void setByCategory(List<CategoryTotalDTO> byCategory) {
+        this.byCategory = byCategory;
+    }
+}
@@ -0,0 +1,44 @@
+package cloudflight.integra.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/** Sum and number of entries of one calendar month. */
+public class MonthlyTotalDTO {
+    private YearMonth month;
+    private BigDecimal total;
+    private long count;
+
+    public MonthlyTotalDTO() {}
+
+    /** Used by JPQL constructor expressions grouping by {@code year(date), month(date)}. */
+    public MonthlyTotalDTO(Integer year, Integer month, BigDecimal total, Long count) {
+        this.month = YearMonth.of(year, month);
+        this.total = total;
+        this.count = count;
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public void setMonth(YearMonth month) {
+        this.month = month;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+}
@@ -13,6 +13,15 @@ public class SavingDTO {
 
     public SavingDTO() {}
 
+    public SavingDTO(Long id, Long userId, BigDecimal amount, Date date, String goal, String description) {
+        this.id = id;
+        this.userId = userId;
+        this.amount = amount;
+        this.date = date;
+        this.goal = goal;
+        this.description = description;
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,67 @@
+package cloudflight.integra.backend.dto;
+
+import java.time.LocalDate;
+
+/** Financial summary of a user over the inclusive period {@code [from, to]}. */
+public class SummaryDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private LedgerSummaryDTO expenses;
+    private LedgerSummaryDTO incomes;
+    private LedgerSummaryDTO savings;
+
+    public SummaryDTO() {}
+
+    public SummaryDTO(
+            LocalDate from,
+            LocalDate to,
+            LedgerSummaryDTO expenses,
+            LedgerSummaryDTO incomes,
+            LedgerSummaryDTO savings) {
+        this.from = from;
+        this.to = to;
+        this.expenses = expenses;
+        this.incomes = incomes;
+        this.savings = savings;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public LedgerSummaryDTO getExpenses() {
+        return expenses;
+    }
+
+    public void setExpenses(LedgerSummaryDTO expenses) {
+        this.expenses = expenses;
+    }
+
+    public LedgerSummaryDTO getIncomes() {
+        return incomes;
+    }
+
+    public void setIncomes(LedgerSummaryDTO incomes) {
+        this.incomes = incomes;
+    }
+
+    public LedgerSummaryDTO getSavings() {
+        return savings;
+    }
+
+    public void setSavings(LedgerSummaryDTO savings) {
+        this.savings = savings;
+    }
+}
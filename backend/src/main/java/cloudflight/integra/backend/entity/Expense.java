@@ -5,11 +5,20 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "Expense")
+@Table(
+        name = "Expense",
+        indexes = {
+            @Index(name = "idx_expense_user_date", columnList = "user_id, date, id"),
+            @Index(name = "idx_expense_next_due_date", columnList = "next_due_date, id")
+        })
 public class Expense {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.EXPENSE)
+    @SequenceGenerator(
+            name = IdSequences.EXPENSE,
+            sequenceName = IdSequences.EXPENSE,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
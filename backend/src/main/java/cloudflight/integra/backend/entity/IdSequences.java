@@ -0,0 +1,21 @@
+package cloudflight.integra.backend.entity;
+
+/**
+ * Database sequences that hand out entity ids. Each call to a sequence reserves a block of
+ * {@link #ALLOCATION_SIZE} ids ({@code value - ALLOCATION_SIZE + 1} up to {@code value}), so Hibernate
+ * can assign ids without a round trip per row and batch the inserts. The sequences' increment must be
+ * equal to {@link #ALLOCATION_SIZE}.
+ */
+public final class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String USERS = "users_seq";
+    public static final String INCOMES = "incomes_seq";
+    public static final String EXPENSE = "expense_seq";
+    public static final String PAYMENT = "payment_seq";
+    public static final String SAVINGS = "savings_seq";
+    public static final String USER_ACTIVITIES = "user_activities_seq";
+
+    private IdSequences() {}
+}
@@ -6,10 +6,14 @@ import java.util.Date;
 import java.util.Objects;
 
 @Entity
-@Table(name = "Incomes")
+@Table(name = "Incomes", indexes = @Index(name = "idx_incomes_user_date", columnList = "user_id, date, id"))
 public class Income {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.INCOMES)
+    @SequenceGenerator(
+            name = IdSequences.INCOMES,
+            sequenceName = IdSequences.INCOMES,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,8 @@
+package cloudflight.integra.backend.entity;
+
+/** The ledgers a monthly rollup row can belong to. */
+public enum LedgerKind {
+    EXPENSE,
+    INCOME,
+    SAVING
+}
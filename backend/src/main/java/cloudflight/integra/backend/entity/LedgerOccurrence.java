@@ -0,0 +1,90 @@
+package cloudflight.integra.backend.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * One dated instance of an expense or income. A one-time entry has a single occurrence on its date; a
+ * recurring entry has one per period from its date until its end date, materialized up to a rolling
+ * horizon. Rows are regenerated whenever their entry changes and can be recomputed from the ledgers.
+ */
+@Entity
+@Table(
+        name = "ledger_occurrence",
+        indexes = @Index(name = "idx_ledger_occurrence_user_date", columnList = "user_id, occurrence_date"))
+@IdClass(LedgerOccurrence.Key.class)
+public class LedgerOccurrence {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 16)
+    private LedgerKind kind;
+
+    /** The id of the expense or income this is an occurrence of. */
+    @Id
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Id
+    @Column(name = "occurrence_date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+
+    public LedgerOccurrence() {}
+
+    public LedgerKind getKind() {
+        return kind;
+    }
+
+    public Long getSourceId() {
+        return sourceId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private LedgerKind kind;
+        private Long sourceId;
+        private LocalDate date;
+
+        public Key() {}
+
+        public Key(LedgerKind kind, Long sourceId, LocalDate date) {
+            this.kind = kind;
+            this.sourceId = sourceId;
+            this.date = date;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return kind == key.kind && Objects.equals(sourceId, key.sourceId) && Objects.equals(date, key.date);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, sourceId, date);
+        }
+    }
+}
@@ -10,7 +10,11 @@ import org.hibernate.annotations.OnDeleteAction;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.PAYMENT)
+    @SequenceGenerator(
+            name = IdSequences.PAYMENT,
+            sequenceName = IdSequences.PAYMENT,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @OneToOne(optional = false)
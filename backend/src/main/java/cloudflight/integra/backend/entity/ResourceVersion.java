@@ -0,0 +1,68 @@
+package cloudflight.integra.backend.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Change counter of one user's collection. Every service method that creates, updates or deletes an
+ * entry of the collection increments it in the same transaction, so the version changes exactly when
+ * the collection's content may have changed. Missing rows count as version {@code 0}.
+ */
+@Entity
+@Table(name = "resource_versions")
+@IdClass(ResourceVersion.Key.class)
+public class ResourceVersion {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource", nullable = false, length = 16)
+    private VersionedResource resource;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public ResourceVersion() {}
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public VersionedResource getResource() {
+        return resource;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long userId;
+        private VersionedResource resource;
+
+        public Key() {}
+
+        public Key(Long userId, VersionedResource resource) {
+            this.userId = userId;
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId) && resource == key.resource;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, resource);
+        }
+    }
+}
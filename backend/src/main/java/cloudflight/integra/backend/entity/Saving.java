@@ -6,10 +6,14 @@ import java.util.Date;
 import java.util.Objects;
 
 @Entity
-@Table(name = "Savings")
+@Table(name = "Savings", indexes = @Index(name = "idx_savings_user_date", columnList = "user_id, date, id"))
 public class Saving {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.SAVINGS)
+    @SequenceGenerator(
+            name = IdSequences.SAVINGS,
+            sequenceName = IdSequences.SAVINGS,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
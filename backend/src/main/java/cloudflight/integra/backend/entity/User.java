@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 public class User {
 
     @Id()
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.USERS)
+    @SequenceGenerator(
+            name = IdSequences.USERS,
+            sequenceName = IdSequences.USERS,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(name = "name")
@@ -24,9 +28,17 @@ public class User {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    @Column(name = "balance")
+    /** Maintained in place by {@code BalanceWriter}; saving the entity never overwrites it. */
+    @Column(name = "balance", updatable = false)
     private BigDecimal balance;
 
+    /**
+     * Issued into every token; incrementing it revokes the tokens issued before. Maintained in place by
+     * {@code UserService.revokeTokens}; saving the entity never overwrites it.
+     */
+    @Column(name = "token_version", nullable = false, updatable = false)
+    private int tokenVersion;
+
     // Constructor
     public User(Long id, String name, String email, String password) {
         this.id = id;
@@ -97,6 +109,14 @@ public class User {
         this.balance = balance;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     @Override
     public String toString() {
         return "User{"
@@ -4,10 +4,16 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_activities")
+@Table(
+        name = "user_activities",
+        indexes = @Index(name = "idx_user_activities_user_created", columnList = "user_id, created_at DESC"))
 public class UserActivity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.USER_ACTIVITIES)
+    @SequenceGenerator(
+            name = IdSequences.USER_ACTIVITIES,
+            sequenceName = IdSequences.USER_ACTIVITIES,
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
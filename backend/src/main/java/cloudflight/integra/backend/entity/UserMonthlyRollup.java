@@ -0,0 +1,108 @@
+package cloudflight.integra.backend.entity;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Running total of one user's entries of one ledger, month and category (expense category, income
+ * source or saving goal). Rows are kept up to date by the services on every write and can be rebuilt
+ * from the ledgers at any time.
+ */
+@Entity
+@Table(name = "user_monthly_rollup")
+@IdClass(UserMonthlyRollup.Key.class)
+public class UserMonthlyRollup {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "kind", nullable = false, length = 16)
+    private LedgerKind kind;
+
+    /** Year and month encoded as {@code yyyyMM}, e.g. {@code 202501}. */
+    @Id
+    @Column(name = "year_month", nullable = false)
+    private Integer yearMonth;
+
+    @Id
+    @Column(name = "category", nullable = false)
+    private String category;
+
+    @Column(name = "total", nullable = false)
+    private BigDecimal total;
+
+    @Column(name = "entry_count", nullable = false)
+    private Long entryCount;
+
+    public UserMonthlyRollup() {}
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public LedgerKind getKind() {
+        return kind;
+    }
+
+    public Integer getYearMonth() {
+        return yearMonth;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public Long getEntryCount() {
+        return entryCount;
+    }
+
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long userId;
+        private LedgerKind kind;
+        private Integer yearMonth;
+        private String category;
+
+        public Key() {}
+
+        public Key(Long userId, LedgerKind kind, Integer yearMonth, String category) {
+            this.userId = userId;
+            this.kind = kind;
+            this.yearMonth = yearMonth;
+            this.category = category;
+        }
+
+        public Integer getYearMonth() {
+            return yearMonth;
+        }
+
+        public String getCategory() {
+            return category;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(userId, key.userId)
+                    && kind == key.kind
+                    && Objects.equals(yearMonth, key.yearMonth)
+                    && Objects.equals(category, key.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, kind, yearMonth, category);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package cloudflight.integra.backend.entity;
+
+/** The per-user collections whose changes are counted in {@link ResourceVersion}. */
+public enum VersionedResource {
+    EXPENSES,
+    INCOMES,
+    SAVINGS,
+    PAYMENTS
+}
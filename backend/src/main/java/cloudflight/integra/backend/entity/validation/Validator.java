@@ -1,5 +1,41 @@
 package cloudflight.integra.backend.entity.validation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface Validator<T> {
+
+    /** The largest number of entities {@link #validateAll} accepts at once. */
+    int MAX_BATCH_SIZE = 1000;
+
     void validate(T entity) throws ValidationException;
+
+    /**
+     * Validates every entity of a batch and reports the problems of all of them together, each message
+     * prefixed with the entity's position in the batch.
+     *
+     * @param entities the entities to validate
+     * @throws ValidationException if the batch is empty or too large, or any entity is invalid
+     */
+    default void validateAll(List<? extends T> entities) throws ValidationException {
+        if (entities.isEmpty()) {
+            throw new ValidationException("At least one item is required.");
+        }
+        if (entities.size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("At most " + MAX_BATCH_SIZE + " items can be created at once.");
+        }
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            try {
+                validate(entities.get(i));
+            } catch (ValidationException e) {
+                for (String error : e.getErrors()) {
+                    errors.add("[" + i + "] " + error);
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
 }
@@ -1,13 +1,30 @@
 package cloudflight.integra.backend.repository;
 
+import cloudflight.integra.backend.dto.CategoryTotalDTO;
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.MonthlyTotalDTO;
 import cloudflight.integra.backend.entity.Expense;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
 
+    /** Selects expenses straight into {@link ExpenseDTO}s; the rows never become managed entities. */
+    String SELECT_DTO = "SELECT new cloudflight.integra.backend.dto.ExpenseDTO(e.id, e.userId, e.amount, e.category,"
+            + " e.date, e.description, e.frequency, e.endDate, e.nextDueDate, e.paymentMethod) FROM Expense e";
+
     /**
      * Finds all expenses belonging to a specific user.
      *
@@ -15,4 +32,107 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
      * @return a list of Expense objects associated with the given user ID
      */
     List<Expense> findAllByUserId(Long userId);
+
+    /**
+     * Finds the owners of the given expenses.
+     *
+     * @param ids the IDs of the expenses
+     * @return the distinct IDs of the users owning them
+     */
+    @Query("SELECT DISTINCT e.userId FROM Expense e WHERE e.id IN :ids")
+    List<Long> findUserIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Finds an expense of a user projected into a DTO, without loading its payment.
+     *
+     * @param id the ID of the expense
+     * @param userId the ID of the user owning the expense
+     * @return the expense, or empty if the user has no expense with that ID
+     */
+    @Query(SELECT_DTO + " WHERE e.id = :id AND e.userId = :userId")
+    Optional<ExpenseDTO> findDTOByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Returns the newest expenses of a user, ordered by {@code (date, id)} descending, projected into
+     * DTOs.
+     *
+     * @param userId the ID of the user whose expenses should be retrieved
+     * @param limit the maximum number of rows to return
+     * @return the first page of the user's expenses
+     */
+    @Query(SELECT_DTO + " WHERE e.userId = :userId ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseDTO> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Returns the expenses of a user that come strictly after the given keyset position in {@code
+     * (date, id)} descending order. Seeks directly to the position instead of skipping rows.
+     *
+     * @param userId the ID of the user whose expenses should be retrieved
+     * @param date the date of the last expense of the previous page
+     * @param id the ID of the last expense of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next page of the user's expenses
+     */
+    @Query(SELECT_DTO + " WHERE e.userId = :userId AND (e.date, e.id) < (:date, :id)"
+            + " ORDER BY e.date DESC, e.id DESC")
+    List<ExpenseDTO> findPageByUserIdAfter(
+            @Param("userId") Long userId, @Param("date") LocalDate date, @Param("id") Long id, Limit limit);
+
+    /**
+     * Streams all expenses of a user in {@code (date, id)} order, projected into DTOs. Rows are fetched
+     * from the database in batches of 500 rather than materialised as a list; the stream must be
+     * consumed inside a transaction and closed afterwards.
+     *
+     * @param userId the ID of the user whose expenses should be streamed
+     * @return a stream over the user's expenses
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_DTO + " WHERE e.userId = :userId ORDER BY e.date, e.id")
+    Stream<ExpenseDTO> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Returns the expenses of a user that can still occur after a day: those dated after it and the
+     * recurring ones that have not ended by then. Projected into DTOs.
+     *
+     * @param userId the ID of the user
+     * @param day the last day already past
+     * @return the expenses a forecast starting after {@code day} has to expand
+     */
+    @Query(SELECT_DTO + " WHERE e.userId = :userId AND (e.date > :day"
+            + " OR (e.frequency <> cloudflight.integra.backend.entity.Expense.Frequency.ONE_TIME"
+            + " AND (e.endDate IS NULL OR e.endDate > :day)))")
+    List<ExpenseDTO> findOccurringAfter(@Param("userId") Long userId, @Param("day") LocalDate day);
+
+    /**
+     * Sums the expenses of a user per category within {@code [from, to)}, largest total first. Runs as a
+     * single {@code GROUP BY} query and projects straight into DTOs, without loading entities.
+     *
+     * @param userId the ID of the user whose expenses should be summed
+     * @param from the start of the period, inclusive
+     * @param to the end of the period, exclusive
+     * @return one total per category
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.CategoryTotalDTO(e.category, SUM(e.amount), COUNT(e))"
+            + " FROM Expense e WHERE e.userId = :userId AND e.date >= :from AND e.date < :to"
+            + " GROUP BY e.category ORDER BY SUM(e.amount) DESC")
+    List<CategoryTotalDTO> sumByCategory(
+            @Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Sums the expenses of a user per calendar month within {@code [from, to)}, oldest month first.
+     *
+     * @param userId the ID of the user whose expenses should be summed
+     * @param from the start of the period, inclusive
+     * @param to the end of the period, exclusive
+     * @return one total per month that has expenses
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.MonthlyTotalDTO(YEAR(e.date), MONTH(e.date),"
+            + " SUM(e.amount), COUNT(e))"
+            + " FROM Expense e WHERE e.userId = :userId AND e.date >= :from AND e.date < :to"
+            + " GROUP BY YEAR(e.date), MONTH(e.date) ORDER BY YEAR(e.date), MONTH(e.date)")
+    List<MonthlyTotalDTO> sumByMonth(
+            @Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
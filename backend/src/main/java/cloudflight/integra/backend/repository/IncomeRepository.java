@@ -1,9 +1,120 @@
 package cloudflight.integra.backend.repository;
 
+import cloudflight.integra.backend.dto.CategoryTotalDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.dto.MonthlyTotalDTO;
 import cloudflight.integra.backend.entity.Income;
+import jakarta.persistence.QueryHint;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /** Repository interface provides CRUD operations for Income entity. */
 @Repository
-public interface IncomeRepository extends JpaRepository<Income, Long> {}
+public interface IncomeRepository extends JpaRepository<Income, Long> {
+
+    /** Selects incomes straight into {@link IncomeDTO}s; the rows never become managed entities. */
+    String SELECT_DTO =
+            "SELECT new cloudflight.integra.backend.dto.IncomeDTO(i.id, i.userId, i.amount, i.source, i.date,"
+                    + " i.description, i.frequency, i.endDate) FROM Income i";
+
+    /**
+     * Finds an income of a user projected into a DTO.
+     *
+     * @param id the ID of the income
+     * @param userId the ID of the user owning the income
+     * @return the income, or empty if the user has no income with that ID
+     */
+    @Query(SELECT_DTO + " WHERE i.id = :id AND i.userId = :userId")
+    Optional<IncomeDTO> findDTOByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Returns the newest incomes of a user, ordered by {@code (date, id)} descending, projected into
+     * DTOs.
+     *
+     * @param userId the ID of the user whose incomes should be retrieved
+     * @param limit the maximum number of rows to return
+     * @return the first page of the user's incomes
+     */
+    @Query(SELECT_DTO + " WHERE i.userId = :userId ORDER BY i.date DESC, i.id DESC")
+    List<IncomeDTO> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Returns the incomes of a user that come strictly after the given keyset position in {@code
+     * (date, id)} descending order.
+     *
+     * @param userId the ID of the user whose incomes should be retrieved
+     * @param date the date of the last income of the previous page
+     * @param id the ID of the last income of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next page of the user's incomes
+     */
+    @Query(SELECT_DTO + " WHERE i.userId = :userId AND (i.date, i.id) < (:date, :id)"
+            + " ORDER BY i.date DESC, i.id DESC")
+    List<IncomeDTO> findPageByUserIdAfter(
+            @Param("userId") Long userId, @Param("date") Date date, @Param("id") Long id, Limit limit);
+
+    /**
+     * Streams all incomes of a user in {@code (date, id)} order, projected into DTOs. Rows are fetched
+     * from the database in batches of 500 rather than materialised as a list; the stream must be
+     * consumed inside a transaction and closed afterwards.
+     *
+     * @param userId the ID of the user whose incomes should be streamed
+     * @return a stream over the user's incomes
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_DTO + " WHERE i.userId = :userId ORDER BY i.date, i.id")
+    Stream<IncomeDTO> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Returns the incomes of a user that can still occur after a day: those dated after it and the
+     * recurring ones that have not ended by then. Projected into DTOs.
+     *
+     * @param userId the ID of the user
+     * @param day the last day already past
+     * @return the incomes a forecast starting after {@code day} has to expand
+     */
+    @Query(SELECT_DTO + " WHERE i.userId = :userId AND (i.date > :day"
+            + " OR (i.frequency <> cloudflight.integra.backend.entity.Frequency.ONE_TIME"
+            + " AND (i.endDate IS NULL OR i.endDate > :day)))")
+    List<IncomeDTO> findOccurringAfter(@Param("userId") Long userId, @Param("day") Date day);
+
+    /**
+     * Sums the incomes of a user per source within {@code [from, to)}, largest total first. Runs as a
+     * single {@code GROUP BY} query and projects straight into DTOs, without loading entities.
+     *
+     * @param userId the ID of the user whose incomes should be summed
+     * @param from the start of the period, inclusive
+     * @param to the end of the period, exclusive
+     * @return one total per source
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.CategoryTotalDTO(i.source, SUM(i.amount), COUNT(i))"
+            + " FROM Income i WHERE i.userId = :userId AND i.date >= :from AND i.date < :to"
+            + " GROUP BY i.source ORDER BY SUM(i.amount) DESC")
+    List<CategoryTotalDTO> sumByCategory(@Param("userId") Long userId, @Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * Sums the incomes of a user per calendar month within {@code [from, to)}, oldest month first.
+     *
+     * @param userId the ID of the user whose incomes should be summed
+     * @param from the start of the period, inclusive
+     * @param to the end of the period, exclusive
+     * @return one total per month that has incomes
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.MonthlyTotalDTO(YEAR(i.date), MONTH(i.date),"
+            + " SUM(i.amount), COUNT(i))"
+            + " FROM Income i WHERE i.userId = :userId AND i.date >= :from AND i.date < :to"
+            + " GROUP BY YEAR(i.date), MONTH(i.date) ORDER BY YEAR(i.date), MONTH(i.date)")
+    List<MonthlyTotalDTO> sumByMonth(@Param("userId") Long userId, @Param("from") Date from, @Param("to") Date to);
+}
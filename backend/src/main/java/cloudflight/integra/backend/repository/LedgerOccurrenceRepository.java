@@ -0,0 +1,65 @@
+package cloudflight.integra.backend.repository;
+
+import cloudflight.integra.backend.dto.CalendarDayDTO;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.LedgerOccurrence;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Repository for {@link LedgerOccurrence} rows. Rows are inserted in JDBC batches by the writer. */
+@Repository
+public interface LedgerOccurrenceRepository extends JpaRepository<LedgerOccurrence, LedgerOccurrence.Key> {
+
+    /** Deletes all occurrences of the given expenses or incomes. */
+    @Modifying
+    @Query("DELETE FROM LedgerOccurrence o WHERE o.kind = :kind AND o.sourceId IN :sourceIds")
+    void deleteBySources(@Param("kind") LedgerKind kind, @Param("sourceIds") Collection<Long> sourceIds);
+
+    /**
+     * Finds the latest materialized occurrence of each of the given expenses or incomes. Each lookup
+     * seeks the primary key to its source's last row.
+     *
+     * @return one occurrence per source that has any
+     */
+    @Query("SELECT o FROM LedgerOccurrence o WHERE o.kind = :kind AND o.sourceId IN :sourceIds"
+            + " AND o.date = (SELECT MAX(l.date) FROM LedgerOccurrence l"
+            + " WHERE l.kind = o.kind AND l.sourceId = o.sourceId)")
+    List<LedgerOccurrence> findLatest(@Param("kind") LedgerKind kind, @Param("sourceIds") Collection<Long> sourceIds);
+
+    /**
+     * Computes a user's balance at the end of a day, all incomes minus all expenses that occurred up to
+     * it, with a single range scan of the {@code (user_id, occurrence_date)} index.
+     *
+     * @param userId the ID of the user
+     * @param day the last day counted, inclusive
+     * @return the balance, zero if nothing occurred yet
+     */
+    @Query("SELECT COALESCE(SUM(CASE WHEN o.kind = cloudflight.integra.backend.entity.LedgerKind.INCOME"
+            + " THEN o.amount ELSE -o.amount END), 0) FROM LedgerOccurrence o"
+            + " WHERE o.userId = :userId AND o.date <= :day")
+    BigDecimal balanceAt(@Param("userId") Long userId, @Param("day") LocalDate day);
+
+    /**
+     * Sums a user's occurrences per day with a single range scan of the {@code (user_id,
+     * occurrence_date)} index.
+     *
+     * @param userId the ID of the user
+     * @param from the first day, inclusive
+     * @param to the last day, inclusive
+     * @return one row per day that has occurrences, oldest first
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.CalendarDayDTO(o.date,"
+            + " SUM(CASE WHEN o.kind = cloudflight.integra.backend.entity.LedgerKind.EXPENSE THEN o.amount ELSE 0 END),"
+            + " SUM(CASE WHEN o.kind = cloudflight.integra.backend.entity.LedgerKind.INCOME THEN o.amount ELSE 0 END),"
+            + " COUNT(o)) FROM LedgerOccurrence o WHERE o.userId = :userId AND o.date BETWEEN :from AND :to"
+            + " GROUP BY o.date ORDER BY o.date")
+    List<CalendarDayDTO> sumByDay(
+            @Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
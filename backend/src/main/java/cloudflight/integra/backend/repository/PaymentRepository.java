@@ -1,6 +1,10 @@
 package cloudflight.integra.backend.repository;
 
+import cloudflight.integra.backend.dto.PaymentDTO;
 import cloudflight.integra.backend.entity.Payment;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +13,47 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    /**
+     * Selects payments straight into {@link PaymentDTO}s; the rows never become managed entities. The
+     * expense is joined only to filter by its owner, so neither it nor its user is loaded.
+     */
+    String SELECT_DTO = "SELECT new cloudflight.integra.backend.dto.PaymentDTO(p.id, e.id, p.name, p.status,"
+            + " p.paymentDate) FROM Payment p JOIN p.expense e";
+
     @Modifying
     @Query("DELETE FROM Payment p WHERE p.id = :paymentId")
     int deletePaymentByIdUsingQuery(@Param("paymentId") Long paymentId);
+
+    /**
+     * Finds a payment of an expense owned by a user, projected into a DTO.
+     *
+     * @param id the ID of the payment
+     * @param userId the ID of the user owning the payment's expense
+     * @return the payment, or empty if the user has no payment with that ID
+     */
+    @Query(SELECT_DTO + " WHERE p.id = :id AND e.userId = :userId")
+    Optional<PaymentDTO> findDTOByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Returns the newest payments of a user, ordered by id descending. The payment date is optional,
+     * so the id is the only stable keyset for payments. Projected into DTOs.
+     *
+     * @param userId the ID of the user owning the expenses
+     * @param limit the maximum number of rows to return
+     * @return the first page of the user's payments
+     */
+    @Query(SELECT_DTO + " WHERE e.userId = :userId ORDER BY p.id DESC")
+    List<PaymentDTO> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Returns the payments of a user with an id lower than the last one of the previous page.
+     *
+     * @param userId the ID of the user owning the expenses
+     * @param id the ID of the last payment of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next page of the user's payments
+     */
+    @Query(SELECT_DTO + " WHERE e.userId = :userId AND p.id < :id ORDER BY p.id DESC")
+    List<PaymentDTO> findPageByUserIdAfter(@Param("userId") Long userId, @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,17 @@
+package cloudflight.integra.backend.repository;
+
+import cloudflight.integra.backend.entity.ResourceVersion;
+import cloudflight.integra.backend.entity.VersionedResource;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/** Repository for {@link ResourceVersion} rows. */
+@Repository
+public interface ResourceVersionRepository extends JpaRepository<ResourceVersion, ResourceVersion.Key> {
+
+    @Query("SELECT v.version FROM ResourceVersion v WHERE v.userId = :userId AND v.resource = :resource")
+    Optional<Long> findVersion(@Param("userId") Long userId, @Param("resource") VersionedResource resource);
+}
@@ -1,6 +1,115 @@
 package cloudflight.integra.backend.repository;
 
+import cloudflight.integra.backend.dto.CategoryTotalDTO;
+import cloudflight.integra.backend.dto.MonthlyTotalDTO;
+import cloudflight.integra.backend.dto.SavingDTO;
 import cloudflight.integra.backend.entity.Saving;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface SavingRepository extends JpaRepository<Saving, Long> {}
+public interface SavingRepository extends JpaRepository<Saving, Long> {
+
+    /** Selects savings straight into {@link SavingDTO}s; the rows never become managed entities. */
+    String SELECT_DTO =
+            "SELECT new cloudflight.integra.backend.dto.SavingDTO(s.id, s.user.id, s.amount, s.date, s.goal,"
+                    + " s.description) FROM Saving s";
+
+    /**
+     * Sums the savings a user has set aside before an instant.
+     *
+     * @param userId the ID of the user
+     * @param before the end of the period, exclusive
+     * @return the total, zero if there are none
+     */
+    @Query("SELECT COALESCE(SUM(s.amount), 0) FROM Saving s WHERE s.user.id = :userId AND s.date < :before")
+    BigDecimal sumBefore(@Param("userId") Long userId, @Param("before") Date before);
+
+    /**
+     * Finds a saving of a user projected into a DTO.
+     *
+     * @param id the ID of the saving
+     * @param userId the ID of the user owning the saving
+     * @return the saving, or empty if the user has no saving with that ID
+     */
+    @Query(SELECT_DTO + " WHERE s.id = :id AND s.user.id = :userId")
+    Optional<SavingDTO> findDTOByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Returns the newest savings of a user, ordered by {@code (date, id)} descending, projected into
+     * DTOs.
+     *
+     * @param userId the ID of the user whose savings should be retrieved
+     * @param limit the maximum number of rows to return
+     * @return the first page of the user's savings
+     */
+    @Query(SELECT_DTO + " WHERE s.user.id = :userId ORDER BY s.date DESC, s.id DESC")
+    List<SavingDTO> findPageByUserId(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Returns the savings of a user that come strictly after the given keyset position in {@code
+     * (date, id)} descending order.
+     *
+     * @param userId the ID of the user whose savings should be retrieved
+     * @param date the date of the last saving of the previous page
+     * @param id the ID of the last saving of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next page of the user's savings
+     */
+    @Query(SELECT_DTO + " WHERE s.user.id = :userId AND (s.date, s.id) < (:date, :id)"
+            + " ORDER BY s.date DESC, s.id DESC")
+    List<SavingDTO> findPageByUserIdAfter(
+            @Param("userId") Long userId, @Param("date") Date date, @Param("id") Long id, Limit limit);
+
+    /**
+     * Streams all savings of a user in {@code (date, id)} order, projected into DTOs. Rows are fetched
+     * from the database in batches of 500 rather than materialised as a list; the stream must be
+     * consumed inside a transaction and closed afterwards.
+     *
+     * @param userId the ID of the user whose savings should be streamed
+     * @return a stream over the user's savings
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_DTO + " WHERE s.user.id = :userId ORDER BY s.date, s.id")
+    Stream<SavingDTO> streamAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Sums the savings of a user per goal within {@code [from, to)}, largest total first. Runs as a
+     * single {@code GROUP BY} query and projects straight into DTOs, without loading entities.
+     *
+     * @param userId the ID of the user whose savings should be summed
+     * @param from the start of the period, inclusive
+     * @param to the end of the period, exclusive
+     * @return one total per goal
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.CategoryTotalDTO(s.goal, SUM(s.amount), COUNT(s))"
+            + " FROM Saving s WHERE s.user.id = :userId AND s.date >= :from AND s.date < :to"
+            + " GROUP BY s.goal ORDER BY SUM(s.amount) DESC")
+    List<CategoryTotalDTO> sumByCategory(@Param("userId") Long userId, @Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * Sums the savings of a user per calendar month within {@code [from, to)}, oldest month first.
+     *
+     * @param userId the ID of the user whose savings should be summed
+     * @param from the start of the period, inclusive
+     * @param to the end of the period, exclusive
+     * @return one total per month that has savings
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.MonthlyTotalDTO(YEAR(s.date), MONTH(s.date),"
+            + " SUM(s.amount), COUNT(s))"
+            + " FROM Saving s WHERE s.user.id = :userId AND s.date >= :from AND s.date < :to"
+            + " GROUP BY YEAR(s.date), MONTH(s.date) ORDER BY YEAR(s.date), MONTH(s.date)")
+    List<MonthlyTotalDTO> sumByMonth(@Param("userId") Long userId, @Param("from") Date from, @Param("to") Date to);
+}
@@ -0,0 +1,125 @@
+package cloudflight.integra.backend.repository;
+
+import cloudflight.integra.backend.dto.CategoryTotalDTO;
+import cloudflight.integra.backend.dto.MonthlyTotalDTO;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.UserMonthlyRollup;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for {@link UserMonthlyRollup} rows. Months are addressed by their {@code yyyyMM} key.
+ */
+@Repository
+public interface UserMonthlyRollupRepository extends JpaRepository<UserMonthlyRollup, UserMonthlyRollup.Key> {
+
+    /**
+     * Adds a delta to an existing rollup row in place. New deltas go through {@code MonthlyRollupWriter},
+     * which also creates missing rows.
+     *
+     * @param amount the amount to add; negative to remove an entry
+     * @param count the number of entries to add; negative to remove an entry
+     * @return the number of updated rows, {@code 0} if the row does not exist yet
+     */
+    @Modifying
+    @Query("UPDATE UserMonthlyRollup r SET r.total = r.total + :amount, r.entryCount = r.entryCount + :count"
+            + " WHERE r.userId = :userId AND r.kind = :kind AND r.yearMonth = :yearMonth"
+            + " AND r.category = :category")
+    int applyDelta(
+            @Param("userId") Long userId,
+            @Param("kind") LedgerKind kind,
+            @Param("yearMonth") int yearMonth,
+            @Param("category") String category,
+            @Param("amount") BigDecimal amount,
+            @Param("count") long count);
+
+    /** Deletes a rollup row once its last entry has been removed. */
+    @Modifying
+    @Query("DELETE FROM UserMonthlyRollup r WHERE r.userId = :userId AND r.kind = :kind"
+            + " AND r.yearMonth = :yearMonth AND r.category = :category AND r.entryCount <= 0")
+    void deleteIfEmpty(
+            @Param("userId") Long userId,
+            @Param("kind") LedgerKind kind,
+            @Param("yearMonth") int yearMonth,
+            @Param("category") String category);
+
+    @Modifying
+    @Query("DELETE FROM UserMonthlyRollup r WHERE r.userId IN :userIds")
+    void deleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /** Recomputes the expense rows of the given users from the expense table in one statement. */
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO user_monthly_rollup (user_id, kind, year_month, category, total, entry_count)"
+                            + " SELECT user_id, 'EXPENSE', CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date)"
+                            + " AS INTEGER), category, SUM(amount), COUNT(*)"
+                            + " FROM expense WHERE user_id IN (:userIds)"
+                            + " GROUP BY user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), category",
+            nativeQuery = true)
+    void rebuildExpenses(@Param("userIds") Collection<Long> userIds);
+
+    /** Recomputes the income rows of the given users from the income table in one statement. */
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO user_monthly_rollup (user_id, kind, year_month, category, total, entry_count)"
+                            + " SELECT user_id, 'INCOME', CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date)"
+                            + " AS INTEGER), source, SUM(amount), COUNT(*)"
+                            + " FROM incomes WHERE user_id IN (:userIds)"
+                            + " GROUP BY user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), source",
+            nativeQuery = true)
+    void rebuildIncomes(@Param("userIds") Collection<Long> userIds);
+
+    /** Recomputes the saving rows of the given users from the saving table in one statement. */
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO user_monthly_rollup (user_id, kind, year_month, category, total, entry_count)"
+                            + " SELECT user_id, 'SAVING', CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date)"
+                            + " AS INTEGER), goal, SUM(amount), COUNT(*)"
+                            + " FROM savings WHERE user_id IN (:userIds)"
+                            + " GROUP BY user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), goal",
+            nativeQuery = true)
+    void rebuildSavings(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Sums the rollup rows of a user and ledger per month, oldest month first. Reads one row per month
+     * and category instead of every entry.
+     *
+     * @param userId the ID of the user
+     * @param kind the ledger to sum
+     * @param from the first month as {@code yyyyMM}, inclusive
+     * @param to the last month as {@code yyyyMM}, inclusive
+     * @return one total per month that has entries
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.MonthlyTotalDTO(CAST(r.yearMonth / 100 AS Integer),"
+            + " CAST(MOD(r.yearMonth, 100) AS Integer), SUM(r.total), SUM(r.entryCount))"
+            + " FROM UserMonthlyRollup r WHERE r.userId = :userId AND r.kind = :kind"
+            + " AND r.yearMonth BETWEEN :from AND :to"
+            + " GROUP BY r.yearMonth ORDER BY r.yearMonth")
+    List<MonthlyTotalDTO> sumByMonth(
+            @Param("userId") Long userId, @Param("kind") LedgerKind kind, @Param("from") int from, @Param("to") int to);
+
+    /**
+     * Sums the rollup rows of a user and ledger per category, largest total first.
+     *
+     * @param userId the ID of the user
+     * @param kind the ledger to sum
+     * @param from the first month as {@code yyyyMM}, inclusive
+     * @param to the last month as {@code yyyyMM}, inclusive
+     * @return one total per category
+     */
+    @Query("SELECT new cloudflight.integra.backend.dto.CategoryTotalDTO(r.category, SUM(r.total), SUM(r.entryCount))"
+            + " FROM UserMonthlyRollup r WHERE r.userId = :userId AND r.kind = :kind"
+            + " AND r.yearMonth BETWEEN :from AND :to"
+            + " GROUP BY r.category ORDER BY SUM(r.total) DESC")
+    List<CategoryTotalDTO> sumByCategory(
+            @Param("userId") Long userId, @Param("kind") LedgerKind kind, @Param("from") int from, @Param("to") int to);
+}
@@ -1,8 +1,20 @@
 package cloudflight.integra.backend.repository;
 
 import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.exception.NotFoundException;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +27,84 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if a user with the email exists, false otherwise
      */
     Optional<User> findByEmail(String email);
+
+    /**
+     * Returns the users with the lowest ids.
+     *
+     * @param limit the maximum number of rows to return
+     * @return the first page of users ordered by id
+     */
+    List<User> findByOrderByIdAsc(Limit limit);
+
+    /**
+     * Returns the users with an id greater than the last one of the previous page.
+     *
+     * @param id the ID of the last user of the previous page
+     * @param limit the maximum number of rows to return
+     * @return the next page of users ordered by id
+     */
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Returns the ids of the users whose id is greater than the given one, without loading the users.
+     *
+     * @param afterId the id after which to start; {@code 0} for the first chunk
+     * @param limit the maximum number of ids to return
+     * @return the next chunk of user ids in ascending order
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Adds a delta to a user's balance in place, without reading it first. A missing balance counts
+     * as zero.
+     *
+     * @param userId the ID of the user
+     * @param delta the amount to add, negative to subtract
+     * @return the number of users updated
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.balance = COALESCE(u.balance, 0) + :delta WHERE u.id = :userId")
+    int adjustBalance(@Param("userId") Long userId, @Param("delta") BigDecimal delta);
+
+    /**
+     * Increments a user's token version in place, which revokes the tokens issued before.
+     *
+     * @param userId the ID of the user
+     * @return the number of users updated
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
+
+    /**
+     * Replaces a user's password hash in place.
+     *
+     * @param email the user's email
+     * @param password the new password hash
+     * @return the number of users updated
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+    /**
+     * Loads the owners of a batch of new entries in a single query.
+     *
+     * @param ids the user ids, duplicates allowed
+     * @return the users by id
+     * @throws NotFoundException if any of the users does not exist
+     */
+    default Map<Long, User> findAllByIdOrThrow(Collection<Long> ids) {
+        Set<Long> distinct = new HashSet<>(ids);
+        distinct.remove(null);
+        Map<Long, User> users = new HashMap<>();
+        findAllById(distinct).forEach(user -> users.put(user.getId(), user));
+        for (Long id : ids) {
+            if (!users.containsKey(id)) {
+                throw new NotFoundException("User with id " + id + " not found");
+            }
+        }
+        return users;
+    }
 }
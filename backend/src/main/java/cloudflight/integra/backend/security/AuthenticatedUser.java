@@ -0,0 +1,85 @@
+package cloudflight.integra.backend.security;
+
+import cloudflight.integra.backend.entity.User;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * The principal of an authenticated request. Besides the email it carries the user's id, so that
+ * controllers get the id without looking the user up, and the token version the user's tokens must
+ * carry to be accepted.
+ */
+public final class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("USER"));
+
+    private final Long id;
+    private final String email;
+    private final int tokenVersion;
+    private String password;
+
+    public AuthenticatedUser(Long id, String email, String password, int tokenVersion) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.tokenVersion = tokenVersion;
+    }
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), user.getTokenVersion());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    /** Returns a copy without the password hash, safe to cache. */
+    public AuthenticatedUser withoutCredentials() {
+        return new AuthenticatedUser(id, email, "", tokenVersion);
+    }
+
+    /**
+     * Returns a copy with another password hash.
+     *
+     * @param password the new password hash
+     * @return the copy
+     */
+    public AuthenticatedUser withPassword(String password) {
+        return new AuthenticatedUser(id, email, password, tokenVersion);
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        password = null;
+    }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{id=" + id + ", email='" + email + "', tokenVersion=" + tokenVersion + '}';
+    }
+}
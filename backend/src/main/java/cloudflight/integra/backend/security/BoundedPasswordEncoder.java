@@ -0,0 +1,137 @@
+package cloudflight.integra.backend.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt on a dedicated, bounded pool. Hashing and verification are CPU-bound and deliberately slow, so
+ * running them on request threads lets a burst of logins occupy every core; here at most
+ * {@code security.password-hashing.threads} run at once, up to {@code security.password-hashing.queue-capacity}
+ * more wait, and any further request fails at once with {@link PasswordHashingRejectedException} instead of
+ * queueing without bound. The calling thread waits for its own hash.
+ *
+ * <p>New hashes use the work factor {@code security.bcrypt.strength}. Hashes with a lower work factor report
+ * {@link #upgradeEncoding(String)}, so the authentication provider re-hashes them after the next successful
+ * login.
+ */
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder, MeterBinder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile Timer encodeTimer;
+    private volatile Timer matchesTimer;
+
+    @Autowired
+    public BoundedPasswordEncoder(
+            @Value("${security.bcrypt.strength:10}") int strength,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity) {
+        this(new BCryptPasswordEncoder(strength), threads, queueCapacity);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hashing-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> timed(encodeTimer, () -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> timed(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /** Only parses the hash's work factor, so it runs on the calling thread. */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingRejectedException();
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static <T> T timed(Timer timer, Callable<T> hash) throws Exception {
+        return timer == null ? hash.call() : timer.recordCallable(hash);
+    }
+
+    /**
+     * Publishes the hash latency as {@code password.hash} timers tagged {@code operation=encode|matches}, the
+     * number of waiting hashes as {@code password.hash.queue.size}, busy threads as
+     * {@code password.hash.active} and rejections as
+     * {@code password.hash.rejected}.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        encodeTimer = Timer.builder("password.hash").tag("operation", "encode").register(registry);
+        matchesTimer =
+                Timer.builder("password.hash").tag("operation", "matches").register(registry);
+        Gauge.builder("password.hash.queue.size", executor.getQueue(), BlockingQueue::size)
+                .register(registry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("password.hash.rejected", rejected, AtomicLong::get)
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,16 @@
+package cloudflight.integra.backend.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a {@code Long} controller parameter to the id of the authenticated user, taken from the
+ * request's {@link AuthenticatedUser} principal without a database lookup.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUserId {}
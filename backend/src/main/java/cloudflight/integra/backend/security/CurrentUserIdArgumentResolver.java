@@ -0,0 +1,34 @@
+package cloudflight.integra.backend.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUserId} parameters from the request's principal, which Spring Security exposes
+ * as the authentication set by {@link JwtRequestFilter}.
+ */
+public class CurrentUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUserId.class) && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Long resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) {
+        if (!(webRequest.getUserPrincipal() instanceof Authentication authentication)
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new AuthenticationCredentialsNotFoundException("The request is not authenticated by a token");
+        }
+        return user.getId();
+    }
+}
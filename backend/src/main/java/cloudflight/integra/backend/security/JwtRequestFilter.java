@@ -1,6 +1,8 @@
 package cloudflight.integra.backend.security;
 
 import cloudflight.integra.backend.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +11,7 @@ import java.io.IOException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -20,10 +22,18 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final UserService userDetailsService;
     private final JwtUtils jwtUtils;
+    private final PrincipalCache principalCache;
+    private final MeterRegistry meterRegistry;
 
-    public JwtRequestFilter(UserService userDetailsService, JwtUtils jwtUtils) {
+    public JwtRequestFilter(
+            UserService userDetailsService,
+            JwtUtils jwtUtils,
+            PrincipalCache principalCache,
+            MeterRegistry meterRegistry) {
         this.userDetailsService = userDetailsService;
         this.jwtUtils = jwtUtils;
+        this.principalCache = principalCache;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
@@ -46,47 +56,76 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Time only the filter's own work; the rest of the chain is covered by http.server.requests
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = authenticate(request);
+        sample.stop(meterRegistry.timer("security.jwt.filter", "outcome", outcome));
+
+        // Continue with the filter chain
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Verifies the bearer token of the request, if any, and sets the authentication of its user.
+     *
+     * @param request - the HTTP request object
+     * @return the outcome for the filter timer: {@code none}, {@code rejected}, {@code unknown_user},
+     *     {@code revoked}, {@code already_authenticated} or {@code authenticated}
+     */
+    private String authenticate(HttpServletRequest request) {
         // Extract the Authorization header from the request
         final String header = request.getHeader(HttpHeaders.AUTHORIZATION);
 
-        // Initialize variables for username and JWT token
-        String username = null;
-        String jwt = null;
-
         // Check if the header exists and has the Bearer token format
-        if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
-            // Extract the token (remove "Bearer " prefix)
-            jwt = header.substring(7);
-            try {
-                // Extract the username from the token
-                username = jwtUtils.extractUsername(jwt);
-            } catch (Exception e) {
-                // Log any errors during token parsing
-                logger.error("Error extracting username from token", e);
-            }
+        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
+            return "none";
         }
 
-        // Only proceed if we have a username and no authentication is already set
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // Load user details from the database
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        // Extract the token (remove "Bearer " prefix) and verify it; signature and expiry are checked once
+        VerifiedToken token = jwtUtils.verify(header.substring(7)).orElse(null);
+        if (token == null) {
+            logger.debug("Rejected invalid or expired JWT");
+            return "rejected";
+        }
+        Long userId = token.getUserId();
+        Integer tokenVersion = token.getTokenVersion();
+        if (userId == null || tokenVersion == null) {
+            // Issued before tokens carried the user id; the user has to log in again
+            logger.debug("Rejected JWT without user id or token version");
+            return "rejected";
+        }
 
-            // Validate the token against the user details
-            if (jwtUtils.validateToken(jwt, userDetails)) {
-                // Create authentication token
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        // Only proceed if no authentication is already set
+        if (SecurityContextHolder.getContext().getAuthentication() != null) {
+            return "already_authenticated";
+        }
 
-                // Add request details to the authentication
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        // The principal comes from the cache, keyed by the id in the token; only a miss reads the user
+        AuthenticatedUser userDetails;
+        try {
+            userDetails = principalCache.get(userId, userDetailsService::loadUserById);
+        } catch (UsernameNotFoundException e) {
+            // The user was deleted after the token was issued; the request stays unauthenticated
+            logger.debug("No user found for token user id " + userId);
+            return "unknown_user";
+        }
 
-                // Set authentication in the security context
-                // This tells Spring Security the request is authenticated
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+        // The token is already verified; the user only has to still exist and not have revoked it
+        if (userDetails.getTokenVersion() != tokenVersion) {
+            logger.debug("Rejected JWT with revoked token version for user id " + userId);
+            return "revoked";
         }
 
-        // Continue with the filter chain
-        chain.doFilter(request, response);
+        // Create authentication token
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+
+        // Add request details to the authentication
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        // Set authentication in the security context
+        // This tells Spring Security the request is authenticated
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return "authenticated";
     }
 }
@@ -1,74 +1,127 @@
 package cloudflight.integra.backend.security;
 
-import io.jsonwebtoken.Claims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtUtils {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Long expiration;
+    private final Clock clock;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    /** Recently verified tokens keyed by SHA-256 hash; {@code null} when disabled. */
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    @Autowired
+    public JwtUtils(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") Long expiration,
+            @Value("${jwt.verified-cache.size:1024}") long verifiedCacheSize) {
+        this(secret, expiration, verifiedCacheSize, Clock.systemUTC());
     }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    JwtUtils(String secret, Long expiration, long verifiedCacheSize, Clock clock) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser is immutable and thread-safe, so one instance serves every request
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.expiration = expiration;
+        this.clock = clock;
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedCacheSize)
+                        .expireAfter(Expiry.creating((String hash, VerifiedToken token) ->
+                                Duration.between(clock.instant(), token.getExpiresAt())))
+                        .build()
+                : null;
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Verifies the signature and expiry of a token, parsing it at most once. Tokens verified recently
+     * are served from a small cache until they expire.
+     *
+     * @param token the compact JWT
+     * @return the verified token, or empty if the token is malformed, forged or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        String hash = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null && !cached.isExpiredAt(clock.instant())) {
+            return Optional.of(cached);
+        }
+        Optional<VerifiedToken> verified = parse(token);
+        verified.filter(t -> t.getExpiresAt() != null).ifPresent(t -> verifiedTokens.put(hash, t));
+        return verified;
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    public String generateToken(UserDetails userDetails) {
+    /**
+     * Issues a token for the user. Besides the email as subject it carries the user's id and current
+     * token version, so that {@link JwtRequestFilter} can authenticate the request without loading the
+     * user.
+     *
+     * @param user the authenticated user
+     * @return the compact JWT
+     */
+    public String generateToken(AuthenticatedUser user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(VerifiedToken.USER_ID_CLAIM, user.getId());
+        claims.put(VerifiedToken.TOKEN_VERSION_CLAIM, user.getTokenVersion());
+        return createToken(claims, user.getUsername());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
+        Instant now = clock.instant();
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plusSeconds(expiration)))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    private Optional<VerifiedToken> parse(String token) {
+        try {
+            return Optional.of(new VerifiedToken(parser.parseClaimsJws(token).getBody()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -0,0 +1,11 @@
+package cloudflight.integra.backend.security;
+
+/** Thrown when the password hashing pool and its queue are full, so the request is refused at once. */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException() {
+        super("Too many password checks in progress, please retry shortly");
+    }
+}
@@ -0,0 +1,91 @@
+package cloudflight.integra.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, time-limited cache of the principals resolved by {@link JwtRequestFilter}, keyed by the
+ * user id carried in the token. Saves the {@code users} lookup on every authenticated request, which
+ * only needs the user's current token version to tell whether the token is still valid.
+ *
+ * <p>Entries hold no credentials. They expire after {@code security.principal-cache.ttl} and must be
+ * invalidated explicitly whenever a user is changed or deleted, so that such changes take effect
+ * immediately rather than after the TTL.
+ */
+@Component
+public class PrincipalCache implements MeterBinder {
+
+    private final Cache<Long, AuthenticatedUser> cache;
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.max-size:10000}") long maxSize,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached principal for the given user, loading it on a miss.
+     *
+     * @param userId the user id carried in the token
+     * @param loader loads the principal from the database; may throw if the user does not exist
+     * @return the principal, without credentials
+     */
+    public AuthenticatedUser get(Long userId, Function<Long, AuthenticatedUser> loader) {
+        return cache.get(userId, key -> loader.apply(key).withoutCredentials());
+    }
+
+    /**
+     * Removes the principal cached for the given user, if any. Inside a transaction the entry is
+     * removed again after commit, so a concurrent request cannot re-cache the state being replaced.
+     *
+     * @param userId the user id
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+
+    /** Removes all cached principals. */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns hit, miss and eviction counts since the cache was created.
+     *
+     * @return a snapshot of the cache statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /** Publishes size, hits, misses and evictions as {@code cache.*} meters tagged {@code cache=principals}. */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "principals");
+    }
+}
@@ -0,0 +1,79 @@
+package cloudflight.integra.backend.security;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable view of a JWT whose signature and expiry have been verified by {@link JwtUtils#verify}.
+ * Unlike jjwt's {@link Claims}, it can be cached and shared between threads safely.
+ */
+public final class VerifiedToken {
+
+    /** The claim carrying the user's id. */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /** The claim carrying the user's token version at the time the token was issued. */
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
+    private final String subject;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+    private final Map<String, Object> claims;
+
+    VerifiedToken(Claims claims) {
+        this.subject = claims.getSubject();
+        this.issuedAt =
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant();
+        this.expiresAt =
+                claims.getExpiration() == null ? null : claims.getExpiration().toInstant();
+        this.claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /** Returns the user id, {@code null} for tokens issued before the claim was introduced. */
+    public Long getUserId() {
+        Number userId = getClaim(USER_ID_CLAIM, Number.class);
+        return userId == null ? null : userId.longValue();
+    }
+
+    /** Returns the token version, {@code null} for tokens issued before the claim was introduced. */
+    public Integer getTokenVersion() {
+        Number version = getClaim(TOKEN_VERSION_CLAIM, Number.class);
+        return version == null ? null : version.intValue();
+    }
+
+    /**
+     * Returns a single claim.
+     *
+     * @param name the claim name
+     * @param type the expected type of the claim value
+     * @return the claim value, or {@code null} if the token does not carry it
+     * @throws ClassCastException if the claim has a different type
+     */
+    public <T> T getClaim(String name, Class<T> type) {
+        return type.cast(claims.get(name));
+    }
+
+    /** Returns all claims of the token as an unmodifiable map. */
+    public Map<String, Object> getClaims() {
+        return claims;
+    }
+
+    public boolean isExpiredAt(Instant instant) {
+        return expiresAt != null && !expiresAt.isAfter(instant);
+    }
+}
@@ -1,9 +1,11 @@
 package cloudflight.integra.backend.security.config;
 
+import cloudflight.integra.backend.security.CurrentUserId;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,6 +15,11 @@ public class OpenApiConfig {
     private static final String SCHEME_NAME = "BearerAuth";
     private static final String SCHEME = "bearer";
 
+    static {
+        // Resolved from the token, not a parameter the client sends
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUserId.class);
+    }
+
     @Bean
     public OpenAPI customOpenAPI() {
         return new OpenAPI()
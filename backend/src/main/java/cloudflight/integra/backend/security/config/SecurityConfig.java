@@ -3,8 +3,12 @@
 package cloudflight.integra.backend.security.config;
 
 import cloudflight.integra.backend.controller.problem.JwtAuthenticationEntryPoint;
+import cloudflight.integra.backend.dto.CursorPage;
+import cloudflight.integra.backend.security.BoundedPasswordEncoder;
 import cloudflight.integra.backend.security.JwtRequestFilter;
+import cloudflight.integra.backend.security.ratelimit.RateLimitFilter;
 import cloudflight.integra.backend.service.UserService;
+import jakarta.servlet.DispatcherType;
 import java.util.Arrays;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,8 +21,6 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -33,12 +35,20 @@ public class SecurityConfig {
     private final UserService userService;
     private final JwtRequestFilter jwtRequestFilter;
     private final JwtAuthenticationEntryPoint authEntryPoint;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final RateLimitFilter rateLimitFilter;
 
     public SecurityConfig(
-            UserService userService, JwtRequestFilter jwtRequestFilter, JwtAuthenticationEntryPoint authEntryPoint) {
+            UserService userService,
+            JwtRequestFilter jwtRequestFilter,
+            JwtAuthenticationEntryPoint authEntryPoint,
+            BoundedPasswordEncoder passwordEncoder,
+            RateLimitFilter rateLimitFilter) {
         this.userService = userService;
         this.jwtRequestFilter = jwtRequestFilter;
         this.authEntryPoint = authEntryPoint;
+        this.passwordEncoder = passwordEncoder;
+        this.rateLimitFilter = rateLimitFilter;
     }
 
     @Bean
@@ -48,12 +58,21 @@ public class SecurityConfig {
                 .exceptionHandling(e -> e.authenticationEntryPoint(authEntryPoint))
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth.requestMatchers(
-                                "/api/auth/**", "/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**")
+                                "/api/auth/**",
+                                "/v3/api-docs/**",
+                                "/swagger-ui.html",
+                                "/swagger-ui/**",
+                                "/actuator/health")
+                        .permitAll()
+                        // the request was authorized before it went async (e.g. streaming exports)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC)
                         .permitAll()
                         .anyRequest()
                         .authenticated())
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtRequestFilter, UsernamePasswordAuthenticationFilter.class)
+                // after the JWT filter, so that authenticated requests are limited per user
+                .addFilterAfter(rateLimitFilter, JwtRequestFilter.class)
                 .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin));
 
         return http.build();
@@ -65,6 +84,7 @@ public class SecurityConfig {
         config.setAllowedOrigins(Arrays.asList("http://localhost:4200"));
         config.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(Arrays.asList("*"));
+        config.setExposedHeaders(Arrays.asList(CursorPage.NEXT_CURSOR_HEADER));
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -74,16 +94,13 @@ public class SecurityConfig {
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder());
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
         provider.setUserDetailsService(userService);
+        // Re-hashes the password after a successful login when its work factor is below the configured one
+        provider.setUserDetailsPasswordService(userService);
         return provider;
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
@@ -0,0 +1,75 @@
+package cloudflight.integra.backend.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the token buckets of this node in a bounded map. Buckets idle for {@code rate-limit.idle-timeout}
+ * are dropped, as are the least recently used ones beyond {@code rate-limit.max-buckets}; a dropped bucket
+ * comes back full, which an idle client would have reached anyway once the timeout exceeds the time to
+ * refill a bucket.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} updated by compare-and-set, so concurrent requests of one
+ * client never block each other. It holds the time at which the bucket will be full again: a request
+ * moves it one token's refill time ahead and is allowed as long as it stays within the bucket's capacity
+ * of the present.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.backend", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryRateLimitBackend implements RateLimitBackend, MeterBinder {
+
+    private final Cache<BucketKey, AtomicLong> buckets;
+    private final LongSupplier nanoTime;
+
+    @Autowired
+    public InMemoryRateLimitBackend(
+            @Value("${rate-limit.max-buckets:100000}") long maxBuckets,
+            @Value("${rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this(maxBuckets, idleTimeout, System::nanoTime);
+    }
+
+    InMemoryRateLimitBackend(long maxBuckets, Duration idleTimeout, LongSupplier nanoTime) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public long tryConsume(RateLimitPolicy policy, String key) {
+        long now = nanoTime.getAsLong();
+        AtomicLong fullAt = buckets.get(new BucketKey(policy.name(), key), k -> new AtomicLong(now));
+        long perToken = policy.nanosPerToken();
+        long burst = perToken * policy.capacity();
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + perToken;
+            long wait = next - burst - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /** Publishes the number of buckets held as {@code rate.limit.buckets}. */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize).register(registry);
+    }
+
+    private record BucketKey(String policy, String client) {}
+}
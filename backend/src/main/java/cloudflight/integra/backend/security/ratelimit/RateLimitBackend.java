@@ -0,0 +1,18 @@
+package cloudflight.integra.backend.security.ratelimit;
+
+/**
+ * Stores the token buckets behind {@link RateLimitFilter}. The in-memory backend limits every node on
+ * its own; a deployment with several nodes swaps in a backend on a shared store by selecting it with
+ * {@code rate-limit.backend}.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Takes one token from the client's bucket under the given policy.
+     *
+     * @param policy the bucket's capacity and refill rate
+     * @param key identifies the client, e.g. {@code user:alice@example.com} or {@code ip:203.0.113.7}
+     * @return {@code 0} if the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    long tryConsume(RateLimitPolicy policy, String key);
+}
@@ -0,0 +1,105 @@
+package cloudflight.integra.backend.security.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Limits the request rate of every client before the request reaches a controller. Requests to
+ * {@code /api/auth/**} take a token from the bucket of their client IP under the {@code auth} policy, so
+ * credential guessing is slowed down no matter which accounts it targets; the other {@code /api/**}
+ * requests take one from the bucket of their authenticated user, or of their client IP without a valid
+ * token, under the {@code api} policy. An empty bucket answers 429 with {@code Retry-After} in seconds.
+ *
+ * <p>Runs right after {@code JwtRequestFilter}, which establishes the user. The client IP is the remote
+ * address, so behind a proxy {@code server.forward-headers-strategy} has to be set.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitBackend backend;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final RateLimitPolicy authPolicy;
+    private final RateLimitPolicy apiPolicy;
+
+    public RateLimitFilter(
+            RateLimitBackend backend,
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.auth.capacity:10}") long authCapacity,
+            @Value("${rate-limit.auth.refill-per-second:0.2}") double authRefillPerSecond,
+            @Value("${rate-limit.api.capacity:100}") long apiCapacity,
+            @Value("${rate-limit.api.refill-per-second:20}") double apiRefillPerSecond) {
+        this.backend = backend;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.authPolicy = new RateLimitPolicy("auth", authCapacity, authRefillPerSecond);
+        this.apiPolicy = new RateLimitPolicy("api", apiCapacity, apiRefillPerSecond);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !path(request).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RateLimitPolicy policy;
+        String client;
+        if (path(request).startsWith("/api/auth/")) {
+            policy = authPolicy;
+            client = "ip:" + request.getRemoteAddr();
+        } else {
+            policy = apiPolicy;
+            client = client(request);
+        }
+
+        long waitNanos = backend.tryConsume(policy, client);
+        if (waitNanos > 0) {
+            meterRegistry
+                    .counter("rate.limit.rejected", "policy", policy.name())
+                    .increment();
+            reject(response, waitNanos);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String client(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /** Writes the 429 directly; an error dispatch would go through the security chain again as anonymous. */
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests, retry after " + retryAfter + " seconds\"}");
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,24 @@
+package cloudflight.integra.backend.security.ratelimit;
+
+/**
+ * A token bucket: a client may send {@code capacity} requests in a burst, after which tokens come back
+ * at {@code refillPerSecond}.
+ *
+ * @param name identifies the policy in bucket keys and meters
+ * @param capacity the largest burst
+ * @param refillPerSecond the sustained rate
+ */
+public record RateLimitPolicy(String name, long capacity, double refillPerSecond) {
+
+    public RateLimitPolicy {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException(
+                    "Rate limit policy " + name + " needs a capacity and refill rate above 0");
+        }
+    }
+
+    /** The time it takes to refill one token. */
+    public long nanosPerToken() {
+        return Math.max(1, Math.round(1_000_000_000d / refillPerSecond));
+    }
+}
@@ -2,21 +2,32 @@ package cloudflight.integra.backend.service;
 
 import cloudflight.integra.backend.entity.UserActivity;
 import cloudflight.integra.backend.repository.UserActivityRepository;
+import cloudflight.integra.backend.service.activity.ActivityBatchWriter;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
+@Timed(ServiceMetrics.CALLS)
+@Counted(value = ServiceMetrics.ERRORS, recordFailuresOnly = true)
 public class ActivityService {
     private final UserActivityRepository activityRepository;
+    private final ActivityBatchWriter activityWriter;
 
-    public ActivityService(UserActivityRepository activityRepository) {
+    public ActivityService(UserActivityRepository activityRepository, ActivityBatchWriter activityWriter) {
         this.activityRepository = activityRepository;
+        this.activityWriter = activityWriter;
     }
 
+    /**
+     * Records an activity asynchronously. The activity is queued and written in a batch by {@link
+     * ActivityBatchWriter}, so it may show up in {@link #getRecentActivities} with a short delay.
+     */
     public void logActivity(Long userId, String activityType, String description, String icon) {
         UserActivity activity = new UserActivity(userId, activityType, description, icon);
-        activityRepository.save(activity);
+        activityWriter.enqueue(activity);
     }
 
     public List<UserActivity> getRecentActivities(Long userId, int limit) {
@@ -0,0 +1,19 @@
+package cloudflight.integra.backend.service;
+
+import cloudflight.integra.backend.dto.CalendarDTO;
+import java.time.YearMonth;
+
+/** Service interface for the calendar of a user's expense and income occurrences. */
+public interface CalendarService {
+
+    /**
+     * Returns the per-day totals of a user's expense and income occurrences in one month. Recurring
+     * entries are included up to the occurrence horizon; months beyond it only show one-time entries
+     * and the first occurrences of recurring ones.
+     *
+     * @param userId the identifier of the user
+     * @param month the month to show
+     * @return the days of the month that have occurrences
+     */
+    CalendarDTO getCalendar(Long userId, YearMonth month);
+}
@@ -1,6 +1,13 @@
 package cloudflight.integra.backend.service;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.ImportResultDTO;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 
 // varianta buna
 /** Service interface for managing expenses. */
@@ -15,19 +22,54 @@ public interface ExpenseService {
     ExpenseDTO createExpense(ExpenseDTO expenseDTO);
 
     /**
-     * Returns all Expenses.
+     * Creates several Expenses in one transaction; either all of them are stored or none.
      *
-     * @return an Iterable of all Expenses
+     * @param expenseDTOs the expenses to be created
+     * @return the created Expenses, in the given order
      */
-    Iterable<ExpenseDTO> getAllExpenses();
+    List<ExpenseDTO> createExpenses(List<ExpenseDTO> expenseDTOs);
 
     /**
-     * Returns an Expense by its ID.
+     * Returns one page of a user's Expenses, newest first.
+     *
+     * @param userId the identifier of the user owning the expenses
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Expenses to return
+     * @return a page of the user's Expenses
+     */
+    CursorPage<ExpenseDTO> getAllExpenses(Long userId, String cursor, int limit);
+
+    /**
+     * Writes all Expenses of a user to a stream, oldest first, without holding them in memory at once
+     *
+     * @param userId the identifier of the user owning the expenses
+     * @param format the output format
+     * @param out the stream to write to; it is flushed but not closed
+     * @throws IOException if writing to the stream fails
+     */
+    void exportExpenses(Long userId, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Imports Expenses for a user from a stream while it is being read, in the layout written by
+     * {@link #exportExpenses}. Invalid rows are skipped and reported; the {@code id} column is ignored.
+     *
+     * @param userId the identifier of the user owning the imported expenses
+     * @param format the input format
+     * @param in the stream to read from; it is not closed
+     * @return the number of imported and rejected rows and the reasons for the rejections
+     * @throws IOException if reading from the stream fails
+     */
+    ImportResultDTO importExpenses(Long userId, ExportFormat format, InputStream in) throws IOException;
+
+    /**
+     * Returns an Expense of a user by its ID.
      *
      * @param id the identifier of the Expense
+     * @param userId the identifier of the user owning the Expense
      * @return Expense with the given id
+     * @throws cloudflight.integra.backend.exception.NotFoundException if the user has no Expense with that id
      */
-    ExpenseDTO getExpense(Long id);
+    ExpenseDTO getExpense(Long id, Long userId);
 
     /**
      * Updates an Expense.
@@ -0,0 +1,20 @@
+package cloudflight.integra.backend.service;
+
+import cloudflight.integra.backend.dto.ForecastDTO;
+
+/** Service interface for the projection of a user's balance into the coming months. */
+public interface ForecastService {
+
+    /**
+     * Projects a user's balance month by month from today's balance and the expenses and incomes still
+     * to occur, recurring ones expanded by their frequency up to their end date. Today's balance is the
+     * incomes minus the expenses that occurred up to today, minus the savings set aside.
+     *
+     * @param userId the identifier of the user
+     * @param months the number of months to project, the current one included
+     * @return the forecast, the current month first
+     * @throws cloudflight.integra.backend.entity.validation.ValidationException if {@code months} is
+     *     out of range
+     */
+    ForecastDTO getForecast(Long userId, int months);
+}
@@ -1,6 +1,13 @@
 package cloudflight.integra.backend.service;
 
+import cloudflight.integra.backend.dto.CursorPage;
+import cloudflight.integra.backend.dto.ImportResultDTO;
 import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
 
 /** Service interface for managing Income entities */
 public interface IncomeService {
@@ -12,19 +19,54 @@ public interface IncomeService {
     IncomeDTO createIncome(IncomeDTO income);
 
     /**
-     * Returns all Incomes
+     * Adds several Incomes in one transaction; either all of them are stored or none
      *
-     * @return an Iterable of all Incomes
+     * @param incomes the incomes to add
+     * @return the added Incomes, in the given order
      */
-    Iterable<IncomeDTO> getAllIncomes();
+    List<IncomeDTO> createIncomes(List<IncomeDTO> incomes);
 
     /**
-     * Returns an Income by its ID
+     * Returns one page of a user's Incomes, newest first
+     *
+     * @param userId the identifier of the user owning the incomes
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of Incomes to return
+     * @return a page of the user's Incomes
+     */
+    CursorPage<IncomeDTO> getAllIncomes(Long userId, String cursor, int limit);
+
+    /**
+     * Writes all Incomes of a user to a stream, oldest first, without holding them in memory at once
+     *
+     * @param userId the identifier of the user owning the incomes
+     * @param format the output format
+     * @param out the stream to write to; it is flushed but not closed
+     * @throws IOException if writing to the stream fails
+     */
+    void exportIncomes(Long userId, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Imports Incomes for a user from a stream while it is being read, in the layout written by
+     * {@link #exportIncomes}. Invalid rows are skipped and reported; the {@code id} column is ignored.
+     *
+     * @param userId the identifier of the user owning the imported incomes
+     * @param format the input format
+     * @param in the stream to read from; it is not closed
+     * @return the number of imported and rejected rows and the reasons for the rejections
+     * @throws IOException if reading from the stream fails
+     */
+    ImportResultDTO importIncomes(Long userId, ExportFormat format, InputStream in) throws IOException;
+
+    /**
+     * Returns an Income of a user by its ID
      *
      * @param id the identifier of the Income
+     * @param userId the identifier of the user owning the Income
      * @return Income with the given id
+     * @throws cloudflight.integra.backend.exception.NotFoundException if the user has no Income with that id
      */
-    IncomeDTO getIncomeById(Long id);
+    IncomeDTO getIncomeById(Long id, Long userId);
 
     /**
      * Updates an Income
@@ -1,5 +1,6 @@
 package cloudflight.integra.backend.service;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.PaymentDTO;
 import java.util.List;
 
@@ -14,12 +15,22 @@ public interface PaymentService {
     PaymentDTO addPayment(PaymentDTO payment);
 
     /**
-     * Find a payment by id
+     * Saves several new Payments in one transaction; either all of them are stored or none
+     *
+     * @param payments the payments to save
+     * @return the payments saved, in the given order
+     */
+    List<PaymentDTO> addPayments(List<PaymentDTO> payments);
+
+    /**
+     * Find a payment by id among the payments of a user's expenses
      *
      * @param id ,type: Long
+     * @param userId the id of the user owning the payment's expense
      * @return the payment with the id requested
+     * @throws cloudflight.integra.backend.exception.NotFoundException if the user has no payment with that id
      */
-    PaymentDTO getPaymentById(Long id);
+    PaymentDTO getPaymentById(Long id, Long userId);
 
     /**
      * Update a payment
@@ -38,7 +49,12 @@ public interface PaymentService {
     PaymentDTO deletePayment(Long id);
 
     /**
-     * @return all payments
+     * Returns one page of the payments of all expenses owned by a user, newest first
+     *
+     * @param userId the id of the user owning the expenses
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of payments to return
+     * @return a page of the user's payments
      */
-    List<PaymentDTO> getAllPayments();
+    CursorPage<PaymentDTO> getAllPayments(Long userId, String cursor, int limit);
 }
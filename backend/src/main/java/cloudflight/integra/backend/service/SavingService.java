@@ -1,6 +1,10 @@
 package cloudflight.integra.backend.service;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.SavingDTO;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface SavingService {
@@ -13,19 +17,43 @@ public interface SavingService {
     SavingDTO addSaving(SavingDTO savingDTO);
 
     /**
-     * Returns all savings from the repository
+     * First validates all savings and then adds them in one transaction; either all of them are
+     * stored or none
      *
-     * @return Iterable of all savings
+     * @param savingDTOs - the savings to add
+     * @return the added savings, in the given order
      */
-    List<SavingDTO> getAllSavings();
+    List<SavingDTO> addSavings(List<SavingDTO> savingDTOs);
 
     /**
-     * Returns a saving by its id from the repository
+     * Returns one page of a user's savings from the repository, newest first
+     *
+     * @param userId - id of the user owning the savings
+     * @param cursor - continuation token of the previous page, or {@code null} for the first page
+     * @param limit - maximum number of savings to return
+     * @return page of the user's savings
+     */
+    CursorPage<SavingDTO> getAllSavings(Long userId, String cursor, int limit);
+
+    /**
+     * Writes all savings of a user to a stream, oldest first, without holding them in memory at once
+     *
+     * @param userId - the identifier of the user owning the savings
+     * @param format - the output format
+     * @param out - the stream to write to; it is flushed but not closed
+     * @throws IOException if writing to the stream fails
+     */
+    void exportSavings(Long userId, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Returns a saving of a user by its id from the repository
      *
      * @param id - id of the saving to return
+     * @param userId - id of the user owning the saving
      * @return Saving with the given id
+     * @throws cloudflight.integra.backend.exception.NotFoundException if the user has no saving with that id
      */
-    SavingDTO getSavingById(Long id);
+    SavingDTO getSavingById(Long id, Long userId);
 
     /**
      * Deletes a saving by its id from the repository
@@ -0,0 +1,17 @@
+package cloudflight.integra.backend.service;
+
+/**
+ * Meter names shared by the instrumented services. Every public method of a service annotated with
+ * {@code @Timed(CALLS)} and {@code @Counted(ERRORS)} is recorded with {@code class}, {@code method}
+ * and {@code exception} tags.
+ */
+public final class ServiceMetrics {
+
+    /** Timer of every service call, successful or not. */
+    public static final String CALLS = "service.calls";
+
+    /** Counter of service calls that threw an exception. */
+    public static final String ERRORS = "service.errors";
+
+    private ServiceMetrics() {}
+}
@@ -0,0 +1,22 @@
+package cloudflight.integra.backend.service;
+
+import cloudflight.integra.backend.dto.SummaryDTO;
+import java.time.LocalDate;
+
+/** Service interface for aggregated views over a user's expenses, incomes and savings. */
+public interface SummaryService {
+
+    /**
+     * Returns the totals of a user's expenses, incomes and savings per month and per category. The
+     * totals are computed by the database; no entities are loaded. Periods made of whole months are read
+     * from the monthly rollup table.
+     *
+     * @param userId the identifier of the user
+     * @param from the first day of the period, inclusive
+     * @param to the last day of the period, inclusive
+     * @return the summary of the period
+     * @throws cloudflight.integra.backend.entity.validation.ValidationException if {@code from} is
+     *     after {@code to}
+     */
+    SummaryDTO getSummary(Long userId, LocalDate from, LocalDate to);
+}
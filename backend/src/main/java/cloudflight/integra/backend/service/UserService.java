@@ -1,11 +1,13 @@
 package cloudflight.integra.backend.service;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.entity.User;
-import java.util.Collection;
+import cloudflight.integra.backend.security.AuthenticatedUser;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
 /** Service interface for managing User entities. */
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
     /**
      * Adds a new user to the system.
      *
@@ -24,11 +26,13 @@ public interface UserService extends UserDetailsService {
     User getUser(Long id);
 
     /**
-     * Retrieves all users in the system.
+     * Retrieves one page of the users in the system, ordered by id.
      *
-     * @return an iterable of all User entities
+     * @param cursor the continuation token of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of users to return
+     * @return a page of User entities
      */
-    Collection<User> getAllUsers();
+    CursorPage<User> getAllUsers(String cursor, int limit);
 
     /**
      * Updates an existing user's details.
@@ -38,6 +42,14 @@ public interface UserService extends UserDetailsService {
      */
     User updateUser(User user);
 
+    /**
+     * Revokes every token issued to a user so far, e.g. after a password change. The user has to log in
+     * again.
+     *
+     * @param id the ID of the user
+     */
+    void revokeTokens(Long id);
+
     /**
      * Deletes a user by their ID.
      *
@@ -52,4 +64,14 @@ public interface UserService extends UserDetailsService {
      * @return the User entity
      */
     User getUserByEmail(String email);
+
+    /**
+     * Loads the principal of the user a token was issued to.
+     *
+     * @param id the user id carried in the token
+     * @return the principal, with the user's current token version
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if the user does
+     *     not exist
+     */
+    AuthenticatedUser loadUserById(Long id);
 }
@@ -0,0 +1,267 @@
+package cloudflight.integra.backend.service.activity;
+
+import cloudflight.integra.backend.entity.IdSequences;
+import cloudflight.integra.backend.entity.UserActivity;
+import cloudflight.integra.backend.service.ids.PooledIdAllocator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@link UserActivity} rows in the background. Callers only enqueue; a single writer thread
+ * drains the bounded queue and inserts up to {@code activity.writer.batch-size} rows per JDBC batch.
+ * When the queue is full, the configured {@link OverflowPolicy} decides what is lost.
+ *
+ * <p>The writer stops after the web server (lifecycle phase 0), and it flushes everything still
+ * queued before the data source is closed.
+ */
+@Component
+public class ActivityBatchWriter implements SmartLifecycle, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityBatchWriter.class);
+
+    static final String INSERT_SQL =
+            "INSERT INTO user_activities (id, user_id, activity_type, description, created_at, icon)"
+                    + " VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator idAllocator;
+    private final BlockingQueue<UserActivity> queue;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final double sampleRate;
+    private final Duration blockTimeout;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread worker;
+
+    public ActivityBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            PooledIdAllocator idAllocator,
+            @Value("${activity.queue.capacity:10000}") int capacity,
+            @Value("${activity.queue.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+            @Value("${activity.queue.sample-rate:0.1}") double sampleRate,
+            @Value("${activity.queue.block-timeout:1s}") Duration blockTimeout,
+            @Value("${activity.writer.batch-size:200}") int batchSize,
+            @Value("${activity.writer.flush-interval:200ms}") Duration flushInterval,
+            @Value("${activity.writer.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
+        this.blockTimeout = blockTimeout;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Queues an activity for writing. Never waits for the database; with {@link OverflowPolicy#BLOCK}
+     * it may wait for queue space up to the configured timeout.
+     *
+     * @param activity the activity to write
+     * @return {@code true} if the activity was queued, {@code false} if it was dropped
+     */
+    public boolean enqueue(UserActivity activity) {
+        boolean accepted =
+                switch (overflowPolicy) {
+                    case BLOCK -> offerBlocking(activity);
+                    case DROP_OLDEST -> offerDroppingOldest(activity);
+                    case SAMPLE -> offerSampled(activity);
+                };
+        if (accepted) {
+            enqueued.incrementAndGet();
+        } else {
+            dropped.incrementAndGet();
+        }
+        if (stopped) {
+            // Nobody drains the queue after shutdown, so late activities are written by the caller
+            flush();
+        }
+        return accepted;
+    }
+
+    /** Writes everything currently queued on the calling thread. */
+    public void flush() {
+        List<UserActivity> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /** Publishes the counters above as {@code activity.writer.*} meters. */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("activity.writer.activities", enqueued, AtomicLong::get)
+                .tag("state", "enqueued")
+                .register(registry);
+        FunctionCounter.builder("activity.writer.activities", dropped, AtomicLong::get)
+                .tag("state", "dropped")
+                .register(registry);
+        FunctionCounter.builder("activity.writer.activities", written, AtomicLong::get)
+                .tag("state", "written")
+                .register(registry);
+        FunctionCounter.builder("activity.writer.activities", failed, AtomicLong::get)
+                .tag("state", "failed")
+                .register(registry);
+        Gauge.builder("activity.writer.queue.size", queue, BlockingQueue::size).register(registry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        stopped = false;
+        worker = new Thread(this::drainLoop, "activity-writer");
+        worker.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        stopped = true;
+        try {
+            worker.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (worker.isAlive()) {
+            log.warn(
+                    "Activity writer did not finish within {}, {} activities still queued",
+                    shutdownTimeout,
+                    queue.size());
+            worker.interrupt();
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void drainLoop() {
+        List<UserActivity> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                UserActivity first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<UserActivity> batch) {
+        try {
+            long[] ids = idAllocator.allocate(IdSequences.USER_ACTIVITIES, batch.size());
+            for (int i = 0; i < ids.length; i++) {
+                batch.get(i).setId(ids[i]);
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, activity) -> {
+                ps.setLong(1, activity.getId());
+                ps.setLong(2, activity.getUserId());
+                ps.setString(3, activity.getActivityType());
+                ps.setString(4, activity.getDescription());
+                ps.setTimestamp(5, Timestamp.valueOf(activity.getCreatedAt()));
+                ps.setString(6, activity.getIcon());
+            });
+            written.addAndGet(batch.size());
+        } catch (DataAccessException e) {
+            failed.addAndGet(batch.size());
+            log.error("Failed to write {} activities", batch.size(), e);
+        }
+    }
+
+    private boolean offerBlocking(UserActivity activity) {
+        try {
+            return queue.offer(activity, blockTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean offerDroppingOldest(UserActivity activity) {
+        while (!queue.offer(activity)) {
+            if (queue.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+        return true;
+    }
+
+    private boolean offerSampled(UserActivity activity) {
+        if (queue.size() > capacity / 2 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        return queue.offer(activity);
+    }
+}
@@ -0,0 +1,14 @@
+package cloudflight.integra.backend.service.activity;
+
+/** What {@link ActivityBatchWriter} does with a new activity when its queue is under pressure. */
+public enum OverflowPolicy {
+    /** Wait for free space, up to {@code activity.queue.block-timeout}, then drop the new activity. */
+    BLOCK,
+    /** Discard the oldest queued activity to make room for the new one. */
+    DROP_OLDEST,
+    /**
+     * Once the queue is more than half full, keep only a random {@code activity.queue.sample-rate}
+     * fraction of new activities; drop new activities while the queue is full.
+     */
+    SAMPLE
+}
@@ -0,0 +1,125 @@
+package cloudflight.integra.backend.service.balance;
+
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Income;
+import cloudflight.integra.backend.entity.Saving;
+import cloudflight.integra.backend.repository.UserRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps {@code users.balance} equal to the user's incomes minus their expenses and savings, each entry
+ * counted once with its own amount. Every create, update and delete applies its delta inside the
+ * caller's transaction as a single {@code UPDATE users SET balance = balance + ?}, so the database
+ * serializes concurrent writes of the same user on the row lock and none of them is lost. The entity
+ * never writes the column itself.
+ */
+@Component
+public class BalanceWriter {
+
+    private final UserRepository userRepository;
+
+    public BalanceWriter(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Expense expense) {
+        adjust(expense.getUser().getId(), expense.getAmount().negate());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Expense expense) {
+        adjust(expense.getUser().getId(), expense.getAmount());
+    }
+
+    /**
+     * Applies an update as a single delta, none at all if the amount and the owner stayed the same.
+     * The previous values must be read before the update is merged into the managed entity.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updated(Long previousUserId, BigDecimal previousAmount, Expense expense) {
+        moved(
+                previousUserId,
+                previousAmount.negate(),
+                expense.getUser().getId(),
+                expense.getAmount().negate());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Income income) {
+        adjust(income.getUser().getId(), income.getAmount());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Income income) {
+        adjust(income.getUser().getId(), income.getAmount().negate());
+    }
+
+    /** Applies an update as a single delta, see {@link #updated(Long, BigDecimal, Expense)}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updated(Long previousUserId, BigDecimal previousAmount, Income income) {
+        moved(previousUserId, previousAmount, income.getUser().getId(), income.getAmount());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Saving saving) {
+        adjust(saving.getUser().getId(), saving.getAmount().negate());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Saving saving) {
+        adjust(saving.getUser().getId(), saving.getAmount());
+    }
+
+    /** Applies an update as a single delta, see {@link #updated(Long, BigDecimal, Expense)}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updated(Long previousUserId, BigDecimal previousAmount, Saving saving) {
+        moved(
+                previousUserId,
+                previousAmount.negate(),
+                saving.getUser().getId(),
+                saving.getAmount().negate());
+    }
+
+    /** Applies a batch of newly inserted expenses of one user as a single delta. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedExpenses(Long userId, List<Expense> expenses) {
+        adjust(userId, sum(expenses, Expense::getAmount).negate());
+    }
+
+    /** Applies a batch of newly inserted incomes of one user, see {@link #addedExpenses}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedIncomes(Long userId, List<Income> incomes) {
+        adjust(userId, sum(incomes, Income::getAmount));
+    }
+
+    /** Applies a batch of newly inserted savings of one user, see {@link #addedExpenses}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedSavings(Long userId, List<Saving> savings) {
+        adjust(userId, sum(savings, Saving::getAmount).negate());
+    }
+
+    private void moved(Long previousUserId, BigDecimal previousDelta, Long userId, BigDecimal delta) {
+        if (previousUserId.equals(userId)) {
+            adjust(userId, delta.subtract(previousDelta));
+        } else {
+            adjust(previousUserId, previousDelta.negate());
+            adjust(userId, delta);
+        }
+    }
+
+    private void adjust(Long userId, BigDecimal delta) {
+        if (delta.signum() != 0) {
+            userRepository.adjustBalance(userId, delta);
+        }
+    }
+
+    private static <T> BigDecimal sum(List<T> entries, Function<T, BigDecimal> amount) {
+        return entries.stream().map(amount).reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
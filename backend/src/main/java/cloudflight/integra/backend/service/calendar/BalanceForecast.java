@@ -0,0 +1,77 @@
+package cloudflight.integra.backend.service.calendar;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.ForecastMonthDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Projects a user's balance month by month. Every expense and income is walked with its own
+ * occurrence iterator from the day after {@code today} to the end of the last month, so nothing is
+ * materialized beyond one date per entry, and the cost grows with the number of entries times the
+ * number of occurrences inside the window.
+ */
+public final class BalanceForecast {
+
+    private BalanceForecast() {}
+
+    /**
+     * @param openingBalance the balance at the end of {@code today}
+     * @param today the last day already accounted for in {@code openingBalance}
+     * @param months the number of months to project, starting with the rest of the current month
+     * @param expenses the user's expenses that may still occur after {@code today}
+     * @param incomes the user's incomes that may still occur after {@code today}
+     * @return one entry per month, the current month first
+     */
+    public static List<ForecastMonthDTO> project(
+            BigDecimal openingBalance,
+            LocalDate today,
+            int months,
+            List<ExpenseDTO> expenses,
+            List<IncomeDTO> incomes) {
+        YearMonth first = YearMonth.from(today);
+        LocalDate last = first.plusMonths(months - 1L).atEndOfMonth();
+        BigDecimal[] expenseTotals = zeros(months);
+        BigDecimal[] incomeTotals = zeros(months);
+        for (ExpenseDTO expense : expenses) {
+            accumulate(OccurrenceSchedule.of(expense), today, last, first, expenseTotals);
+        }
+        for (IncomeDTO income : incomes) {
+            accumulate(OccurrenceSchedule.of(income), today, last, first, incomeTotals);
+        }
+
+        List<ForecastMonthDTO> forecast = new ArrayList<>(months);
+        BigDecimal balance = openingBalance;
+        for (int i = 0; i < months; i++) {
+            balance = balance.add(incomeTotals[i]).subtract(expenseTotals[i]);
+            forecast.add(new ForecastMonthDTO(first.plusMonths(i), incomeTotals[i], expenseTotals[i], balance));
+        }
+        return forecast;
+    }
+
+    private static void accumulate(
+            OccurrenceSchedule schedule, LocalDate today, LocalDate last, YearMonth first, BigDecimal[] totals) {
+        Iterator<LocalDate> occurrences = schedule.occurrencesAfter(today);
+        while (occurrences.hasNext()) {
+            LocalDate date = occurrences.next();
+            if (date.isAfter(last)) {
+                return;
+            }
+            int month = (int) ChronoUnit.MONTHS.between(first, YearMonth.from(date));
+            totals[month] = totals[month].add(schedule.getAmount());
+        }
+    }
+
+    private static BigDecimal[] zeros(int months) {
+        BigDecimal[] totals = new BigDecimal[months];
+        Arrays.fill(totals, BigDecimal.ZERO);
+        return totals;
+    }
+}
@@ -0,0 +1,106 @@
+package cloudflight.integra.backend.service.calendar;
+
+import cloudflight.integra.backend.entity.LedgerKind;
+import java.time.LocalDate;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves the occurrence horizon forward. Recurring expenses and incomes are processed in chunks of
+ * ascending id; each chunk looks up its entries' latest occurrences and inserts the ones up to the new
+ * horizon in its own transaction, so a run only writes the days the horizon advanced by. Entries whose
+ * later occurrences were never materialized, such as those migrated from before the calendar existed,
+ * are filled in from their start. Runs on the cron expression {@code calendar.horizon.cron}, daily by
+ * default.
+ *
+ * <p>Every node runs the job. A chunk claims its entries with {@code SELECT ... FOR UPDATE SKIP LOCKED}
+ * in the transaction that writes their occurrences, so it extends the schedule it just read: entries
+ * claimed by a run on another node, or being edited, are skipped, and an edit waits until the chunk
+ * has committed before it replaces the occurrences. Occurrences that already exist are left alone.
+ */
+@Component
+public class OccurrenceHorizonJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OccurrenceHorizonJob.class);
+
+    private static final String CLAIM_EXPENSES_SQL = "SELECT id, user_id, amount, date, frequency, end_date"
+            + " FROM expense WHERE id > ? AND frequency <> 'ONE_TIME'"
+            + " ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String CLAIM_INCOMES_SQL = "SELECT id, user_id, amount, date, frequency, end_date"
+            + " FROM incomes WHERE id > ? AND frequency <> 'ONE_TIME'"
+            + " ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OccurrenceWriter occurrences;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OccurrenceHorizonJob(
+            JdbcTemplate jdbcTemplate,
+            OccurrenceWriter occurrences,
+            PlatformTransactionManager transactionManager,
+            @Value("${calendar.horizon.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.occurrences = occurrences;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Materializes the occurrences of all recurring entries up to today's horizon.
+     *
+     * @return the number of recurring entries processed by this node
+     */
+    @Scheduled(cron = "${calendar.horizon.cron:0 0 3 * * *}")
+    public int extendAll() {
+        return extendAll(occurrences.horizon());
+    }
+
+    /**
+     * Materializes the occurrences of all recurring entries up to the given day.
+     *
+     * @param until the new horizon, inclusive
+     * @return the number of recurring entries processed by this node
+     */
+    public int extendAll(LocalDate until) {
+        int processed = extend(LedgerKind.EXPENSE, CLAIM_EXPENSES_SQL, until)
+                + extend(LedgerKind.INCOME, CLAIM_INCOMES_SQL, until);
+        log.info("Extended the occurrences of {} recurring entries until {}", processed, until);
+        return processed;
+    }
+
+    private int extend(LedgerKind kind, String claimSql, LocalDate until) {
+        RowMapper<OccurrenceSchedule> schedule = (rs, rowNum) -> new OccurrenceSchedule(
+                kind,
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                rs.getBigDecimal("amount"),
+                OccurrenceSchedule.toLocalDate(rs.getDate("date")),
+                rs.getString("frequency"),
+                OccurrenceSchedule.toLocalDate(rs.getDate("end_date")));
+        int processed = 0;
+        long afterId = 0;
+        List<OccurrenceSchedule> chunk;
+        do {
+            long after = afterId;
+            chunk = transactionTemplate.execute(status -> {
+                List<OccurrenceSchedule> claimed = jdbcTemplate.query(claimSql, schedule, after, chunkSize);
+                occurrences.extend(kind, claimed, until);
+                return claimed;
+            });
+            if (!chunk.isEmpty()) {
+                processed += chunk.size();
+                afterId = chunk.get(chunk.size() - 1).getSourceId();
+            }
+        } while (!chunk.isEmpty());
+        return processed;
+    }
+}
@@ -0,0 +1,179 @@
+package cloudflight.integra.backend.service.calendar;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.entity.LedgerKind;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The dates on which one expense or income occurs. The n-th occurrence is computed from the entry's
+ * own date rather than from the previous occurrence, so a monthly entry on the 31st falls on the last
+ * day of shorter months and returns to the 31st afterwards.
+ */
+final class OccurrenceSchedule {
+
+    private final LedgerKind kind;
+    private final Long sourceId;
+    private final Long userId;
+    private final BigDecimal amount;
+    private final LocalDate start;
+    /** Months between occurrences, {@code 0} for a one-time entry. */
+    private final int stepMonths;
+
+    private final LocalDate end;
+
+    /**
+     * @param frequency the name of the entry's frequency; expenses and incomes have separate enums
+     *     with the same constants
+     * @param end the last day an occurrence may fall on, {@code null} if the entry recurs indefinitely
+     */
+    OccurrenceSchedule(
+            LedgerKind kind,
+            Long sourceId,
+            Long userId,
+            BigDecimal amount,
+            LocalDate start,
+            String frequency,
+            LocalDate end) {
+        this.kind = kind;
+        this.sourceId = sourceId;
+        this.userId = userId;
+        this.amount = amount;
+        this.start = start;
+        this.stepMonths = switch (frequency) {
+            case "MONTHLY" -> 1;
+            case "YEARLY" -> 12;
+            default -> 0;
+        };
+        this.end = end;
+    }
+
+    static OccurrenceSchedule of(ExpenseDTO expense) {
+        return new OccurrenceSchedule(
+                LedgerKind.EXPENSE,
+                expense.getId(),
+                expense.getUserId(),
+                expense.getAmount(),
+                expense.getDate(),
+                expense.getFrequency().name(),
+                expense.getEndDate());
+    }
+
+    static OccurrenceSchedule of(IncomeDTO income) {
+        return new OccurrenceSchedule(
+                LedgerKind.INCOME,
+                income.getId(),
+                income.getUserId(),
+                income.getAmount(),
+                toLocalDate(income.getDate()),
+                income.getFrequency().name(),
+                toLocalDate(income.getEndDate()));
+    }
+
+    LedgerKind getKind() {
+        return kind;
+    }
+
+    Long getSourceId() {
+        return sourceId;
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    BigDecimal getAmount() {
+        return amount;
+    }
+
+    /**
+     * Lists the occurrences after {@code after} up to {@code until}. The entry's own date is always an
+     * occurrence, even beyond {@code until}; the later ones stop at the horizon and at the end date.
+     *
+     * @param after the latest occurrence already materialized, exclusive; {@code null} if none is
+     * @param until the horizon, inclusive
+     * @return the new occurrences in ascending order
+     */
+    List<LocalDate> datesAfter(LocalDate after, LocalDate until) {
+        List<LocalDate> dates = new ArrayList<>();
+        if (after == null) {
+            dates.add(start);
+        }
+        if (stepMonths == 0) {
+            return dates;
+        }
+        LocalDate last = end != null && end.isBefore(until) ? end : until;
+        // Skips the periods before the latest materialized occurrence without walking through them
+        long n = after == null ? 1 : Math.max(1, ChronoUnit.MONTHS.between(start, after) / stepMonths);
+        for (LocalDate date = occurrence(n); !date.isAfter(last); date = occurrence(++n)) {
+            if (after == null || date.isAfter(after)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Iterates over the occurrences after {@code after} without collecting them; an entry without end
+     * date yields occurrences indefinitely, so the caller stops once it is past the days it needs.
+     *
+     * @param after the day after which occurrences are wanted, exclusive
+     * @return the occurrences in ascending order, computed one at a time
+     */
+    Iterator<LocalDate> occurrencesAfter(LocalDate after) {
+        long first = stepMonths == 0 || !start.isBefore(after)
+                ? 0
+                : Math.max(0, ChronoUnit.MONTHS.between(start, after) / stepMonths);
+        return new Iterator<>() {
+            private long n = first;
+            private LocalDate next = advance();
+
+            private LocalDate advance() {
+                for (; n == 0 || stepMonths != 0; n++) {
+                    LocalDate date = occurrence(n);
+                    // The entry's own date always occurs, like in datesAfter
+                    if (n > 0 && end != null && date.isAfter(end)) {
+                        return null;
+                    }
+                    if (date.isAfter(after)) {
+                        n++;
+                        return date;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public LocalDate next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                LocalDate date = next;
+                next = advance();
+                return date;
+            }
+        };
+    }
+
+    private LocalDate occurrence(long n) {
+        return start.plusMonths(n * stepMonths);
+    }
+
+    /** {@code java.sql.Date} does not support {@link java.util.Date#toInstant()}, so go through the epoch millis. */
+    static LocalDate toLocalDate(java.util.Date date) {
+        return date == null ? null : LocalDate.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+    }
+}
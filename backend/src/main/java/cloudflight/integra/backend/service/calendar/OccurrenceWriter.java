@@ -0,0 +1,196 @@
+package cloudflight.integra.backend.service.calendar;
+
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Income;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.LedgerOccurrence;
+import cloudflight.integra.backend.repository.LedgerOccurrenceRepository;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps {@code ledger_occurrence} in step with the expenses and incomes. Every create, update and
+ * delete replaces the entry's occurrences inside the caller's transaction: a new entry gets its
+ * occurrences up to the horizon, {@code calendar.horizon-months} ahead of today, and an update is
+ * applied as the removal of all old occurrences followed by the addition of the new ones. The horizon
+ * moves forward every day; {@link OccurrenceHorizonJob} adds the occurrences it uncovers.
+ *
+ * <p>The horizon job skips the occurrences that already exist, with {@code INSERT ... ON CONFLICT DO
+ * NOTHING} on PostgreSQL and a {@code MERGE} elsewhere, which is repeated when it loses the race to the
+ * primary key as in {@code MonthlyRollupWriter}.
+ */
+@Component
+public class OccurrenceWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO ledger_occurrence"
+            + " (kind, source_id, occurrence_date, user_id, amount) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_MISSING_SQL =
+            INSERT_SQL + " ON CONFLICT (kind, source_id, occurrence_date) DO NOTHING";
+
+    private static final String MERGE_SQL = "MERGE INTO ledger_occurrence o"
+            + " USING (VALUES (?, ?, ?, ?, ?)) AS d (kind, source_id, occurrence_date, user_id, amount)"
+            + " ON o.kind = d.kind AND o.source_id = d.source_id AND o.occurrence_date = d.occurrence_date"
+            + " WHEN NOT MATCHED THEN INSERT (kind, source_id, occurrence_date, user_id, amount)"
+            + " VALUES (d.kind, d.source_id, d.occurrence_date, d.user_id, d.amount)";
+
+    private static final int MERGE_ATTEMPTS = 3;
+
+    private final LedgerOccurrenceRepository occurrenceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int horizonMonths;
+    private final boolean onConflict;
+
+    public OccurrenceWriter(
+            LedgerOccurrenceRepository occurrenceRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${calendar.horizon-months:12}") int horizonMonths) {
+        this.occurrenceRepository = occurrenceRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.horizonMonths = horizonMonths;
+        this.onConflict = databaseDriver(jdbcTemplate) == DatabaseDriver.POSTGRESQL;
+    }
+
+    /** The last day up to which recurring entries are materialized today. */
+    public LocalDate horizon() {
+        return LocalDate.now().plusMonths(horizonMonths);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Expense expense) {
+        addedExpenses(expense.getUser().getId(), List.of(expense));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Expense expense) {
+        occurrenceRepository.deleteBySources(LedgerKind.EXPENSE, List.of(expense.getId()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Income income) {
+        addedIncomes(income.getUser().getId(), List.of(income));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Income income) {
+        occurrenceRepository.deleteBySources(LedgerKind.INCOME, List.of(income.getId()));
+    }
+
+    /** Inserts the occurrences of a batch of new expenses of one user in one JDBC batch. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedExpenses(Long userId, List<Expense> expenses) {
+        insert(rows(expenses.stream().map(e -> schedule(userId, e)).toList(), Map.of(), horizon()));
+    }
+
+    /** Inserts the occurrences of a batch of new incomes of one user in one JDBC batch. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedIncomes(Long userId, List<Income> incomes) {
+        insert(rows(incomes.stream().map(i -> schedule(userId, i)).toList(), Map.of(), horizon()));
+    }
+
+    /**
+     * Adds the occurrences of recurring entries of one kind between their latest materialized
+     * occurrence and {@code until}, skipping those that exist already.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    void extend(LedgerKind kind, List<OccurrenceSchedule> schedules, LocalDate until) {
+        if (schedules.isEmpty()) {
+            return;
+        }
+        Map<Long, LocalDate> latest =
+                occurrenceRepository
+                        .findLatest(
+                                kind,
+                                schedules.stream()
+                                        .map(OccurrenceSchedule::getSourceId)
+                                        .toList())
+                        .stream()
+                        .collect(Collectors.toMap(LedgerOccurrence::getSourceId, LedgerOccurrence::getDate));
+        List<Object[]> rows = rows(schedules, latest, until);
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (onConflict) {
+            jdbcTemplate.batchUpdate(INSERT_MISSING_SQL, rows);
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(MERGE_SQL, rows);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MERGE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+    }
+
+    private static List<Object[]> rows(
+            List<OccurrenceSchedule> schedules, Map<Long, LocalDate> latest, LocalDate until) {
+        List<Object[]> rows = new ArrayList<>();
+        for (OccurrenceSchedule schedule : schedules) {
+            for (LocalDate date : schedule.datesAfter(latest.get(schedule.getSourceId()), until)) {
+                rows.add(new Object[] {
+                    schedule.getKind().name(),
+                    schedule.getSourceId(),
+                    Date.valueOf(date),
+                    schedule.getUserId(),
+                    schedule.getAmount()
+                });
+            }
+        }
+        return rows;
+    }
+
+    private static OccurrenceSchedule schedule(Long userId, Expense expense) {
+        return new OccurrenceSchedule(
+                LedgerKind.EXPENSE,
+                expense.getId(),
+                userId,
+                expense.getAmount(),
+                expense.getDate(),
+                expense.getFrequency().name(),
+                expense.getEndDate());
+    }
+
+    private static OccurrenceSchedule schedule(Long userId, Income income) {
+        return new OccurrenceSchedule(
+                LedgerKind.INCOME,
+                income.getId(),
+                userId,
+                income.getAmount(),
+                OccurrenceSchedule.toLocalDate(income.getDate()),
+                income.getFrequency().name(),
+                OccurrenceSchedule.toLocalDate(income.getEndDate()));
+    }
+
+    private static DatabaseDriver databaseDriver(JdbcTemplate jdbcTemplate) {
+        try {
+            return DatabaseDriver.fromProductName(JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database of the occurrence calendar", e);
+        }
+    }
+}
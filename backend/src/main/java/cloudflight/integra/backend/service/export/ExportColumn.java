@@ -0,0 +1,31 @@
+package cloudflight.integra.backend.service.export;
+
+import java.util.function.Function;
+
+/**
+ * A named CSV column and the accessor reading its value from a row.
+ *
+ * @param <T> the type of the exported rows
+ */
+public final class ExportColumn<T> {
+
+    private final String header;
+    private final Function<T, ?> value;
+
+    private ExportColumn(String header, Function<T, ?> value) {
+        this.header = header;
+        this.value = value;
+    }
+
+    public static <T> ExportColumn<T> of(String header, Function<T, ?> value) {
+        return new ExportColumn<>(header, value);
+    }
+
+    public String getHeader() {
+        return header;
+    }
+
+    public Object valueOf(T row) {
+        return value.apply(row);
+    }
+}
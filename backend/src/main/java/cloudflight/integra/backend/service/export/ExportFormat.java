@@ -0,0 +1,44 @@
+package cloudflight.integra.backend.service.export;
+
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import org.springframework.http.MediaType;
+
+/** Formats supported by the ledger export and import endpoints. */
+public enum ExportFormat {
+    /** One JSON object per line. */
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    /** RFC 4180 comma separated values with a header row. */
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolves the format requested by a client.
+     *
+     * @param name the format name, case-insensitive
+     * @return the matching format
+     * @throws ValidationException if the format is not supported
+     */
+    public static ExportFormat from(String name) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new ValidationException("Unsupported format: " + name);
+    }
+}
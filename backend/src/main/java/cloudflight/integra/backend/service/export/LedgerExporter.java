@@ -0,0 +1,47 @@
+package cloudflight.integra.backend.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes a stream of DTOs to an export. The repositories project their export streams straight into
+ * DTOs, so nothing is added to the persistence context and neither the session nor the heap grows
+ * with the number of exported rows. Must be called inside the transaction that opened the stream.
+ */
+@Component
+public class LedgerExporter {
+
+    private final ObjectMapper objectMapper;
+
+    public LedgerExporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Exports all rows of the stream.
+     *
+     * @param rows the rows to export, typically a repository stream
+     * @param format the output format
+     * @param columns the CSV columns of the rows
+     * @param out the target stream, flushed but not closed
+     * @return the number of exported rows
+     * @throws IOException if writing to the target fails
+     */
+    public <T> long export(Stream<T> rows, ExportFormat format, List<ExportColumn<T>> columns, OutputStream out)
+            throws IOException {
+        RowExporter<T> exporter = RowExporter.open(format, out, objectMapper, columns);
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            exporter.write(iterator.next());
+            count++;
+        }
+        exporter.finish();
+        return count;
+    }
+}
@@ -0,0 +1,119 @@
+package cloudflight.integra.backend.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes rows one at a time to an {@link OutputStream} in a given {@link ExportFormat}. Nothing is
+ * retained between rows, so an export needs the same memory for ten rows as for ten million. The
+ * target stream is flushed by {@link #finish()} but never closed; it belongs to the caller.
+ *
+ * @param <T> the type of the exported rows
+ */
+public abstract class RowExporter<T> {
+
+    /**
+     * Opens an exporter and writes the format's preamble, if any.
+     *
+     * @param format the output format
+     * @param out the target stream
+     * @param objectMapper the mapper used for NDJSON rows
+     * @param columns the columns written for CSV rows, in order
+     * @return the exporter
+     * @throws IOException if the preamble cannot be written
+     */
+    public static <T> RowExporter<T> open(
+            ExportFormat format, OutputStream out, ObjectMapper objectMapper, List<ExportColumn<T>> columns)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExporter<>(out, objectMapper);
+            case CSV -> new CsvExporter<>(out, columns);
+        };
+    }
+
+    public abstract void write(T row) throws IOException;
+
+    public abstract void finish() throws IOException;
+
+    private static final class NdjsonExporter<T> extends RowExporter<T> {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        NdjsonExporter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvExporter<T> extends RowExporter<T> {
+
+        private final Writer writer;
+        private final List<ExportColumn<T>> columns;
+
+        CsvExporter(OutputStream out, List<ExportColumn<T>> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+            for (int i = 0; i < columns.size(); i++) {
+                writeField(i, columns.get(i).getHeader());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                writeField(i, columns.get(i).valueOf(row));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private void writeField(int index, Object value) throws IOException {
+            if (index > 0) {
+                writer.write(',');
+            }
+            if (value == null) {
+                return;
+            }
+            String text = value instanceof Date date
+                    ? Instant.ofEpochMilli(date.getTime()).toString()
+                    : value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package cloudflight.integra.backend.service.ids;
+
+import cloudflight.integra.backend.entity.IdSequences;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reserves ids for rows that are inserted with plain JDBC instead of through JPA. Ids are taken from
+ * the entity's {@link IdSequences sequence} in the same blocks Hibernate's pooled optimizer uses, so
+ * they never collide with ids assigned by JPA, and one sequence call serves up to
+ * {@link IdSequences#ALLOCATION_SIZE} rows. Ids left over in the last block are not reused.
+ */
+@Component
+public class PooledIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reserves ids for a number of new rows.
+     *
+     * @param sequence one of the {@link IdSequences} names
+     * @param count the number of ids to reserve
+     * @return {@code count} distinct ids in ascending order
+     */
+    public long[] allocate(String sequence, int count) {
+        // The name is one of our constants, never user input; nextval takes it as a literal in both dialects
+        String sql = "SELECT nextval('" + sequence + "')";
+        long[] ids = new long[count];
+        int next = 0;
+        while (next < count) {
+            long high = jdbcTemplate.queryForObject(sql, Long.class);
+            // A fresh sequence returns its start value 1 first, which only owns id 1
+            for (long id = Math.max(1, high - IdSequences.ALLOCATION_SIZE + 1); id <= high && next < count; id++) {
+                ids[next++] = id;
+            }
+        }
+        return ids;
+    }
+}
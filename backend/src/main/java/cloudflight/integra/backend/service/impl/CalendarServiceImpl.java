@@ -0,0 +1,24 @@
+package cloudflight.integra.backend.service.impl;
+
+import cloudflight.integra.backend.dto.CalendarDTO;
+import cloudflight.integra.backend.repository.LedgerOccurrenceRepository;
+import cloudflight.integra.backend.service.CalendarService;
+import java.time.YearMonth;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CalendarServiceImpl implements CalendarService {
+
+    private final LedgerOccurrenceRepository occurrenceRepository;
+
+    public CalendarServiceImpl(LedgerOccurrenceRepository occurrenceRepository) {
+        this.occurrenceRepository = occurrenceRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CalendarDTO getCalendar(Long userId, YearMonth month) {
+        return new CalendarDTO(month, occurrenceRepository.sumByDay(userId, month.atDay(1), month.atEndOfMonth()));
+    }
+}
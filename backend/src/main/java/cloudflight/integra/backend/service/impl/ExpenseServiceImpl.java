@@ -2,30 +2,99 @@ package cloudflight.integra.backend.service.impl;
 
 import static cloudflight.integra.backend.mapper.ExpenseMapper.toDTO;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.ImportResultDTO;
 import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.IdSequences;
 import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.entity.VersionedResource;
 import cloudflight.integra.backend.entity.validation.ExpenseValidator;
 import cloudflight.integra.backend.exception.NotFoundException;
 import cloudflight.integra.backend.mapper.ExpenseMapper;
 import cloudflight.integra.backend.repository.ExpenseRepository;
 import cloudflight.integra.backend.repository.UserRepository;
 import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.ServiceMetrics;
+import cloudflight.integra.backend.service.balance.BalanceWriter;
+import cloudflight.integra.backend.service.calendar.OccurrenceWriter;
+import cloudflight.integra.backend.service.export.ExportColumn;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import cloudflight.integra.backend.service.export.LedgerExporter;
+import cloudflight.integra.backend.service.imports.ImportRow;
+import cloudflight.integra.backend.service.imports.ImportTarget;
+import cloudflight.integra.backend.service.imports.LedgerImporter;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupWriter;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(ServiceMetrics.CALLS)
+@Counted(value = ServiceMetrics.ERRORS, recordFailuresOnly = true)
 public class ExpenseServiceImpl implements ExpenseService {
 
+    private static final List<ExportColumn<ExpenseDTO>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", ExpenseDTO::getId),
+            ExportColumn.of("date", ExpenseDTO::getDate),
+            ExportColumn.of("amount", ExpenseDTO::getAmount),
+            ExportColumn.of("category", ExpenseDTO::getCategory),
+            ExportColumn.of("description", ExpenseDTO::getDescription),
+            ExportColumn.of("frequency", ExpenseDTO::getFrequency),
+            ExportColumn.of("endDate", ExpenseDTO::getEndDate),
+            ExportColumn.of("nextDueDate", ExpenseDTO::getNextDueDate),
+            ExportColumn.of("paymentMethod", ExpenseDTO::getPaymentMethod));
+
+    private static final String IMPORT_SQL = "INSERT INTO expense (id, user_id, amount, category, date, description,"
+            + " frequency, end_date, next_due_date, payment_method) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final ExpenseRepository expenseRepository;
     private final ExpenseValidator expenseValidator;
     private final UserRepository userRepository;
+    private final LedgerExporter ledgerExporter;
+    private final MonthlyRollupWriter monthlyRollup;
+    private final BalanceWriter balances;
+    private final OccurrenceWriter occurrences;
+    private final LedgerImporter ledgerImporter;
+    private final ResourceVersions resourceVersions;
 
     public ExpenseServiceImpl(
-            ExpenseRepository expenseRepository, ExpenseValidator expenseValidator, UserRepository userRepository) {
+            ExpenseRepository expenseRepository,
+            ExpenseValidator expenseValidator,
+            UserRepository userRepository,
+            LedgerExporter ledgerExporter,
+            MonthlyRollupWriter monthlyRollup,
+            BalanceWriter balances,
+            OccurrenceWriter occurrences,
+            LedgerImporter ledgerImporter,
+            ResourceVersions resourceVersions) {
         this.expenseRepository = expenseRepository;
         this.expenseValidator = expenseValidator;
         this.userRepository = userRepository;
+        this.ledgerExporter = ledgerExporter;
+        this.monthlyRollup = monthlyRollup;
+        this.balances = balances;
+        this.occurrences = occurrences;
+        this.ledgerImporter = ledgerImporter;
+        this.resourceVersions = resourceVersions;
     }
 
     @Override
@@ -41,22 +110,131 @@ public class ExpenseServiceImpl implements ExpenseService {
         expenseValidator.validate(expense);
 
         Expense savedExpense = expenseRepository.save(expense);
+        monthlyRollup.added(savedExpense);
+        balances.added(savedExpense);
+        occurrences.added(savedExpense);
+        resourceVersions.bump(user.getId(), VersionedResource.EXPENSES);
         return toDTO(savedExpense);
     }
 
+    @Override
+    @Transactional
+    public List<ExpenseDTO> createExpenses(List<ExpenseDTO> dtos) {
+        List<Expense> expenses = ExpenseMapper.toEntityList(dtos);
+        expenseValidator.validateAll(expenses);
+        Map<Long, User> users = userRepository.findAllByIdOrThrow(
+                dtos.stream().map(ExpenseDTO::getUserId).toList());
+        for (int i = 0; i < expenses.size(); i++) {
+            expenses.get(i).setUser(users.get(dtos.get(i).getUserId()));
+        }
+
+        // Ids come from a pooled sequence, so the inserts are flushed as JDBC batches
+        List<Expense> saved = expenseRepository.saveAll(expenses);
+        // In user id order, so concurrent batches lock the users' balance rows in the same order
+        saved.stream()
+                .collect(Collectors.groupingBy(expense -> expense.getUser().getId(), TreeMap::new, Collectors.toList()))
+                .forEach((userId, userExpenses) -> {
+                    monthlyRollup.addedExpenses(userId, userExpenses);
+                    balances.addedExpenses(userId, userExpenses);
+                    occurrences.addedExpenses(userId, userExpenses);
+                });
+        resourceVersions.bump(users.keySet(), VersionedResource.EXPENSES);
+        return ExpenseMapper.toDTOList(saved);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public Iterable<ExpenseDTO> getAllExpenses() {
-        return ExpenseMapper.toDTOList(expenseRepository.findAll());
+    public CursorPage<ExpenseDTO> getAllExpenses(Long userId, String cursor, int limit) {
+        Limit fetchLimit = KeysetCursor.fetchLimit(limit);
+        List<ExpenseDTO> rows;
+        if (cursor == null) {
+            rows = expenseRepository.findPageByUserId(userId, fetchLimit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = expenseRepository.findPageByUserIdAfter(
+                    userId, LocalDate.ofEpochDay(after.getSortKey()), after.getId(), fetchLimit);
+        }
+        return KeysetCursor.page(
+                rows,
+                limit,
+                Function.identity(),
+                e -> new KeysetCursor(e.getDate().toEpochDay(), e.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public ExpenseDTO getExpense(Long id) {
-        Expense expense = expenseRepository
-                .findById(id)
+    public void exportExpenses(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ExpenseDTO> rows = expenseRepository.streamAllByUserId(userId)) {
+            ledgerExporter.export(rows, format, EXPORT_COLUMNS, out);
+        }
+    }
+
+    @Override
+    public ImportResultDTO importExpenses(Long userId, ExportFormat format, InputStream in) throws IOException {
+        return ledgerImporter.importRows(format, in, new ImportTarget<Expense>() {
+            @Override
+            public Expense parse(ImportRow row) {
+                Expense expense = new Expense(
+                        null,
+                        userId,
+                        row.decimal("amount"),
+                        row.text("category"),
+                        row.localDate("date"),
+                        row.text("description"),
+                        row.enumValue("frequency", Expense.Frequency.class),
+                        row.localDate("endDate"),
+                        row.localDate("nextDueDate"),
+                        row.enumValue("paymentMethod", Expense.PaymentMethod.class));
+                row.requireValid();
+                expenseValidator.validate(expense);
+                return expense;
+            }
+
+            @Override
+            public String idSequence() {
+                return IdSequences.EXPENSE;
+            }
+
+            @Override
+            public void assignId(Expense expense, long id) {
+                expense.setId(id);
+            }
+
+            @Override
+            public String insertSql() {
+                return IMPORT_SQL;
+            }
+
+            @Override
+            public void bind(PreparedStatement ps, Expense expense) throws SQLException {
+                ps.setLong(1, expense.getId());
+                ps.setLong(2, expense.getUserId());
+                ps.setBigDecimal(3, expense.getAmount());
+                ps.setString(4, expense.getCategory());
+                ps.setObject(5, expense.getDate());
+                ps.setString(6, expense.getDescription());
+                ps.setString(7, expense.getFrequency().name());
+                ps.setObject(8, expense.getEndDate(), Types.DATE);
+                ps.setObject(9, expense.getNextDueDate(), Types.DATE);
+                ps.setString(10, expense.getPaymentMethod().name());
+            }
+
+            @Override
+            public void inserted(List<Expense> expenses) {
+                monthlyRollup.addedExpenses(userId, expenses);
+                balances.addedExpenses(userId, expenses);
+                occurrences.addedExpenses(userId, expenses);
+                resourceVersions.bump(userId, VersionedResource.EXPENSES);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ExpenseDTO getExpense(Long id, Long userId) {
+        return expenseRepository
+                .findDTOByIdAndUserId(id, userId)
                 .orElseThrow(() -> new NotFoundException("Expense with id " + id + " not found"));
-        return toDTO(expense);
     }
 
     @Override
@@ -73,18 +251,39 @@ public class ExpenseServiceImpl implements ExpenseService {
         Expense expense = ExpenseMapper.toEntity(expenseDTO);
         expense.setUser(user);
         expense.setId(existingExpense.getId());
+        // The DTO does not carry the payment; without it the merge would orphan-remove it
+        expense.setPayment(existingExpense.getPayment());
 
         expenseValidator.validate(expense);
 
-        expenseRepository.save(expense);
+        // Saving merges into the managed existing expense, so its old values must be rolled out first
+        Long previousUserId = existingExpense.getUser().getId();
+        BigDecimal previousAmount = existingExpense.getAmount();
+        monthlyRollup.removed(existingExpense);
+        occurrences.removed(existingExpense);
+        Expense savedExpense = expenseRepository.save(expense);
+        monthlyRollup.added(savedExpense);
+        balances.updated(previousUserId, previousAmount, savedExpense);
+        occurrences.added(savedExpense);
+        resourceVersions.bump(List.of(previousUserId, user.getId()), VersionedResource.EXPENSES);
+        if (!previousUserId.equals(user.getId())) {
+            // The expense's payment moves to the other user's payments along with it
+            resourceVersions.bump(List.of(previousUserId, user.getId()), VersionedResource.PAYMENTS);
+        }
     }
 
     @Override
     @Transactional
     public void deleteExpense(Long id) {
-        if (!expenseRepository.existsById(id)) {
-            throw new NotFoundException("Expense with id " + id + " not found");
-        }
+        Expense expense = expenseRepository
+                .findById(id)
+                .orElseThrow(() -> new NotFoundException("Expense with id " + id + " not found"));
+        monthlyRollup.removed(expense);
+        balances.removed(expense);
+        occurrences.removed(expense);
+        // The expense's payment is deleted with it
+        resourceVersions.bump(expense.getUser().getId(), VersionedResource.EXPENSES);
+        resourceVersions.bump(expense.getUser().getId(), VersionedResource.PAYMENTS);
         expenseRepository.deleteById(id);
     }
 }
@@ -0,0 +1,120 @@
+package cloudflight.integra.backend.service.impl;
+
+import cloudflight.integra.backend.dto.ForecastDTO;
+import cloudflight.integra.backend.dto.ForecastMonthDTO;
+import cloudflight.integra.backend.entity.VersionedResource;
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import cloudflight.integra.backend.repository.ExpenseRepository;
+import cloudflight.integra.backend.repository.IncomeRepository;
+import cloudflight.integra.backend.repository.LedgerOccurrenceRepository;
+import cloudflight.integra.backend.repository.SavingRepository;
+import cloudflight.integra.backend.service.ForecastService;
+import cloudflight.integra.backend.service.calendar.BalanceForecast;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Computes forecasts and caches them per user and number of months. A cached forecast is served only
+ * while the day and the version stamps of the user's expenses, incomes and savings are the ones it was
+ * computed for; every write bumps a stamp, so a write on any node invalidates the forecasts of its user.
+ *
+ * <p>The opening balance follows {@code users.balance} in setting savings aside: it is the incomes minus
+ * the expenses that occurred up to today, recurring ones counted once per occurrence, minus the savings
+ * dated up to today. Savings are not projected, as they cannot be dated in the future. Unlike
+ * {@code users.balance}, which counts every entry once on the day it is written, the forecast takes an
+ * entry into account on the days it occurs.
+ */
+@Service
+public class ForecastServiceImpl implements ForecastService, MeterBinder {
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final LedgerOccurrenceRepository occurrenceRepository;
+    private final SavingRepository savingRepository;
+    private final ResourceVersions versions;
+    private final Cache<Key, Cached> cache;
+    private final int maxMonths;
+
+    public ForecastServiceImpl(
+            ExpenseRepository expenseRepository,
+            IncomeRepository incomeRepository,
+            LedgerOccurrenceRepository occurrenceRepository,
+            SavingRepository savingRepository,
+            ResourceVersions versions,
+            @Value("${forecast.cache.max-size:10000}") long maxSize,
+            @Value("${forecast.max-months:120}") int maxMonths) {
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.occurrenceRepository = occurrenceRepository;
+        this.savingRepository = savingRepository;
+        this.versions = versions;
+        this.cache = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+        this.maxMonths = maxMonths;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ForecastDTO getForecast(Long userId, int months) {
+        if (months < 1 || months > maxMonths) {
+            throw new ValidationException("'months' must be between 1 and " + maxMonths);
+        }
+        LocalDate today = LocalDate.now();
+        // The stamps are read before the entries, so a concurrent write leaves the entry with an older
+        // stamp than its content and the next request computes the forecast again
+        long expensesVersion = versions.current(userId, VersionedResource.EXPENSES);
+        long incomesVersion = versions.current(userId, VersionedResource.INCOMES);
+        long savingsVersion = versions.current(userId, VersionedResource.SAVINGS);
+        Key key = new Key(userId, months);
+        Cached cached = cache.getIfPresent(key);
+        if (cached != null && cached.isCurrent(today, expensesVersion, incomesVersion, savingsVersion)) {
+            return cached.forecast();
+        }
+
+        Date startOfToday = Date.from(today.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        Date startOfTomorrow =
+                Date.from(today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+        BigDecimal openingBalance = occurrenceRepository
+                .balanceAt(userId, today)
+                .subtract(savingRepository.sumBefore(userId, startOfTomorrow));
+        List<ForecastMonthDTO> projected = BalanceForecast.project(
+                openingBalance,
+                today,
+                months,
+                expenseRepository.findOccurringAfter(userId, today),
+                incomeRepository.findOccurringAfter(userId, startOfToday));
+        ForecastDTO forecast = new ForecastDTO(today, openingBalance, projected);
+        cache.put(key, new Cached(today, expensesVersion, incomesVersion, savingsVersion, forecast));
+        return forecast;
+    }
+
+    /** Publishes size, hits, misses and evictions as {@code cache.*} meters tagged {@code cache=forecasts}. */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "forecasts");
+    }
+
+    private record Key(Long userId, int months) {}
+
+    private record Cached(
+            LocalDate asOf, long expensesVersion, long incomesVersion, long savingsVersion, ForecastDTO forecast) {
+
+        boolean isCurrent(LocalDate today, long expenses, long incomes, long savings) {
+            return asOf.equals(today)
+                    && expensesVersion == expenses
+                    && incomesVersion == incomes
+                    && savingsVersion == savings;
+        }
+    }
+}
@@ -1,26 +1,48 @@
 package cloudflight.integra.backend.service.impl;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.PaymentDTO;
+import cloudflight.integra.backend.entity.Expense;
 import cloudflight.integra.backend.entity.Payment;
+import cloudflight.integra.backend.entity.VersionedResource;
 import cloudflight.integra.backend.entity.validation.PaymentValidator;
 import cloudflight.integra.backend.exception.NotFoundException;
 import cloudflight.integra.backend.mapper.PaymentMapper;
+import cloudflight.integra.backend.repository.ExpenseRepository;
 import cloudflight.integra.backend.repository.PaymentRepository;
 import cloudflight.integra.backend.service.PaymentService;
+import cloudflight.integra.backend.service.ServiceMetrics;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 // varianta buna
 @Service
+@Timed(ServiceMetrics.CALLS)
+@Counted(value = ServiceMetrics.ERRORS, recordFailuresOnly = true)
 public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository dbPaymentRepository;
     private final PaymentValidator paymentValidator;
-
-    public PaymentServiceImpl(PaymentRepository dbPaymentRepository, PaymentValidator paymentValidator) {
+    private final ExpenseRepository expenseRepository;
+    private final ResourceVersions resourceVersions;
+
+    public PaymentServiceImpl(
+            PaymentRepository dbPaymentRepository,
+            PaymentValidator paymentValidator,
+            ExpenseRepository expenseRepository,
+            ResourceVersions resourceVersions) {
         this.dbPaymentRepository = dbPaymentRepository;
         this.paymentValidator = paymentValidator;
+        this.expenseRepository = expenseRepository;
+        this.resourceVersions = resourceVersions;
     }
 
     @Override
@@ -30,17 +52,28 @@ public class PaymentServiceImpl implements PaymentService {
 
         Payment payment = PaymentMapper.getFromDTO(paymentDTO);
         payment = dbPaymentRepository.save(payment);
+        changedPaymentsOf(List.of(paymentDTO.getExpenseId()));
 
         return PaymentMapper.getDTO(payment);
     }
 
+    @Override
+    @Transactional
+    public List<PaymentDTO> addPayments(List<PaymentDTO> paymentDTOs) {
+        paymentValidator.validateAll(paymentDTOs);
+
+        List<Payment> payments = dbPaymentRepository.saveAll(PaymentMapper.getPaymentsFromDto(paymentDTOs));
+        changedPaymentsOf(paymentDTOs.stream().map(PaymentDTO::getExpenseId).toList());
+
+        return PaymentMapper.getPaymentDTOsFromPayments(payments);
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public PaymentDTO getPaymentById(Long id) {
-        Payment payment = dbPaymentRepository
-                .findById(id)
+    public PaymentDTO getPaymentById(Long id, Long userId) {
+        return dbPaymentRepository
+                .findDTOByIdAndUserId(id, userId)
                 .orElseThrow(() -> new NotFoundException("Payment not found with id: " + id));
-        return PaymentMapper.getDTO(payment);
     }
 
     @Override
@@ -48,12 +81,19 @@ public class PaymentServiceImpl implements PaymentService {
     public PaymentDTO updatePayment(PaymentDTO paymentDTO) {
         paymentValidator.validate(paymentDTO);
 
-        if (!dbPaymentRepository.existsById(paymentDTO.getId())) {
-            throw new NotFoundException("Payment not found with id: " + paymentDTO.getId());
-        }
+        Expense previousExpense = dbPaymentRepository
+                .findById(paymentDTO.getId())
+                .orElseThrow(() -> new NotFoundException("Payment not found with id: " + paymentDTO.getId()))
+                .getExpense();
 
         Payment payment = PaymentMapper.getFromDTO(paymentDTO);
         payment = dbPaymentRepository.save(payment);
+        if (previousExpense.getId().equals(paymentDTO.getExpenseId())) {
+            // The payment's expense is loaded with it, so its owner needs no lookup
+            resourceVersions.bump(previousExpense.getUserId(), VersionedResource.PAYMENTS);
+        } else {
+            changedPaymentsOf(List.of(previousExpense.getId(), paymentDTO.getExpenseId()));
+        }
 
         return PaymentMapper.getDTO(payment);
     }
@@ -66,6 +106,7 @@ public class PaymentServiceImpl implements PaymentService {
                 .orElseThrow(() -> new NotFoundException("Payment not found with id: " + id));
 
         PaymentDTO responseDTO = PaymentMapper.getDTO(payment);
+        resourceVersions.bump(payment.getExpense().getUserId(), VersionedResource.PAYMENTS);
         int deletedRows = dbPaymentRepository.deletePaymentByIdUsingQuery(id);
 
         if (deletedRows == 0) {
@@ -76,8 +117,17 @@ public class PaymentServiceImpl implements PaymentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<PaymentDTO> getAllPayments() {
-        List<Payment> payments = dbPaymentRepository.findAll();
-        return PaymentMapper.getPaymentDTOsFromPayments(payments);
+    public CursorPage<PaymentDTO> getAllPayments(Long userId, String cursor, int limit) {
+        Limit fetchLimit = KeysetCursor.fetchLimit(limit);
+        List<PaymentDTO> payments = cursor == null
+                ? dbPaymentRepository.findPageByUserId(userId, fetchLimit)
+                : dbPaymentRepository.findPageByUserIdAfter(
+                        userId, KeysetCursor.decode(cursor).getId(), fetchLimit);
+        return KeysetCursor.page(payments, limit, Function.identity(), p -> new KeysetCursor(p.getId(), p.getId()));
+    }
+
+    /** Payments belong to the owners of their expenses. */
+    private void changedPaymentsOf(Collection<Long> expenseIds) {
+        resourceVersions.bump(expenseRepository.findUserIdsByIdIn(expenseIds), VersionedResource.PAYMENTS);
     }
 }
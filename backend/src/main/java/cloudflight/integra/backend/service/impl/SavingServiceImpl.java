@@ -1,24 +1,59 @@
 package cloudflight.integra.backend.service.impl;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.SavingDTO;
 import cloudflight.integra.backend.entity.Saving;
 import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.entity.VersionedResource;
 import cloudflight.integra.backend.entity.validation.SavingValidator;
 import cloudflight.integra.backend.exception.NotFoundException;
 import cloudflight.integra.backend.mapper.SavingMapper;
 import cloudflight.integra.backend.repository.SavingRepository;
 import cloudflight.integra.backend.repository.UserRepository;
 import cloudflight.integra.backend.service.SavingService;
-import java.util.ArrayList;
+import cloudflight.integra.backend.service.ServiceMetrics;
+import cloudflight.integra.backend.service.balance.BalanceWriter;
+import cloudflight.integra.backend.service.export.ExportColumn;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import cloudflight.integra.backend.service.export.LedgerExporter;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupWriter;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(ServiceMetrics.CALLS)
+@Counted(value = ServiceMetrics.ERRORS, recordFailuresOnly = true)
 public class SavingServiceImpl implements SavingService {
+
+    private static final List<ExportColumn<SavingDTO>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", SavingDTO::getId),
+            ExportColumn.of("date", SavingDTO::getDate),
+            ExportColumn.of("amount", SavingDTO::getAmount),
+            ExportColumn.of("goal", SavingDTO::getGoal),
+            ExportColumn.of("description", SavingDTO::getDescription));
+
     private final SavingRepository savingRepository;
     private final SavingValidator savingValidator;
     private final UserRepository userRepository;
+    private final LedgerExporter ledgerExporter;
+    private final MonthlyRollupWriter monthlyRollup;
+    private final BalanceWriter balances;
+    private final ResourceVersions resourceVersions;
 
     /**
      * Constructor for SavingService with Validatior and Repository
@@ -27,10 +62,20 @@ public class SavingServiceImpl implements SavingService {
      * @param savingValidator -
      */
     public SavingServiceImpl(
-            SavingRepository savingRepository, SavingValidator savingValidator, UserRepository userRepository) {
+            SavingRepository savingRepository,
+            SavingValidator savingValidator,
+            UserRepository userRepository,
+            LedgerExporter ledgerExporter,
+            MonthlyRollupWriter monthlyRollup,
+            BalanceWriter balances,
+            ResourceVersions resourceVersions) {
         this.savingRepository = savingRepository;
         this.savingValidator = savingValidator;
         this.userRepository = userRepository;
+        this.ledgerExporter = ledgerExporter;
+        this.monthlyRollup = monthlyRollup;
+        this.balances = balances;
+        this.resourceVersions = resourceVersions;
     }
 
     @Transactional
@@ -42,34 +87,81 @@ public class SavingServiceImpl implements SavingService {
                 .findById(savingDTO.getUserId())
                 .orElseThrow(() -> new NotFoundException("User", savingDTO.getUserId()));
         saving.setUser(user);
-        return SavingMapper.toDTO(savingRepository.save(saving));
+        Saving saved = savingRepository.save(saving);
+        monthlyRollup.added(saved);
+        balances.added(saved);
+        resourceVersions.bump(user.getId(), VersionedResource.SAVINGS);
+        return SavingMapper.toDTO(saved);
+    }
+
+    @Override
+    @Transactional
+    public List<SavingDTO> addSavings(List<SavingDTO> savingDTOs) {
+        List<Saving> savings = savingDTOs.stream().map(SavingMapper::toEntity).toList();
+        savingValidator.validateAll(savings);
+        Map<Long, User> users = userRepository.findAllByIdOrThrow(
+                savingDTOs.stream().map(SavingDTO::getUserId).toList());
+        for (int i = 0; i < savings.size(); i++) {
+            savings.get(i).setUser(users.get(savingDTOs.get(i).getUserId()));
+        }
+
+        List<Saving> saved = savingRepository.saveAll(savings);
+        // In user id order, so concurrent batches lock the users' balance rows in the same order
+        saved.stream()
+                .collect(Collectors.groupingBy(saving -> saving.getUser().getId(), TreeMap::new, Collectors.toList()))
+                .forEach((userId, userSavings) -> {
+                    monthlyRollup.addedSavings(userId, userSavings);
+                    balances.addedSavings(userId, userSavings);
+                });
+        resourceVersions.bump(users.keySet(), VersionedResource.SAVINGS);
+        return saved.stream().map(SavingMapper::toDTO).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<SavingDTO> getAllSavings(Long userId, String cursor, int limit) {
+        Limit fetchLimit = KeysetCursor.fetchLimit(limit);
+        List<SavingDTO> rows;
+        if (cursor == null) {
+            rows = savingRepository.findPageByUserId(userId, fetchLimit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = savingRepository.findPageByUserIdAfter(
+                    userId, new Date(after.getSortKey()), after.getId(), fetchLimit);
+        }
+        return KeysetCursor.page(
+                rows,
+                limit,
+                Function.identity(),
+                s -> new KeysetCursor(s.getDate().getTime(), s.getId()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<SavingDTO> getAllSavings() {
-        List<SavingDTO> dtos = new ArrayList<>();
-        for (Saving saving : savingRepository.findAll()) {
-            dtos.add(SavingMapper.toDTO(saving));
+    public void exportSavings(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<SavingDTO> rows = savingRepository.streamAllByUserId(userId)) {
+            ledgerExporter.export(rows, format, EXPORT_COLUMNS, out);
         }
-        return dtos;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public SavingDTO getSavingById(Long id) {
+    public SavingDTO getSavingById(Long id, Long userId) {
         if (id == null) throw new IllegalArgumentException("Saving id must not be null.");
-        return SavingMapper.toDTO(savingRepository
-                .findById(id)
-                .orElseThrow(() -> new NotFoundException("Saving with id " + id + " not found")));
+        return savingRepository
+                .findDTOByIdAndUserId(id, userId)
+                .orElseThrow(() -> new NotFoundException("Saving with id " + id + " not found"));
     }
 
     @Override
     @Transactional
     public void deleteSaving(Long id) {
-        if (savingRepository.findById(id).isEmpty()) {
-            throw new NotFoundException("Saving with id " + id + " not found for delete");
-        }
+        Saving saving = savingRepository
+                .findById(id)
+                .orElseThrow(() -> new NotFoundException("Saving with id " + id + " not found for delete"));
+        monthlyRollup.removed(saving);
+        balances.removed(saving);
+        resourceVersions.bump(saving.getUser().getId(), VersionedResource.SAVINGS);
         savingRepository.deleteById(id);
     }
 
@@ -79,14 +171,22 @@ public class SavingServiceImpl implements SavingService {
         Saving saving = SavingMapper.toEntity(savingDTO);
         savingValidator.validate(saving);
 
-        if (savingRepository.findById(saving.getId()).isEmpty()) {
-            throw new NotFoundException("Saving", saving.getId());
-        }
+        Saving existing = savingRepository
+                .findById(saving.getId())
+                .orElseThrow(() -> new NotFoundException("Saving", saving.getId()));
         User user = userRepository
                 .findById(savingDTO.getUserId())
                 .orElseThrow(() -> new NotFoundException("User", savingDTO.getUserId()));
         saving.setUser(user);
 
-        return SavingMapper.toDTO(savingRepository.save(saving));
+        Long previousUserId = existing.getUser().getId();
+
+        BigDecimal previousAmount = existing.getAmount();
+        monthlyRollup.removed(existing);
+        Saving saved = savingRepository.save(saving);
+        monthlyRollup.added(saved);
+        balances.updated(previousUserId, previousAmount, saved);
+        resourceVersions.bump(List.of(previousUserId, user.getId()), VersionedResource.SAVINGS);
+        return SavingMapper.toDTO(saved);
     }
 }
@@ -0,0 +1,98 @@
+package cloudflight.integra.backend.service.impl;
+
+import cloudflight.integra.backend.dto.CategoryTotalDTO;
+import cloudflight.integra.backend.dto.LedgerSummaryDTO;
+import cloudflight.integra.backend.dto.MonthlyTotalDTO;
+import cloudflight.integra.backend.dto.SummaryDTO;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import cloudflight.integra.backend.repository.ExpenseRepository;
+import cloudflight.integra.backend.repository.IncomeRepository;
+import cloudflight.integra.backend.repository.SavingRepository;
+import cloudflight.integra.backend.repository.UserMonthlyRollupRepository;
+import cloudflight.integra.backend.service.SummaryService;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class SummaryServiceImpl implements SummaryService {
+
+    private final ExpenseRepository expenseRepository;
+    private final IncomeRepository incomeRepository;
+    private final SavingRepository savingRepository;
+    private final UserMonthlyRollupRepository rollupRepository;
+
+    public SummaryServiceImpl(
+            ExpenseRepository expenseRepository,
+            IncomeRepository incomeRepository,
+            SavingRepository savingRepository,
+            UserMonthlyRollupRepository rollupRepository) {
+        this.expenseRepository = expenseRepository;
+        this.incomeRepository = incomeRepository;
+        this.savingRepository = savingRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SummaryDTO getSummary(Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ValidationException("'from' must not be after 'to'");
+        }
+        if (from.getDayOfMonth() == 1 && to.getDayOfMonth() == to.lengthOfMonth()) {
+            return fromRollup(userId, from, to);
+        }
+        LocalDate end = to.plusDays(1);
+        Date fromDate = toDate(from);
+        Date endDate = toDate(end);
+
+        LedgerSummaryDTO expenses = ledger(
+                expenseRepository.sumByMonth(userId, from, end), expenseRepository.sumByCategory(userId, from, end));
+        LedgerSummaryDTO incomes = ledger(
+                incomeRepository.sumByMonth(userId, fromDate, endDate),
+                incomeRepository.sumByCategory(userId, fromDate, endDate));
+        LedgerSummaryDTO savings = ledger(
+                savingRepository.sumByMonth(userId, fromDate, endDate),
+                savingRepository.sumByCategory(userId, fromDate, endDate));
+        return new SummaryDTO(from, to, expenses, incomes, savings);
+    }
+
+    /** Whole-month periods are answered from the rollup table, reading O(months) rows per ledger. */
+    private SummaryDTO fromRollup(Long userId, LocalDate from, LocalDate to) {
+        int fromMonth = MonthlyRollupWriter.yearMonth(from);
+        int toMonth = MonthlyRollupWriter.yearMonth(to);
+        return new SummaryDTO(
+                from,
+                to,
+                rollupLedger(userId, LedgerKind.EXPENSE, fromMonth, toMonth),
+                rollupLedger(userId, LedgerKind.INCOME, fromMonth, toMonth),
+                rollupLedger(userId, LedgerKind.SAVING, fromMonth, toMonth));
+    }
+
+    private LedgerSummaryDTO rollupLedger(Long userId, LedgerKind kind, int fromMonth, int toMonth) {
+        return ledger(
+                rollupRepository.sumByMonth(userId, kind, fromMonth, toMonth),
+                rollupRepository.sumByCategory(userId, kind, fromMonth, toMonth));
+    }
+
+    /** The overall total is the sum of the per-category totals, so it needs no extra query. */
+    private static LedgerSummaryDTO ledger(List<MonthlyTotalDTO> byMonth, List<CategoryTotalDTO> byCategory) {
+        BigDecimal total = BigDecimal.ZERO;
+        long count = 0;
+        for (CategoryTotalDTO category : byCategory) {
+            total = total.add(category.getTotal());
+            count += category.getCount();
+        }
+        return new LedgerSummaryDTO(total, count, byMonth, byCategory);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -1,29 +1,39 @@
 package cloudflight.integra.backend.service.impl;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.entity.User;
 import cloudflight.integra.backend.entity.validation.UserValidator;
 import cloudflight.integra.backend.entity.validation.ValidationException;
 import cloudflight.integra.backend.exception.NotFoundException;
 import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.security.AuthenticatedUser;
+import cloudflight.integra.backend.security.PrincipalCache;
+import cloudflight.integra.backend.service.ServiceMetrics;
 import cloudflight.integra.backend.service.UserService;
+import cloudflight.integra.backend.service.pagination.KeysetCursor;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed(ServiceMetrics.CALLS)
+@Counted(value = ServiceMetrics.ERRORS, recordFailuresOnly = true)
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserValidator userValidator;
+    private final PrincipalCache principalCache;
 
-    public UserServiceImpl(UserRepository userRepository, UserValidator userValidator) {
+    public UserServiceImpl(UserRepository userRepository, UserValidator userValidator, PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.userValidator = userValidator;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -38,8 +48,13 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public Collection<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<User> getAllUsers(String cursor, int limit) {
+        Limit fetchLimit = KeysetCursor.fetchLimit(limit);
+        List<User> users = cursor == null
+                ? userRepository.findByOrderByIdAsc(fetchLimit)
+                : userRepository.findByIdGreaterThanOrderByIdAsc(
+                        KeysetCursor.decode(cursor).getId(), fetchLimit);
+        return KeysetCursor.page(users, limit, user -> user, user -> new KeysetCursor(user.getId(), user.getId()));
     }
 
     @Override
@@ -66,15 +81,31 @@ public class UserServiceImpl implements UserService {
 
         userValidator.validate(user);
 
-        if (userRepository.findById(user.getId()).isEmpty())
-            throw new NotFoundException("User with id " + user.getId() + " not found");
+        User existing = userRepository
+                .findById(user.getId())
+                .orElseThrow(() -> new NotFoundException("User with id " + user.getId() + " not found"));
+        // The balance is maintained by BalanceWriter and never taken from the request
+        user.setBalance(existing.getBalance());
 
         Optional<User> userWithSameEmail = userRepository.findByEmail(user.getEmail());
         if (userWithSameEmail.isPresent() && !userWithSameEmail.get().getId().equals(user.getId())) {
             throw new ValidationException("Email already exists!");
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        principalCache.invalidate(user.getId());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void revokeTokens(Long id) {
+        if (id == null) throw new IllegalArgumentException("Id must not be null");
+
+        if (userRepository.incrementTokenVersion(id) == 0) {
+            throw new NotFoundException("User with id " + id + " not found");
+        }
+        principalCache.invalidate(id);
     }
 
     @Override
@@ -82,9 +113,12 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long id) {
         if (id == null) throw new IllegalArgumentException("Id must not be null");
 
-        if (userRepository.findById(id).isEmpty()) throw new NotFoundException("User with id " + id + " not found");
+        User user = userRepository
+                .findById(id)
+                .orElseThrow(() -> new NotFoundException("User with id " + id + " not found"));
 
         userRepository.deleteById(id);
+        principalCache.invalidate(user.getId());
     }
 
     @Override
@@ -108,7 +142,34 @@ public class UserServiceImpl implements UserService {
                 .findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(), user.getPassword(), Collections.singletonList(new SimpleGrantedAuthority("USER")));
+        return AuthenticatedUser.of(user);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuthenticatedUser loadUserById(Long id) {
+        return userRepository
+                .findById(id)
+                .map(AuthenticatedUser::of)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id));
+    }
+
+    /**
+     * Stores a re-hashed password after a successful login. Cached principals hold no credentials, so
+     * they stay valid.
+     *
+     * @param user the authenticated user
+     * @param newPassword the new password hash
+     * @return the user with the new password hash
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+        return user instanceof AuthenticatedUser authenticated
+                ? authenticated.withPassword(newPassword)
+                : org.springframework.security.core.userdetails.User.withUserDetails(user)
+                        .password(newPassword)
+                        .build();
     }
 }
@@ -0,0 +1,119 @@
+package cloudflight.integra.backend.service.imports;
+
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One record of an import, keyed by column name. The typed accessors return {@code null} for blank
+ * values and record a message for values that cannot be parsed, so that all problems of a row are
+ * reported together by {@link #requireValid()}.
+ */
+public final class ImportRow {
+
+    private final long line;
+    private final Map<String, String> values;
+    private final List<String> errors = new ArrayList<>();
+
+    public ImportRow(long line, Map<String, String> values) {
+        this.line = line;
+        this.values = values;
+    }
+
+    /** Creates a row that could not be read at all, e.g. a line that is not valid JSON. */
+    static ImportRow malformed(long line, String message) {
+        ImportRow row = new ImportRow(line, Map.of());
+        row.errors.add(message);
+        return row;
+    }
+
+    /** The line of the input on which the record starts, counting from 1. */
+    public long getLine() {
+        return line;
+    }
+
+    public String text(String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    public BigDecimal decimal(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            errors.add("Invalid " + column + ": " + value);
+            return null;
+        }
+    }
+
+    /** Parses an ISO date such as {@code 2025-09-15}. */
+    public LocalDate localDate(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            errors.add("Invalid " + column + ": " + value);
+            return null;
+        }
+    }
+
+    /**
+     * Parses an ISO date, taken as the start of that day in the server's time zone, or an ISO
+     * timestamp with offset such as {@code 2025-09-15T00:00:00Z}, the form written by the exports.
+     */
+    public Date date(String column) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            if (value.indexOf('T') < 0) {
+                return Date.from(LocalDate.parse(value)
+                        .atStartOfDay(ZoneId.systemDefault())
+                        .toInstant());
+            }
+            return Date.from(OffsetDateTime.parse(value).toInstant());
+        } catch (DateTimeParseException e) {
+            errors.add("Invalid " + column + ": " + value);
+            return null;
+        }
+    }
+
+    /** Resolves an enum constant by its name, ignoring case. */
+    public <E extends Enum<E>> E enumValue(String column, Class<E> type) {
+        String value = text(column);
+        if (value == null) {
+            return null;
+        }
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        errors.add("Invalid " + column + ": " + value);
+        return null;
+    }
+
+    /**
+     * @throws ValidationException if the row was malformed or any accessor met an unparsable value
+     */
+    public void requireValid() {
+        if (!errors.isEmpty()) {
+            throw new ValidationException(List.copyOf(errors));
+        }
+    }
+}
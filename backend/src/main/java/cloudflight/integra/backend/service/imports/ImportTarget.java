@@ -0,0 +1,39 @@
+package cloudflight.integra.backend.service.imports;
+
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Describes how the rows of one ledger are imported: how a record becomes a validated entity, how
+ * that entity is inserted, and what else has to change in the same transaction.
+ *
+ * @param <T> the type of the imported entities
+ */
+public interface ImportTarget<T> {
+
+    /**
+     * Converts and validates a record.
+     *
+     * @param row the record read from the input
+     * @return the entity to insert
+     * @throws ValidationException if the record cannot be imported
+     */
+    T parse(ImportRow row);
+
+    /** The {@link cloudflight.integra.backend.entity.IdSequences sequence} the entities' ids are taken from. */
+    String idSequence();
+
+    /** Sets the id reserved for an entity before it is bound. */
+    void assignId(T entity, long id);
+
+    /** The parameterized {@code INSERT} statement executed for each entity, including its id. */
+    String insertSql();
+
+    /** Binds an entity to the parameters of {@link #insertSql()}. */
+    void bind(PreparedStatement ps, T entity) throws SQLException;
+
+    /** Called inside the chunk's transaction after its entities have been inserted. */
+    void inserted(List<T> entities);
+}
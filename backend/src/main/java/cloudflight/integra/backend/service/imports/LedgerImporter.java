@@ -0,0 +1,119 @@
+package cloudflight.integra.backend.service.imports;
+
+import cloudflight.integra.backend.dto.ImportResultDTO;
+import cloudflight.integra.backend.dto.ImportRowErrorDTO;
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import cloudflight.integra.backend.service.export.ExportFormat;
+import cloudflight.integra.backend.service.ids.PooledIdAllocator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Imports an uploaded ledger while it is being read. Valid rows are collected into chunks of
+ * {@code import.chunk-size}; each chunk is inserted in its own transaction with JDBC batches of
+ * {@code import.batch-size} statements. Invalid rows are skipped and reported with their line number.
+ * If a chunk fails in the database, only that chunk is rolled back and its rows are reported as
+ * rejected; the chunks before it stay committed.
+ */
+@Component
+public class LedgerImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerImporter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator idAllocator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public LedgerImporter(
+            JdbcTemplate jdbcTemplate,
+            PooledIdAllocator idAllocator,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${import.batch-size:500}") int batchSize,
+            @Value("${import.chunk-size:5000}") int chunkSize,
+            @Value("${import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Imports all rows of the input.
+     *
+     * @param format the input format
+     * @param in the uploaded body, read incrementally and not closed
+     * @param target converts, validates and inserts the rows of one ledger
+     * @return the number of imported and rejected rows and the reasons for the rejections
+     * @throws IOException if reading the input fails
+     */
+    public <T> ImportResultDTO importRows(ExportFormat format, InputStream in, ImportTarget<T> target)
+            throws IOException {
+        RowReader reader = RowReader.open(format, in, objectMapper);
+        ImportResultDTO result = new ImportResultDTO();
+        List<T> chunk = new ArrayList<>();
+        List<Long> chunkLines = new ArrayList<>();
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            try {
+                chunk.add(target.parse(row));
+                chunkLines.add(row.getLine());
+            } catch (ValidationException e) {
+                reject(result, row.getLine(), e.getErrors());
+            }
+            if (chunk.size() == chunkSize) {
+                insert(target, chunk, chunkLines, result);
+                chunk.clear();
+                chunkLines.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insert(target, chunk, chunkLines, result);
+        }
+        return result;
+    }
+
+    private <T> void insert(ImportTarget<T> target, List<T> chunk, List<Long> lines, ImportResultDTO result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                long[] ids = idAllocator.allocate(target.idSequence(), chunk.size());
+                for (int i = 0; i < ids.length; i++) {
+                    target.assignId(chunk.get(i), ids[i]);
+                }
+                jdbcTemplate.batchUpdate(target.insertSql(), chunk, batchSize, target::bind);
+                target.inserted(chunk);
+            });
+            result.setImported(result.getImported() + chunk.size());
+        } catch (DataAccessException e) {
+            log.warn("Import chunk of {} rows starting at line {} failed", chunk.size(), lines.get(0), e);
+            for (Long line : lines) {
+                reject(result, line, List.of("Row could not be stored"));
+            }
+        }
+    }
+
+    private void reject(ImportResultDTO result, long line, List<String> messages) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getErrors().size() < maxReportedErrors) {
+            result.getErrors().add(new ImportRowErrorDTO(line, messages));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package cloudflight.integra.backend.service.imports;
+
+import cloudflight.integra.backend.service.export.ExportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads rows one at a time from an {@link InputStream} in a given {@link ExportFormat}, the
+ * counterpart of {@code RowExporter}. Only the current record is held in memory, so an import needs
+ * the same memory for ten rows as for ten million. A record that cannot be parsed is returned as a
+ * malformed row rather than failing the whole input. The source stream is never closed; it belongs
+ * to the caller.
+ */
+public abstract class RowReader {
+
+    /**
+     * Opens a reader on the given input.
+     *
+     * @param format the input format
+     * @param in the source stream, decoded as UTF-8
+     * @param objectMapper the mapper used for NDJSON rows
+     * @return the reader
+     * @throws IOException if the CSV header cannot be read
+     */
+    public static RowReader open(ExportFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonReader(reader, objectMapper);
+            case CSV -> new CsvReader(reader);
+        };
+    }
+
+    /**
+     * @return the next row, or {@code null} at the end of the input
+     * @throws IOException if reading from the source fails
+     */
+    public abstract ImportRow next() throws IOException;
+
+    private static final class NdjsonReader extends RowReader {
+
+        private final BufferedReader reader;
+        private final ObjectReader jsonReader;
+        private long line;
+
+        NdjsonReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.jsonReader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+            } while (text != null && text.isBlank());
+            if (text == null) {
+                return null;
+            }
+            JsonNode node;
+            try {
+                node = jsonReader.readTree(text);
+            } catch (JsonProcessingException e) {
+                return ImportRow.malformed(line, "Malformed JSON");
+            }
+            if (!node.isObject()) {
+                return ImportRow.malformed(line, "Expected a JSON object");
+            }
+            Map<String, String> values = new HashMap<>();
+            node.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                if (!value.isNull()) {
+                    values.put(field.getKey(), value.isValueNode() ? value.asText() : value.toString());
+                }
+            });
+            return new ImportRow(line, values);
+        }
+    }
+
+    /** RFC 4180 records with a header row; quoted fields may contain separators, quotes and line breaks. */
+    private static final class CsvReader extends RowReader {
+
+        private final BufferedReader reader;
+        private final List<String> header;
+        private long line = 1;
+        private long recordLine;
+        private boolean unterminated;
+
+        CsvReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> names = readRecord();
+            this.header =
+                    names == null ? List.of() : names.stream().map(String::trim).toList();
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            List<String> fields;
+            do {
+                fields = readRecord();
+            } while (fields != null && fields.size() == 1 && fields.get(0).isBlank());
+            if (fields == null) {
+                return null;
+            }
+            if (unterminated) {
+                return ImportRow.malformed(recordLine, "Unterminated quoted field");
+            }
+            if (fields.size() != header.size()) {
+                return ImportRow.malformed(
+                        recordLine, "Expected " + header.size() + " fields but found " + fields.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                values.put(header.get(i), fields.get(i));
+            }
+            return new ImportRow(recordLine, values);
+        }
+
+        private List<String> readRecord() throws IOException {
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            for (; c != -1; c = reader.read()) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                            continue;
+                        }
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                        continue;
+                    }
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            unterminated = quoted;
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package cloudflight.integra.backend.service.pagination;
+
+import cloudflight.integra.backend.dto.CursorPage;
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
+
+/**
+ * Position inside a collection ordered by {@code (sortKey, id)}. The sort key is the numeric form of
+ * the ordering column (epoch day, epoch millis or the id itself), so one cursor type serves every
+ * resource. Clients only ever see the Base64 token produced by {@link #encode()}.
+ */
+public final class KeysetCursor {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long sortKey;
+    private final long id;
+
+    public KeysetCursor(long sortKey, long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public long getSortKey() {
+        return sortKey;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((sortKey + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param token the continuation token sent by the client
+     * @return the decoded cursor
+     * @throws ValidationException if the token was not produced by this class
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':');
+            return new KeysetCursor(
+                    Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Returns the number of rows a repository should fetch for a page of {@code limit} items: one more
+     * than requested, so the presence of a next page is known without a {@code COUNT(*)}.
+     *
+     * @param limit the page size requested by the client
+     * @return the limit to pass to the repository
+     * @throws ValidationException if the limit is outside {@code [1, MAX_LIMIT]}
+     */
+    public static Limit fetchLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        return Limit.of(limit + 1);
+    }
+
+    /**
+     * Builds a page from rows fetched with {@link #fetchLimit(int)}.
+     *
+     * @param rows the rows returned by the repository, at most {@code limit + 1}
+     * @param limit the page size requested by the client
+     * @param mapper converts a row to the item exposed to clients
+     * @param position extracts the keyset position of a row
+     * @return the page with a continuation token if more rows exist
+     */
+    public static <E, T> CursorPage<T> page(
+            List<E> rows, int limit, Function<E, T> mapper, Function<E, KeysetCursor> position) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? position.apply(pageRows.get(limit - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,201 @@
+package cloudflight.integra.backend.service.payment;
+
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.IdSequences;
+import cloudflight.integra.backend.entity.Payment;
+import cloudflight.integra.backend.entity.VersionedResource;
+import cloudflight.integra.backend.service.ids.PooledIdAllocator;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Turns due recurring expenses into pending payments. Each chunk claims up to
+ * {@code payments.due.chunk-size} expenses whose {@code next_due_date} has arrived with
+ * {@code SELECT ... FOR UPDATE SKIP LOCKED}, sets their payment to {@code PENDING} on the due date,
+ * advances {@code next_due_date} past today and commits. Rows claimed by a job running on another node
+ * are skipped rather than waited for, so several nodes share the due expenses without processing one
+ * twice, and a claimed expense is no longer due once its chunk commits. Runs on the cron expression
+ * {@code payments.due.cron}, hourly by default.
+ *
+ * <p>An expense has at most one payment, so the payment always stands for the latest due date: an
+ * existing one is reset to {@code PENDING}, and an expense that missed several due dates gets a single
+ * payment for the last of them.
+ *
+ * <p>Due dates are counted from the expense's own date, like the occurrences in the calendar, so a
+ * monthly expense on the 31st is due on the last day of shorter months and on the 31st again afterwards.
+ *
+ * <p>The version stamps of the affected users are bumped in ascending user order, so jobs on several nodes
+ * lock the stamps of shared users in the same order and cannot deadlock on them.
+ */
+@Component
+public class DuePaymentJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DuePaymentJob.class);
+
+    private static final String CLAIM_SQL = "SELECT id, user_id, category, frequency, date, next_due_date, end_date"
+            + " FROM expense WHERE next_due_date <= ? AND frequency <> 'ONE_TIME'"
+            + " AND (end_date IS NULL OR next_due_date <= end_date)"
+            + " ORDER BY next_due_date, id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String RESET_PAYMENT_SQL =
+            "UPDATE payment SET name = ?, status = ?, payment_date = ? WHERE expense_id = ?";
+    private static final String INSERT_PAYMENT_SQL =
+            "INSERT INTO payment (id, expense_id, name, status, payment_date) VALUES (?, ?, ?, ?, ?)";
+    private static final String ADVANCE_SQL = "UPDATE expense SET next_due_date = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PooledIdAllocator idAllocator;
+    private final ResourceVersions versions;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public DuePaymentJob(
+            JdbcTemplate jdbcTemplate,
+            PooledIdAllocator idAllocator,
+            ResourceVersions versions,
+            PlatformTransactionManager transactionManager,
+            @Value("${payments.due.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.versions = versions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates the pending payments of all expenses due today.
+     *
+     * @return the number of expenses processed by this node
+     */
+    @Scheduled(cron = "${payments.due.cron:0 0 * * * *}")
+    public int processDue() {
+        return processDue(LocalDate.now());
+    }
+
+    /**
+     * Creates the pending payments of all expenses due on or before the given day.
+     *
+     * @param today the day up to which expenses are due
+     * @return the number of expenses processed by this node
+     */
+    public int processDue(LocalDate today) {
+        int processed = 0;
+        int claimed;
+        while ((claimed = transactionTemplate.execute(status -> processChunk(today))) > 0) {
+            processed += claimed;
+        }
+        log.info("Created the pending payments of {} due expenses", processed);
+        return processed;
+    }
+
+    private int processChunk(LocalDate today) {
+        List<DueExpense> due = jdbcTemplate.query(
+                CLAIM_SQL,
+                (rs, rowNum) -> new DueExpense(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getString("category"),
+                        Expense.Frequency.valueOf(rs.getString("frequency")),
+                        rs.getObject("date", LocalDate.class),
+                        rs.getObject("next_due_date", LocalDate.class),
+                        rs.getObject("end_date", LocalDate.class)),
+                Date.valueOf(today),
+                chunkSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        String pending = Payment.StatusEnum.PENDING.name();
+        List<Object[]> payments = new ArrayList<>();
+        List<Object[]> advances = new ArrayList<>();
+        for (DueExpense expense : due) {
+            LocalDate dueDate = expense.lastDueDate(today);
+            LocalDate next = expense.dueDateAfter(dueDate);
+            payments.add(new Object[] {expense.category(), pending, Date.valueOf(dueDate), expense.id()});
+            advances.add(new Object[] {next == null ? null : Date.valueOf(next), expense.id()});
+        }
+
+        int[] reset = jdbcTemplate.batchUpdate(RESET_PAYMENT_SQL, payments);
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < reset.length; i++) {
+            if (reset[i] == 0) {
+                inserts.add(payments.get(i));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            long[] ids = idAllocator.allocate(IdSequences.PAYMENT, inserts.size());
+            List<Object[]> rows = new ArrayList<>();
+            for (int i = 0; i < inserts.size(); i++) {
+                Object[] payment = inserts.get(i);
+                rows.add(new Object[] {ids[i], payment[3], payment[0], payment[1], payment[2]});
+            }
+            jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, rows);
+        }
+        jdbcTemplate.batchUpdate(ADVANCE_SQL, advances);
+
+        SortedSet<Long> userIds = new TreeSet<>();
+        due.forEach(expense -> userIds.add(expense.userId()));
+        versions.bump(userIds, VersionedResource.EXPENSES);
+        versions.bump(userIds, VersionedResource.PAYMENTS);
+        return due.size();
+    }
+
+    private record DueExpense(
+            long id,
+            long userId,
+            String category,
+            Expense.Frequency frequency,
+            LocalDate date,
+            LocalDate nextDueDate,
+            LocalDate endDate) {
+
+        /** The latest due date up to today, {@code nextDueDate} itself if no later one has arrived. */
+        LocalDate lastDueDate(LocalDate today) {
+            LocalDate last = nextDueDate;
+            for (long n = countAfter(nextDueDate); ; n++) {
+                LocalDate dueDate = occurrence(n);
+                if (dueDate.isAfter(today) || (endDate != null && dueDate.isAfter(endDate))) {
+                    return last;
+                }
+                last = dueDate;
+            }
+        }
+
+        /** The due date following {@code dueDate}, {@code null} once the expense has ended. */
+        LocalDate dueDateAfter(LocalDate dueDate) {
+            LocalDate next = occurrence(countAfter(dueDate));
+            return endDate != null && next.isAfter(endDate) ? null : next;
+        }
+
+        /** The running count of the first occurrence after {@code day}, the expense's own date being 0. */
+        private long countAfter(LocalDate day) {
+            // Whole months never overshoot, so this starts at or before the occurrence looked for
+            long n = Math.max(1, ChronoUnit.MONTHS.between(date, day) / stepMonths());
+            while (!occurrence(n).isAfter(day)) {
+                n++;
+            }
+            return n;
+        }
+
+        /** Counted from the expense's own date, so a day clamped in a short month is not carried on. */
+        private LocalDate occurrence(long n) {
+            return date.plusMonths(n * stepMonths());
+        }
+
+        private int stepMonths() {
+            return frequency == Expense.Frequency.YEARLY ? 12 : 1;
+        }
+    }
+}
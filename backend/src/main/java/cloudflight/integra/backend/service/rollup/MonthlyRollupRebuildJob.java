@@ -0,0 +1,74 @@
+package cloudflight.integra.backend.service.rollup;
+
+import cloudflight.integra.backend.repository.UserMonthlyRollupRepository;
+import cloudflight.integra.backend.repository.UserRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes {@code user_monthly_rollup} from the ledgers. Users are processed in chunks of ascending
+ * id; each chunk deletes and re-inserts its users' rows in its own transaction, so the job never holds
+ * locks on the whole table and a failure only loses the current chunk. Runs on the cron expression
+ * {@code rollup.rebuild.cron}, which is disabled by default.
+ */
+@Component
+public class MonthlyRollupRebuildJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MonthlyRollupRebuildJob.class);
+
+    private final UserRepository userRepository;
+    private final UserMonthlyRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public MonthlyRollupRebuildJob(
+            UserRepository userRepository,
+            UserMonthlyRollupRepository rollupRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${rollup.rebuild.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Rebuilds the rollup rows of all users.
+     *
+     * @return the number of users processed
+     */
+    @Scheduled(cron = "${rollup.rebuild.cron:-}")
+    public int rebuildAll() {
+        int processed = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        while (!(userIds = userRepository.findIdsAfter(afterId, Limit.of(chunkSize))).isEmpty()) {
+            rebuild(userIds);
+            processed += userIds.size();
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        log.info("Rebuilt monthly rollups of {} users", processed);
+        return processed;
+    }
+
+    /**
+     * Rebuilds the rollup rows of the given users in a single transaction.
+     *
+     * @param userIds the users whose rows are recomputed
+     */
+    public void rebuild(List<Long> userIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            rollupRepository.deleteByUserIds(userIds);
+            rollupRepository.rebuildExpenses(userIds);
+            rollupRepository.rebuildIncomes(userIds);
+            rollupRepository.rebuildSavings(userIds);
+        });
+    }
+}
@@ -0,0 +1,234 @@
+package cloudflight.integra.backend.service.rollup;
+
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Income;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.Saving;
+import cloudflight.integra.backend.entity.UserMonthlyRollup;
+import cloudflight.integra.backend.repository.UserMonthlyRollupRepository;
+import java.math.BigDecimal;
+import java.sql.DatabaseMetaData;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps {@code user_monthly_rollup} in step with the ledgers. Every create, update and delete of an
+ * expense, income or saving applies its delta here, inside the caller's transaction, so a rollup row
+ * never disagrees with committed ledger data. An update is applied as the removal of the old entry
+ * followed by the addition of the new one, which also covers moves between months and categories.
+ *
+ * <p>A delta is added with one upsert, so the first entries of the same user, ledger, month and
+ * category may be written by concurrent transactions. On PostgreSQL that is {@code INSERT ... ON
+ * CONFLICT DO UPDATE}, which never fails on the primary key. Other databases get a {@code MERGE}, which
+ * can lose that race like any insert; the key violation is reported only once the winner has committed,
+ * so the merge is repeated and then adds to the winner's row.
+ */
+@Component
+public class MonthlyRollupWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_monthly_rollup (user_id, kind, year_month, category, total, entry_count)"
+                    + " VALUES (?, ?, ?, ?, ?, ?)"
+                    + " ON CONFLICT (user_id, kind, year_month, category) DO UPDATE"
+                    + " SET total = user_monthly_rollup.total + EXCLUDED.total,"
+                    + " entry_count = user_monthly_rollup.entry_count + EXCLUDED.entry_count";
+
+    private static final String MERGE_SQL = "MERGE INTO user_monthly_rollup r"
+            + " USING (VALUES (?, ?, ?, ?, ?, ?)) AS d (user_id, kind, year_month, category, total, entry_count)"
+            + " ON r.user_id = d.user_id AND r.kind = d.kind AND r.year_month = d.year_month"
+            + " AND r.category = d.category"
+            + " WHEN MATCHED THEN UPDATE SET total = r.total + d.total, entry_count = r.entry_count + d.entry_count"
+            + " WHEN NOT MATCHED THEN INSERT (user_id, kind, year_month, category, total, entry_count)"
+            + " VALUES (d.user_id, d.kind, d.year_month, d.category, d.total, d.entry_count)";
+
+    private static final int MERGE_ATTEMPTS = 3;
+
+    private final UserMonthlyRollupRepository rollupRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean onConflict;
+
+    public MonthlyRollupWriter(UserMonthlyRollupRepository rollupRepository, JdbcTemplate jdbcTemplate) {
+        this.rollupRepository = rollupRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.onConflict = databaseDriver(jdbcTemplate) == DatabaseDriver.POSTGRESQL;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Expense expense) {
+        add(
+                expense.getUser().getId(),
+                LedgerKind.EXPENSE,
+                expense.getDate(),
+                expense.getCategory(),
+                expense.getAmount());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Expense expense) {
+        remove(
+                expense.getUser().getId(),
+                LedgerKind.EXPENSE,
+                expense.getDate(),
+                expense.getCategory(),
+                expense.getAmount());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Income income) {
+        add(
+                income.getUser().getId(),
+                LedgerKind.INCOME,
+                toLocalDate(income.getDate()),
+                income.getSource(),
+                income.getAmount());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Income income) {
+        remove(
+                income.getUser().getId(),
+                LedgerKind.INCOME,
+                toLocalDate(income.getDate()),
+                income.getSource(),
+                income.getAmount());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void added(Saving saving) {
+        add(
+                saving.getUser().getId(),
+                LedgerKind.SAVING,
+                toLocalDate(saving.getDate()),
+                saving.getGoal(),
+                saving.getAmount());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removed(Saving saving) {
+        remove(
+                saving.getUser().getId(),
+                LedgerKind.SAVING,
+                toLocalDate(saving.getDate()),
+                saving.getGoal(),
+                saving.getAmount());
+    }
+
+    /**
+     * Applies a batch of newly inserted expenses of one user with one delta per month and category,
+     * so a bulk import touches each rollup row once instead of once per entry.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedExpenses(Long userId, List<Expense> expenses) {
+        addAll(userId, LedgerKind.EXPENSE, expenses, Expense::getDate, Expense::getCategory, Expense::getAmount);
+    }
+
+    /** Applies a batch of newly inserted incomes of one user, see {@link #addedExpenses}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedIncomes(Long userId, List<Income> incomes) {
+        addAll(
+                userId,
+                LedgerKind.INCOME,
+                incomes,
+                income -> toLocalDate(income.getDate()),
+                Income::getSource,
+                Income::getAmount);
+    }
+
+    /** Applies a batch of newly inserted savings of one user, see {@link #addedExpenses}. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addedSavings(Long userId, List<Saving> savings) {
+        addAll(
+                userId,
+                LedgerKind.SAVING,
+                savings,
+                saving -> toLocalDate(saving.getDate()),
+                Saving::getGoal,
+                Saving::getAmount);
+    }
+
+    /** Encodes the month of a date as {@code yyyyMM}, the key used by the rollup table. */
+    public static int yearMonth(LocalDate date) {
+        return date.getYear() * 100 + date.getMonthValue();
+    }
+
+    private void add(Long userId, LedgerKind kind, LocalDate date, String category, BigDecimal amount) {
+        apply(userId, kind, yearMonth(date), category, amount, 1);
+    }
+
+    private <T> void addAll(
+            Long userId,
+            LedgerKind kind,
+            List<T> entries,
+            Function<T, LocalDate> date,
+            Function<T, String> category,
+            Function<T, BigDecimal> amount) {
+        Map<UserMonthlyRollup.Key, BigDecimal> totals = new HashMap<>();
+        Map<UserMonthlyRollup.Key, Long> counts = new HashMap<>();
+        for (T entry : entries) {
+            UserMonthlyRollup.Key key =
+                    new UserMonthlyRollup.Key(userId, kind, yearMonth(date.apply(entry)), category.apply(entry));
+            totals.merge(key, amount.apply(entry), BigDecimal::add);
+            counts.merge(key, 1L, Long::sum);
+        }
+        totals.forEach(
+                (key, total) -> apply(userId, kind, key.getYearMonth(), key.getCategory(), total, counts.get(key)));
+    }
+
+    /**
+     * Runs on the JDBC connection of the caller's transaction rather than through JPA, where a failed
+     * statement would mark the whole transaction for rollback and rule out repeating the merge.
+     */
+    private void apply(Long userId, LedgerKind kind, int yearMonth, String category, BigDecimal amount, long count) {
+        Object[] args = {userId, kind.name(), yearMonth, category, amount, count};
+        if (onConflict) {
+            jdbcTemplate.update(UPSERT_SQL, args);
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(MERGE_SQL, args);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MERGE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private void remove(Long userId, LedgerKind kind, LocalDate date, String category, BigDecimal amount) {
+        int yearMonth = yearMonth(date);
+        // A missing row means the rollup has drifted from the ledger; the rebuild job repairs it.
+        if (rollupRepository.applyDelta(userId, kind, yearMonth, category, amount.negate(), -1) > 0) {
+            rollupRepository.deleteIfEmpty(userId, kind, yearMonth, category);
+        }
+    }
+
+    private static DatabaseDriver databaseDriver(JdbcTemplate jdbcTemplate) {
+        try {
+            return DatabaseDriver.fromProductName(JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database of the monthly rollup", e);
+        }
+    }
+
+    /** {@code java.sql.Date} does not support {@link Date#toInstant()}, so go through the epoch millis. */
+    private static LocalDate toLocalDate(Date date) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,109 @@
+package cloudflight.integra.backend.service.versions;
+
+import cloudflight.integra.backend.entity.VersionedResource;
+import cloudflight.integra.backend.repository.ResourceVersionRepository;
+import java.sql.DatabaseMetaData;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Version stamps of the per-user collections, used as ETags by their list and detail endpoints. The
+ * services bump a collection's version inside every transaction that changes it, so an unchanged
+ * version proves that a cached response is still current and the request can be answered with
+ * {@code 304 Not Modified} without reading the collection.
+ *
+ * <p>The version is read before the collection, so a write committed in between makes the response
+ * carry an older ETag than its content; the next request then simply fetches the collection again.
+ *
+ * <p>A version is bumped with one upsert, so the first changes of a collection may come from concurrent
+ * transactions, as in {@code MonthlyRollupWriter}: {@code INSERT ... ON CONFLICT DO UPDATE} on
+ * PostgreSQL, and a {@code MERGE} that is repeated when it loses the race to the primary key elsewhere.
+ */
+@Component
+public class ResourceVersions {
+
+    private static final String UPSERT_SQL = "INSERT INTO resource_versions (user_id, resource, version)"
+            + " VALUES (?, ?, 1)"
+            + " ON CONFLICT (user_id, resource) DO UPDATE SET version = resource_versions.version + 1";
+
+    private static final String MERGE_SQL = "MERGE INTO resource_versions v"
+            + " USING (VALUES (?, ?)) AS d (user_id, resource)"
+            + " ON v.user_id = d.user_id AND v.resource = d.resource"
+            + " WHEN MATCHED THEN UPDATE SET version = v.version + 1"
+            + " WHEN NOT MATCHED THEN INSERT (user_id, resource, version) VALUES (d.user_id, d.resource, 1)";
+
+    private static final int MERGE_ATTEMPTS = 3;
+
+    private final ResourceVersionRepository versionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean onConflict;
+
+    public ResourceVersions(ResourceVersionRepository versionRepository, JdbcTemplate jdbcTemplate) {
+        this.versionRepository = versionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.onConflict = databaseDriver(jdbcTemplate) == DatabaseDriver.POSTGRESQL;
+    }
+
+    /**
+     * Records a change of the given user's collection. Runs on the JDBC connection of the caller's
+     * transaction rather than through JPA, where a failed statement would rule out repeating the merge.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(Long userId, VersionedResource resource) {
+        Object[] args = {userId, resource.name()};
+        if (onConflict) {
+            jdbcTemplate.update(UPSERT_SQL, args);
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(MERGE_SQL, args);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt == MERGE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /** Records a change of the collections of all given users, once per user. */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bump(Collection<Long> userIds, VersionedResource resource) {
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            bump(userId, resource);
+        }
+    }
+
+    /**
+     * @return the current version of the given user's collection, {@code 0} if it never changed
+     */
+    public long current(Long userId, VersionedResource resource) {
+        return versionRepository.findVersion(userId, resource).orElse(0L);
+    }
+
+    /**
+     * @return the strong ETag of the given user's collection in its current version, quoted
+     */
+    public String etag(Long userId, VersionedResource resource) {
+        return "\"" + resource.name().toLowerCase(Locale.ROOT) + "-" + userId + "-" + current(userId, resource) + "\"";
+    }
+
+    private static DatabaseDriver databaseDriver(JdbcTemplate jdbcTemplate) {
+        try {
+            return DatabaseDriver.fromProductName(JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database of the resource versions", e);
+        }
+    }
+}
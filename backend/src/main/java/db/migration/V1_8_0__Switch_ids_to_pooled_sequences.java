@@ -0,0 +1,40 @@
+package db.migration;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Moves entity ids from identity columns to sequences, so Hibernate can assign them before inserting
+ * and send the inserts as JDBC batches. Each sequence call reserves a block of 50 ids whose upper end
+ * is the returned value, so every sequence starts one block past its table's highest id. That start
+ * value has to be computed, which has no portable SQL form, hence a Java migration.
+ *
+ * <p>The identity defaults are dropped as well: an insert that does not take its id from a sequence
+ * now fails instead of colliding with a block reserved by the application.
+ */
+public class V1_8_0__Switch_ids_to_pooled_sequences extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES =
+            List.of("users", "incomes", "expense", "payment", "savings", "user_activities");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                statement.execute("CREATE SEQUENCE " + table + "_seq START WITH " + (maxId + ALLOCATION_SIZE)
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+            }
+        }
+    }
+}
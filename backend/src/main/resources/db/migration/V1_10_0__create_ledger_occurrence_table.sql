@@ -0,0 +1,20 @@
+CREATE TABLE ledger_occurrence
+(
+    kind            VARCHAR(16) NOT NULL,
+    source_id       BIGINT      NOT NULL,
+    occurrence_date DATE        NOT NULL,
+    user_id         BIGINT      NOT NULL,
+    amount          DECIMAL     NOT NULL,
+    CONSTRAINT pk_ledger_occurrence PRIMARY KEY (kind, source_id, occurrence_date)
+);
+
+CREATE INDEX idx_ledger_occurrence_user_date ON ledger_occurrence (user_id, occurrence_date);
+
+-- Every entry occurs on its own date; the horizon job adds the later occurrences of recurring entries
+INSERT INTO ledger_occurrence (kind, source_id, occurrence_date, user_id, amount)
+SELECT 'EXPENSE', id, date, user_id, amount
+FROM expense;
+
+INSERT INTO ledger_occurrence (kind, source_id, occurrence_date, user_id, amount)
+SELECT 'INCOME', id, date, user_id, amount
+FROM incomes;
@@ -0,0 +1,2 @@
+-- The due-payment job claims the expenses with the oldest next_due_date first
+CREATE INDEX idx_expense_next_due_date ON expense (next_due_date, id);
@@ -0,0 +1,5 @@
+-- The balance is now maintained incrementally: incomes minus expenses and savings
+UPDATE users
+SET balance = COALESCE((SELECT SUM(amount) FROM incomes WHERE incomes.user_id = users.id), 0)
+    - COALESCE((SELECT SUM(amount) FROM expense WHERE expense.user_id = users.id), 0)
+    - COALESCE((SELECT SUM(amount) FROM savings WHERE savings.user_id = users.id), 0);
@@ -0,0 +1,2 @@
+-- Tokens carry the version they were issued for; a password change increments it to revoke them
+ALTER TABLE users ADD COLUMN token_version INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,29 @@
+-- Materializes the later occurrences of the recurring entries up to the default horizon, twelve months
+-- ahead, so the calendar and the forecast are complete before the horizon job first runs. The n-th
+-- occurrence is counted from the entry's own date, as in the application; up to 999 periods are covered.
+INSERT INTO ledger_occurrence (kind, source_id, occurrence_date, user_id, amount)
+SELECT r.kind, r.id, r.occurrence_date, r.user_id, r.amount
+FROM (SELECT e.kind, e.id, e.user_id, e.amount, e.end_date,
+             CAST(e.date + (n.hundreds * 100 + n.tens * 10 + n.ones) * e.step * INTERVAL '1' MONTH AS DATE)
+                 AS occurrence_date
+      FROM (SELECT 'EXPENSE' AS kind, id, user_id, amount, date, end_date,
+                   CASE frequency WHEN 'YEARLY' THEN 12 ELSE 1 END AS step
+            FROM expense
+            WHERE frequency <> 'ONE_TIME'
+            UNION ALL
+            SELECT 'INCOME', id, user_id, amount, date, end_date,
+                   CASE frequency WHEN 'YEARLY' THEN 12 ELSE 1 END
+            FROM incomes
+            WHERE frequency <> 'ONE_TIME') e
+               CROSS JOIN (SELECT h.digit AS hundreds, t.digit AS tens, o.digit AS ones
+                           FROM (VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)) AS h (digit),
+                                (VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)) AS t (digit),
+                                (VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9)) AS o (digit)) n
+      WHERE n.hundreds + n.tens + n.ones > 0) r
+WHERE r.occurrence_date <= CURRENT_DATE + INTERVAL '12' MONTH
+  AND (r.end_date IS NULL OR r.occurrence_date <= r.end_date)
+  AND NOT EXISTS (SELECT 1
+                  FROM ledger_occurrence l
+                  WHERE l.kind = r.kind
+                    AND l.source_id = r.id
+                    AND l.occurrence_date = r.occurrence_date);
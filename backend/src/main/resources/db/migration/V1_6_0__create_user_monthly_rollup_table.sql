@@ -0,0 +1,28 @@
+CREATE TABLE user_monthly_rollup
+(
+    user_id     BIGINT       NOT NULL,
+    year_month  INTEGER      NOT NULL,
+    kind        VARCHAR(16)  NOT NULL,
+    category    VARCHAR(255) NOT NULL,
+    total       DECIMAL      NOT NULL,
+    entry_count BIGINT       NOT NULL,
+    CONSTRAINT pk_user_monthly_rollup PRIMARY KEY (user_id, kind, year_month, category)
+);
+
+INSERT INTO user_monthly_rollup (user_id, year_month, kind, category, total, entry_count)
+SELECT user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), 'EXPENSE', category,
+       SUM(amount), COUNT(*)
+FROM expense
+GROUP BY user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), category;
+
+INSERT INTO user_monthly_rollup (user_id, year_month, kind, category, total, entry_count)
+SELECT user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), 'INCOME', source,
+       SUM(amount), COUNT(*)
+FROM incomes
+GROUP BY user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), source;
+
+INSERT INTO user_monthly_rollup (user_id, year_month, kind, category, total, entry_count)
+SELECT user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), 'SAVING', goal,
+       SUM(amount), COUNT(*)
+FROM savings
+GROUP BY user_id, CAST(EXTRACT(YEAR FROM date) * 100 + EXTRACT(MONTH FROM date) AS INTEGER), goal;
@@ -0,0 +1,8 @@
+-- Every ledger is read per user, newest first, paged by (date, id); the trailing id makes the keyset
+-- tiebreaker and the export order index-only. The same indexes serve the date-range summaries.
+CREATE INDEX idx_expense_user_date ON expense (user_id, date, id);
+CREATE INDEX idx_incomes_user_date ON incomes (user_id, date, id);
+CREATE INDEX idx_savings_user_date ON savings (user_id, date, id);
+
+-- The activity feed reads a user's latest activities without sorting the whole table
+CREATE INDEX idx_user_activities_user_created ON user_activities (user_id, created_at DESC);
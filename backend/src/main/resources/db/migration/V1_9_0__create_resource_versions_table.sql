@@ -0,0 +1,7 @@
+CREATE TABLE resource_versions
+(
+    user_id  BIGINT      NOT NULL,
+    resource VARCHAR(16) NOT NULL,
+    version  BIGINT      NOT NULL,
+    CONSTRAINT pk_resource_versions PRIMARY KEY (user_id, resource)
+);
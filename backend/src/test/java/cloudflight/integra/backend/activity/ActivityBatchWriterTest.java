@@ -0,0 +1,138 @@
+package cloudflight.integra.backend.activity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import cloudflight.integra.backend.entity.IdSequences;
+import cloudflight.integra.backend.entity.UserActivity;
+import cloudflight.integra.backend.service.activity.ActivityBatchWriter;
+import cloudflight.integra.backend.service.activity.OverflowPolicy;
+import cloudflight.integra.backend.service.ids.PooledIdAllocator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+class ActivityBatchWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private List<List<UserActivity>> batches;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        batches = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(
+                        anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    batches.add(new ArrayList<>(invocation.getArgument(1, Collection.class)));
+                    return new int[0][];
+                });
+        AtomicLong sequence = new AtomicLong();
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .thenAnswer(invocation -> sequence.addAndGet(IdSequences.ALLOCATION_SIZE));
+    }
+
+    @Test
+    void flush_writesQueuedActivitiesInBatches() {
+        ActivityBatchWriter writer = writer(10, OverflowPolicy.DROP_OLDEST, 4);
+        for (int i = 0; i < 10; i++) {
+            writer.enqueue(activity(i));
+        }
+
+        writer.flush();
+
+        assertThat(batches).extracting(List::size).containsExactly(4, 4, 2);
+        assertThat(writer.getWrittenCount()).isEqualTo(10);
+    }
+
+    @Test
+    void flush_assignsIdsFromOneSequenceBlockPerBatch() {
+        ActivityBatchWriter writer = writer(10, OverflowPolicy.DROP_OLDEST, 4);
+        for (int i = 0; i < 6; i++) {
+            writer.enqueue(activity(i));
+        }
+
+        writer.flush();
+
+        assertThat(batches.get(0)).extracting(UserActivity::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(batches.get(1)).extracting(UserActivity::getId).containsExactly(51L, 52L);
+    }
+
+    @Test
+    void dropOldest_keepsNewestActivitiesWhenFull() {
+        ActivityBatchWriter writer = writer(3, OverflowPolicy.DROP_OLDEST, 10);
+        for (int i = 0; i < 5; i++) {
+            assertThat(writer.enqueue(activity(i))).isTrue();
+        }
+
+        writer.flush();
+
+        assertThat(batches.get(0)).extracting(UserActivity::getUserId).containsExactly(2L, 3L, 4L);
+        assertThat(writer.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void block_dropsNewActivityAfterTimeout() {
+        ActivityBatchWriter writer = writer(2, OverflowPolicy.BLOCK, 10);
+        writer.enqueue(activity(0));
+        writer.enqueue(activity(1));
+
+        assertThat(writer.enqueue(activity(2))).isFalse();
+
+        writer.flush();
+        assertThat(batches.get(0)).extracting(UserActivity::getUserId).containsExactly(0L, 1L);
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void sample_neverOverfillsQueue() {
+        ActivityBatchWriter writer = writer(4, OverflowPolicy.SAMPLE, 10);
+        for (int i = 0; i < 100; i++) {
+            writer.enqueue(activity(i));
+        }
+
+        assertThat(writer.getQueueSize()).isLessThanOrEqualTo(4);
+        assertThat(writer.getEnqueuedCount() + writer.getDroppedCount()).isEqualTo(100);
+    }
+
+    @Test
+    void stop_flushesEverythingStillQueued() {
+        ActivityBatchWriter writer = writer(100, OverflowPolicy.DROP_OLDEST, 10);
+        writer.start();
+        for (int i = 0; i < 25; i++) {
+            writer.enqueue(activity(i));
+        }
+
+        writer.stop();
+
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(writer.getQueueSize()).isZero();
+        assertThat(writer.getWrittenCount()).isEqualTo(25);
+    }
+
+    private ActivityBatchWriter writer(int capacity, OverflowPolicy policy, int batchSize) {
+        return new ActivityBatchWriter(
+                jdbcTemplate,
+                new PooledIdAllocator(jdbcTemplate),
+                capacity,
+                policy,
+                0.0,
+                Duration.ofMillis(10),
+                batchSize,
+                Duration.ofMillis(20),
+                Duration.ofSeconds(5));
+    }
+
+    private static UserActivity activity(long userId) {
+        return new UserActivity(userId, "LOGIN", "Logged in", "pi pi-sign-in");
+    }
+}
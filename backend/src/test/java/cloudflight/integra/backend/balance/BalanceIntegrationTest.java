@@ -0,0 +1,157 @@
+package cloudflight.integra.backend.balance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.dto.SavingDTO;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.IncomeService;
+import cloudflight.integra.backend.service.SavingService;
+import cloudflight.integra.backend.service.UserService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+// Concurrent writers of one user queue on the balance row for longer than H2's default lock timeout
+@TestPropertySource(
+        properties =
+                "spring.datasource.url=jdbc:h2:mem:balance;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=30000")
+class BalanceIntegrationTest {
+
+    private static final int WRITES = 2100;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private IncomeService incomeService;
+
+    @Autowired
+    private SavingService savingService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "Balance", "balance+" + UUID.randomUUID() + "@example.com", "pw"));
+    }
+
+    @Test
+    void writes_adjustTheBalanceByTheirDelta() {
+        incomeService.createIncome(income("1000.00"));
+        ExpenseDTO rent = expenseService.createExpense(expense("300.00"));
+        savingService.addSaving(saving("100.00"));
+        assertThat(balance()).isEqualByComparingTo("600.00");
+
+        rent.setAmount(new BigDecimal("350.00"));
+        expenseService.updateExpense(rent);
+        assertThat(balance()).isEqualByComparingTo("550.00");
+
+        expenseService.deleteExpense(rent.getId());
+        incomeService.createIncomes(List.of(income("10.00"), income("20.00")));
+        assertThat(balance()).isEqualByComparingTo("930.00");
+    }
+
+    @Test
+    void updateUser_keepsTheBalance() {
+        incomeService.createIncome(income("1000.00"));
+
+        User changed = new User(user.getId(), "Renamed", user.getEmail(), "pw", BigDecimal.ZERO);
+        assertThat(userService.updateUser(changed).getBalance()).isEqualByComparingTo("1000.00");
+        assertThat(balance()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    void concurrentWrites_ofOneUser_neverLoseAnUpdate() throws Exception {
+        // The rollup rows exist before the threads start, so they only ever update them
+        incomeService.createIncome(income("10.00"));
+        expenseService.createExpense(expense("3.00"));
+        savingService.addSaving(saving("2.00"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> writes = new ArrayList<>();
+            for (int i = 0; i < WRITES; i++) {
+                int kind = i % 3;
+                writes.add(executor.submit(() -> {
+                    switch (kind) {
+                        case 0 -> incomeService.createIncome(income("10.00"));
+                        case 1 -> expenseService.createExpense(expense("3.00"));
+                        default -> savingService.addSaving(saving("2.00"));
+                    }
+                }));
+            }
+            for (Future<?> write : writes) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Every kind was written WRITES / 3 + 1 times: +10.00, -3.00 and -2.00
+        assertThat(balance()).isEqualByComparingTo(new BigDecimal("5.00").multiply(BigDecimal.valueOf(WRITES / 3 + 1)));
+    }
+
+    private BigDecimal balance() {
+        return userRepository.findById(user.getId()).orElseThrow().getBalance();
+    }
+
+    private IncomeDTO income(String amount) {
+        IncomeDTO dto = new IncomeDTO();
+        dto.setUserId(user.getId());
+        dto.setSource("Salary");
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(toDate(LocalDate.of(2025, 1, 15)));
+        dto.setFrequency(Frequency.ONE_TIME);
+        return dto;
+    }
+
+    private ExpenseDTO expense(String amount) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setUserId(user.getId());
+        dto.setCategory("Rent");
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(LocalDate.of(2025, 1, 15));
+        dto.setFrequency(ExpenseDTO.Frequency.ONE_TIME);
+        dto.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+        return dto;
+    }
+
+    private SavingDTO saving(String amount) {
+        SavingDTO dto = new SavingDTO();
+        dto.setUserId(user.getId());
+        dto.setGoal("Holiday");
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(toDate(LocalDate.of(2025, 1, 15)));
+        return dto;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
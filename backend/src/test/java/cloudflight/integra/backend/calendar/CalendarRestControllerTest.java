@@ -0,0 +1,171 @@
+package cloudflight.integra.backend.calendar;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
+import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
+import cloudflight.integra.backend.dto.auth.RegisterRequest;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.IncomeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CalendarRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private IncomeService incomeService;
+
+    private User testUser;
+
+    private String testToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String email = "calendar+" + UUID.randomUUID() + "@example.com";
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setName("Calendar User");
+        registerRequest.setEmail(email);
+        registerRequest.setPassword("password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk());
+
+        AuthenticationRequest loginRequest = new AuthenticationRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword("password123");
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        testToken = objectMapper
+                .readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+        testUser = userRepository.findByEmail(email).orElseThrow();
+    }
+
+    @Test
+    void getCalendar_sumsOccurrencesPerDay() throws Exception {
+        saveExpense(
+                "Rent", "100.00", LocalDate.of(2025, 1, 10), ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 3, 31));
+        saveExpense("Food", "20.00", LocalDate.of(2025, 2, 10), ExpenseDTO.Frequency.ONE_TIME, null);
+        saveExpense("Food", "999.00", LocalDate.of(2025, 1, 31), ExpenseDTO.Frequency.ONE_TIME, null);
+        saveIncome("Salary", "1000.00", LocalDate.of(2025, 1, 25), Frequency.MONTHLY, LocalDate.of(2025, 6, 30));
+
+        mockMvc.perform(get("/api/v1/calendar")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("month", "2025-02"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.month").value("2025-02"))
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[0].date").value("2025-02-10"))
+                .andExpect(jsonPath("$.days[0].expenses").value(120.0))
+                .andExpect(jsonPath("$.days[0].incomes").value(0.0))
+                .andExpect(jsonPath("$.days[0].count").value(2))
+                .andExpect(jsonPath("$.days[1].date").value("2025-02-25"))
+                .andExpect(jsonPath("$.days[1].expenses").value(0.0))
+                .andExpect(jsonPath("$.days[1].incomes").value(1000.0))
+                .andExpect(jsonPath("$.days[1].count").value(1));
+    }
+
+    @Test
+    void getCalendar_afterEndDate_omitsRecurringEntry() throws Exception {
+        saveExpense(
+                "Rent", "100.00", LocalDate.of(2025, 1, 10), ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 3, 31));
+
+        mockMvc.perform(get("/api/v1/calendar")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("month", "2025-04"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(0));
+    }
+
+    @Test
+    void getCalendar_withoutMonth_showsCurrentMonth() throws Exception {
+        mockMvc.perform(get("/api/v1/calendar").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.month").value(YearMonth.now().toString()));
+    }
+
+    @Test
+    void getCalendar_invalidMonth_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/calendar")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("month", "2025-13"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("'month' must be a month in the format yyyy-MM"));
+    }
+
+    @Test
+    void getCalendar_withoutToken_isRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/calendar").param("month", "2025-02")).andExpect(status().isUnauthorized());
+    }
+
+    private void saveExpense(
+            String category, String amount, LocalDate date, ExpenseDTO.Frequency frequency, LocalDate endDate) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setUserId(testUser.getId());
+        dto.setCategory(category);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(date);
+        dto.setFrequency(frequency);
+        dto.setEndDate(endDate);
+        dto.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+        expenseService.createExpense(dto);
+    }
+
+    private void saveIncome(String source, String amount, LocalDate date, Frequency frequency, LocalDate endDate) {
+        IncomeDTO dto = new IncomeDTO();
+        dto.setUserId(testUser.getId());
+        dto.setSource(source);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(toDate(date));
+        dto.setFrequency(frequency);
+        dto.setEndDate(toDate(endDate));
+        incomeService.createIncome(dto);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null
+                ? null
+                : Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,222 @@
+package cloudflight.integra.backend.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.LedgerOccurrence;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.LedgerOccurrenceRepository;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.IncomeService;
+import cloudflight.integra.backend.service.calendar.OccurrenceHorizonJob;
+import cloudflight.integra.backend.service.calendar.OccurrenceWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OccurrenceCalendarIntegrationTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private IncomeService incomeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LedgerOccurrenceRepository occurrenceRepository;
+
+    @Autowired
+    private OccurrenceWriter occurrenceWriter;
+
+    @Autowired
+    private OccurrenceHorizonJob horizonJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "Calendar", "calendar+" + UUID.randomUUID() + "@example.com", "pw"));
+    }
+
+    @Test
+    void recurringEntries_occurFromTheirDateUntilTheirEndDate() {
+        expenseService.createExpense(
+                expense("Rent", LocalDate.of(2025, 1, 31), ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 5, 15)));
+        incomeService.createIncome(
+                income("Bonus", LocalDate.of(2024, 2, 29), Frequency.YEARLY, LocalDate.of(2026, 3, 1)));
+        expenseService.createExpense(expense("Food", LocalDate.of(2025, 3, 3), ExpenseDTO.Frequency.ONE_TIME, null));
+
+        assertThat(dates(LedgerKind.EXPENSE))
+                .containsExactly(
+                        LocalDate.of(2025, 1, 31),
+                        LocalDate.of(2025, 2, 28),
+                        LocalDate.of(2025, 3, 3),
+                        LocalDate.of(2025, 3, 31),
+                        LocalDate.of(2025, 4, 30));
+        assertThat(dates(LedgerKind.INCOME))
+                .containsExactly(LocalDate.of(2024, 2, 29), LocalDate.of(2025, 2, 28), LocalDate.of(2026, 2, 28));
+    }
+
+    @Test
+    void openEndedEntry_isMaterializedUpToTheHorizon() {
+        LocalDate start = LocalDate.now().minusMonths(2);
+        expenseService.createExpense(expense("Rent", start, ExpenseDTO.Frequency.MONTHLY, null));
+
+        List<LocalDate> dates = dates(LedgerKind.EXPENSE);
+        assertThat(dates).first().isEqualTo(start);
+        assertThat(dates).last().satisfies(last -> {
+            assertThat(last).isBeforeOrEqualTo(occurrenceWriter.horizon());
+            assertThat(last.plusMonths(1)).isAfter(occurrenceWriter.horizon());
+        });
+    }
+
+    @Test
+    void update_regeneratesAndDelete_removesOccurrences() {
+        ExpenseDTO rent = expenseService.createExpense(
+                expense("Rent", LocalDate.of(2025, 1, 10), ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 3, 31)));
+
+        rent.setDate(LocalDate.of(2025, 1, 15));
+        rent.setEndDate(LocalDate.of(2025, 2, 28));
+        expenseService.updateExpense(rent);
+        assertThat(dates(LedgerKind.EXPENSE)).containsExactly(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 2, 15));
+
+        rent.setFrequency(ExpenseDTO.Frequency.ONE_TIME);
+        expenseService.updateExpense(rent);
+        assertThat(dates(LedgerKind.EXPENSE)).containsExactly(LocalDate.of(2025, 1, 15));
+
+        expenseService.deleteExpense(rent.getId());
+        assertThat(dates(LedgerKind.EXPENSE)).isEmpty();
+    }
+
+    @Test
+    void horizonJob_addsTheOccurrencesUncoveredByTheHorizon() {
+        LocalDate start = LocalDate.now().minusMonths(1);
+        expenseService.createExpense(expense("Rent", start, ExpenseDTO.Frequency.MONTHLY, null));
+        incomeService.createIncome(income("Salary", start, Frequency.MONTHLY, null));
+        List<LocalDate> expenseDates = dates(LedgerKind.EXPENSE);
+        List<LocalDate> incomeDates = dates(LedgerKind.INCOME);
+
+        // Only the first occurrences exist, as for entries migrated from before the calendar
+        occurrenceRepository.deleteAll(
+                rows().stream().filter(o -> o.getDate().isAfter(start)).toList());
+        assertThat(horizonJob.extendAll()).isGreaterThanOrEqualTo(2);
+        assertThat(dates(LedgerKind.EXPENSE)).isEqualTo(expenseDates);
+        assertThat(dates(LedgerKind.INCOME)).isEqualTo(incomeDates);
+
+        horizonJob.extendAll(occurrenceWriter.horizon().plusMonths(2));
+        assertThat(dates(LedgerKind.EXPENSE)).hasSize(expenseDates.size() + 2);
+        assertThat(dates(LedgerKind.INCOME)).hasSize(incomeDates.size() + 2);
+    }
+
+    @Test
+    void horizonJob_skipsEntriesClaimedElsewhere_andConcurrentRunsAddEachOccurrenceOnce() throws Exception {
+        LocalDate start = LocalDate.now().minusMonths(1);
+        ExpenseDTO rent = expenseService.createExpense(expense("Rent", start, ExpenseDTO.Frequency.MONTHLY, null));
+        incomeService.createIncome(income("Salary", start, Frequency.MONTHLY, null));
+        int expenses = dates(LedgerKind.EXPENSE).size();
+        int incomes = dates(LedgerKind.INCOME).size();
+        LocalDate until = occurrenceWriter.horizon().plusMonths(2);
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate edit = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> claim = CompletableFuture.runAsync(() -> edit.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM expense WHERE id = ? FOR UPDATE", rent.getId());
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+        try {
+            horizonJob.extendAll(until);
+            assertThat(dates(LedgerKind.EXPENSE)).hasSize(expenses);
+            assertThat(dates(LedgerKind.INCOME)).hasSize(incomes + 2);
+        } finally {
+            release.countDown();
+            claim.get(10, TimeUnit.SECONDS);
+        }
+
+        CompletableFuture.allOf(
+                        CompletableFuture.runAsync(() -> horizonJob.extendAll(until)),
+                        CompletableFuture.runAsync(() -> horizonJob.extendAll(until)))
+                .get(30, TimeUnit.SECONDS);
+        assertThat(dates(LedgerKind.EXPENSE)).hasSize(expenses + 2).doesNotHaveDuplicates();
+        assertThat(dates(LedgerKind.INCOME)).hasSize(incomes + 2);
+    }
+
+    private List<LedgerOccurrence> rows() {
+        return occurrenceRepository.findAll().stream()
+                .filter(o -> o.getUserId().equals(user.getId()))
+                .toList();
+    }
+
+    private List<LocalDate> dates(LedgerKind kind) {
+        return rows().stream()
+                .filter(o -> o.getKind() == kind)
+                .map(LedgerOccurrence::getDate)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+
+    private ExpenseDTO expense(String category, LocalDate date, ExpenseDTO.Frequency frequency, LocalDate endDate) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setUserId(user.getId());
+        dto.setCategory(category);
+        dto.setAmount(new BigDecimal("100.00"));
+        dto.setDate(date);
+        dto.setFrequency(frequency);
+        dto.setEndDate(endDate);
+        dto.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+        return dto;
+    }
+
+    private IncomeDTO income(String source, LocalDate date, Frequency frequency, LocalDate endDate) {
+        IncomeDTO dto = new IncomeDTO();
+        dto.setUserId(user.getId());
+        dto.setSource(source);
+        dto.setAmount(new BigDecimal("1000.00"));
+        dto.setDate(toDate(date));
+        dto.setFrequency(frequency);
+        dto.setEndDate(toDate(endDate));
+        return dto;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null
+                ? null
+                : Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,160 @@
+package cloudflight.integra.backend.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** Two in-memory H2 databases stand in for the primary and a replica; each knows which one it is. */
+class ReplicaDataSourceTest {
+
+    private final AtomicReference<String> currentUser = new AtomicReference<>();
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary");
+        replica = h2("routing-replica");
+        new JdbcTemplate(primary).execute("CREATE TABLE node AS SELECT 'primary' AS name");
+        new JdbcTemplate(replica).execute("CREATE TABLE node AS SELECT 'replica' AS name");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void readOnlyTransaction_readsFromReplica() {
+        route(List.of(new ReplicaDataSource.Replica("replica", replica)), Duration.ZERO);
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+        assertThat(readWriteNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_withoutReplicas_readsFromPrimary() {
+        route(List.of(), Duration.ZERO);
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_afterOwnWrite_readsFromPrimaryWithinWindow() {
+        route(List.of(new ReplicaDataSource.Replica("replica", replica)), Duration.ofMinutes(1));
+        currentUser.set("alice@email.com");
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        currentUser.set("bob@email.com");
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransaction_afterRolledBackWrite_readsFromReplica() {
+        route(List.of(new ReplicaDataSource.Replica("replica", replica)), Duration.ofMinutes(1));
+        currentUser.set("alice@email.com");
+
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyNode()).isEqualTo("replica");
+    }
+
+    @Test
+    void readOnlyTransaction_withFailingReplica_fallsBackToPrimaryAndSkipsTheReplica() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaDataSource routing =
+                route(List.of(new ReplicaDataSource.Replica("unreachable", unreachable)), Duration.ZERO);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        routing.bindTo(registry);
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        verify(unreachable, times(1)).getConnection();
+        assertThat(registry.get("datasource.routing.connections")
+                        .tag("route", "replica-unavailable")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void readOnlyTransaction_withOneFailingReplica_usesTheHealthyOne() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        route(
+                List.of(
+                        new ReplicaDataSource.Replica("unreachable", unreachable),
+                        new ReplicaDataSource.Replica("replica", replica)),
+                Duration.ZERO);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(readOnlyNode()).isEqualTo("replica");
+        }
+    }
+
+    private ReplicaDataSource route(List<ReplicaDataSource.Replica> replicas, Duration window) {
+        ReplicaDataSource routing = new ReplicaDataSource(
+                primary,
+                replicas,
+                new RecentWriters(window, 100),
+                currentUser::get,
+                Duration.ofMinutes(1),
+                Clock.fixed(Instant.parse("2025-07-01T10:00:00Z"), ZoneOffset.UTC));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing.getWriteDataSource());
+        dataSource.setReadOnlyDataSource(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return routing;
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String readWriteNode() {
+        return readWrite.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
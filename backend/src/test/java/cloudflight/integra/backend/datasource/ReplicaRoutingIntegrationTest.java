@@ -0,0 +1,150 @@
+package cloudflight.integra.backend.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributorRegistry;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.NamedContributor;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/** The replica is a second pool on the test database, so every route sees the same rows. */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(
+        properties = {
+            "spring.datasource.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "datasource.replicas.urls=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+            "datasource.replicas.read-your-writes-window=1m"
+        })
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaDataSource replicaDataSource;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HealthContributorRegistry healthContributorRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "Replica", "replica+" + UUID.randomUUID() + "@example.com", "pw"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void dataSource_defersConnectionsToPrimaryOrReplicas() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource())
+                .isSameAs(replicaDataSource.getWriteDataSource());
+    }
+
+    @Test
+    void readOnlyServiceCall_isServedByReplica() {
+        double before = connections("replica");
+
+        expenseService.getAllExpenses(user.getId(), null, 20);
+
+        assertThat(connections("replica")).isEqualTo(before + 1);
+    }
+
+    @Test
+    void readOnlyServiceCall_afterOwnWrite_isServedByPrimary() {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user.getEmail(), null, List.of()));
+        expenseService.createExpense(expense());
+        double replicaBefore = connections("replica");
+        double readYourWritesBefore = connections("read-your-writes");
+
+        assertThat(expenseService.getAllExpenses(user.getId(), null, 20).getItems())
+                .hasSize(1);
+
+        assertThat(connections("read-your-writes")).isEqualTo(readYourWritesBefore + 1);
+        assertThat(connections("replica")).isEqualTo(replicaBefore);
+    }
+
+    @Test
+    void bothPools_publishMetricsAndHealth() {
+        expenseService.getAllExpenses(user.getId(), null, 20);
+
+        assertThat(meterRegistry
+                        .find("hikaricp.connections")
+                        .tag("pool", "primary")
+                        .gauge())
+                .isNotNull();
+        assertThat(meterRegistry
+                        .find("hikaricp.connections")
+                        .tag("pool", "replica-1")
+                        .gauge())
+                .isNotNull();
+        assertThat(meterRegistry
+                        .find("jdbc.connections.max")
+                        .tag("name", "replica-1")
+                        .gauge())
+                .isNotNull();
+
+        assertThat((CompositeHealthContributor) healthContributorRegistry.getContributor("db"))
+                .extracting(NamedContributor::getName)
+                .contains("primaryDataSource");
+        HealthIndicator replica =
+                (HealthIndicator) ((CompositeHealthContributor) healthContributorRegistry.getContributor("replicas"))
+                        .getContributor("replica-1");
+        assertThat(replica.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private double connections(String route) {
+        return meterRegistry
+                .get("datasource.routing.connections")
+                .tag("route", route)
+                .functionCounter()
+                .count();
+    }
+
+    private ExpenseDTO expense() {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setUserId(user.getId());
+        dto.setCategory("Rent");
+        dto.setAmount(new BigDecimal("500.00"));
+        dto.setDate(LocalDate.of(2025, 3, 1));
+        dto.setFrequency(ExpenseDTO.Frequency.ONE_TIME);
+        dto.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+        return dto;
+    }
+}
@@ -0,0 +1,70 @@
+package cloudflight.integra.backend.diagnostics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void blockingWhilePinnedInOurCode_isCountedAsApplicationPinning() throws InterruptedException {
+        // A virtual thread running a class initializer cannot unmount, on every JDK since 21
+        Thread.ofVirtual().start(FirstSlowInitializer::touch).join();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> monitor.getApplicationPinnedCount() > 0);
+        assertThat(monitor.getLibraryPinnedCount()).isZero();
+    }
+
+    @Test
+    void blockingUnpinned_isNotReported() throws InterruptedException {
+        Thread.ofVirtual().start(VirtualThreadPinningMonitorTest::pause).join();
+        // Events arrive in order, so once this one is seen the unpinned sleep would have been too
+        Thread.ofVirtual().start(SecondSlowInitializer::touch).join();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> monitor.getApplicationPinnedCount() > 0);
+        assertThat(monitor.getApplicationPinnedCount()).isEqualTo(1);
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class FirstSlowInitializer {
+
+        static {
+            pause();
+        }
+
+        static void touch() {}
+    }
+
+    private static final class SecondSlowInitializer {
+
+        static {
+            pause();
+        }
+
+        static void touch() {}
+    }
+}
@@ -5,15 +5,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.ExpenseDTO;
 import cloudflight.integra.backend.entity.Expense;
 import cloudflight.integra.backend.entity.User;
 import cloudflight.integra.backend.entity.validation.ExpenseValidator;
 import cloudflight.integra.backend.entity.validation.ValidationException;
 import cloudflight.integra.backend.exception.NotFoundException;
+import cloudflight.integra.backend.mapper.ExpenseMapper;
 import cloudflight.integra.backend.repository.ExpenseRepository;
 import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.balance.BalanceWriter;
+import cloudflight.integra.backend.service.calendar.OccurrenceWriter;
 import cloudflight.integra.backend.service.impl.ExpenseServiceImpl;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupWriter;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -24,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class ExpenseServiceImplementationTest {
@@ -37,6 +44,18 @@ class ExpenseServiceImplementationTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MonthlyRollupWriter monthlyRollup;
+
+    @Mock
+    private BalanceWriter balances;
+
+    @Mock
+    private OccurrenceWriter occurrences;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private ExpenseServiceImpl expenseService;
 
@@ -139,27 +158,27 @@ class ExpenseServiceImplementationTest {
 
     @Test
     void getExpense_Success() {
-        when(expenseRepository.findById(1L)).thenReturn(Optional.of(testExpense));
+        when(expenseRepository.findDTOByIdAndUserId(1L, 1L)).thenReturn(Optional.of(ExpenseMapper.toDTO(testExpense)));
 
-        ExpenseDTO result = expenseService.getExpense(1L);
+        ExpenseDTO result = expenseService.getExpense(1L, 1L);
 
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getAmount()).isEqualByComparingTo(new BigDecimal("100.50"));
         assertThat(result.getCategory()).isEqualTo("Groceries");
 
-        verify(expenseRepository, times(1)).findById(1L);
+        verify(expenseRepository, times(1)).findDTOByIdAndUserId(1L, 1L);
     }
 
     @Test
     void getExpense_NotFound() {
-        when(expenseRepository.findById(99L)).thenReturn(Optional.empty());
+        when(expenseRepository.findDTOByIdAndUserId(99L, 1L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> expenseService.getExpense(99L))
+        assertThatThrownBy(() -> expenseService.getExpense(99L, 1L))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Expense with id 99 not found");
 
-        verify(expenseRepository, times(1)).findById(99L);
+        verify(expenseRepository, times(1)).findDTOByIdAndUserId(99L, 1L);
     }
 
     @Test
@@ -176,12 +195,53 @@ class ExpenseServiceImplementationTest {
                 null,
                 Expense.PaymentMethod.CARD);
 
-        when(expenseRepository.findAll()).thenReturn(List.of(testExpense, expense2));
+        when(expenseRepository.findPageByUserId(1L, Limit.of(101)))
+                .thenReturn(ExpenseMapper.toDTOList(List.of(expense2, testExpense)));
 
-        Iterable<ExpenseDTO> result = expenseService.getAllExpenses();
+        CursorPage<ExpenseDTO> result = expenseService.getAllExpenses(1L, null, 100);
 
-        assertThat(result).hasSize(2);
-        verify(expenseRepository, times(1)).findAll();
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.hasNext()).isFalse();
+        verify(expenseRepository, times(1)).findPageByUserId(1L, Limit.of(101));
+        verify(expenseRepository, never()).findAll();
+        verify(expenseRepository, never()).count();
+    }
+
+    @Test
+    void getAllExpenses_FollowsCursorToNextPage() {
+        Expense expense2 = new Expense(
+                2L,
+                testUser,
+                new BigDecimal("50.00"),
+                "Transport",
+                LocalDate.of(2025, 9, 16),
+                "Bus ticket",
+                Expense.Frequency.ONE_TIME,
+                null,
+                null,
+                Expense.PaymentMethod.CARD);
+
+        when(expenseRepository.findPageByUserId(1L, Limit.of(2)))
+                .thenReturn(ExpenseMapper.toDTOList(List.of(expense2, testExpense)));
+        when(expenseRepository.findPageByUserIdAfter(1L, LocalDate.of(2025, 9, 16), 2L, Limit.of(2)))
+                .thenReturn(List.of(ExpenseMapper.toDTO(testExpense)));
+
+        CursorPage<ExpenseDTO> first = expenseService.getAllExpenses(1L, null, 1);
+        CursorPage<ExpenseDTO> second = expenseService.getAllExpenses(1L, first.getNextCursor(), 1);
+
+        assertThat(first.getItems()).extracting(ExpenseDTO::getId).containsExactly(2L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getItems()).extracting(ExpenseDTO::getId).containsExactly(1L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    void getAllExpenses_InvalidCursorOrLimit_ThrowsValidationException() {
+        assertThatThrownBy(() -> expenseService.getAllExpenses(1L, "not-a-cursor", 10))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> expenseService.getAllExpenses(1L, null, 0)).isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(expenseRepository);
     }
 
     @Test
@@ -226,24 +286,25 @@ class ExpenseServiceImplementationTest {
 
     @Test
     void deleteExpense_Success() {
-        when(expenseRepository.existsById(1L)).thenReturn(true);
+        when(expenseRepository.findById(1L)).thenReturn(Optional.of(testExpense));
         doNothing().when(expenseRepository).deleteById(1L);
 
         expenseService.deleteExpense(1L);
 
-        verify(expenseRepository, times(1)).existsById(1L);
+        verify(expenseRepository, times(1)).findById(1L);
+        verify(monthlyRollup, times(1)).removed(testExpense);
         verify(expenseRepository, times(1)).deleteById(1L);
     }
 
     @Test
     void deleteExpense_NotFound() {
-        when(expenseRepository.existsById(99L)).thenReturn(false);
+        when(expenseRepository.findById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> expenseService.deleteExpense(99L))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Expense with id 99 not found");
 
-        verify(expenseRepository, times(1)).existsById(99L);
+        verify(expenseRepository, times(1)).findById(99L);
         verify(expenseRepository, never()).deleteById(anyLong());
     }
 }
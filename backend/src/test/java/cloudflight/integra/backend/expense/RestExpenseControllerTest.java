@@ -11,18 +11,26 @@ import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
 import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
 import cloudflight.integra.backend.dto.auth.RegisterRequest;
 import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.LedgerKind;
 import cloudflight.integra.backend.entity.User;
 import cloudflight.integra.backend.repository.ExpenseRepository;
+import cloudflight.integra.backend.repository.UserMonthlyRollupRepository;
 import cloudflight.integra.backend.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
@@ -39,7 +47,9 @@ import org.springframework.transaction.annotation.Transactional;
             "spring.datasource.password=",
             "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
             "spring.jpa.hibernate.ddl-auto=create-drop",
-            "spring.jpa.show-sql=false"
+            "spring.jpa.show-sql=false",
+            "import.chunk-size=2",
+            "rate-limit.enabled=false"
         })
 class RestExpenseControllerTest {
 
@@ -55,6 +65,12 @@ class RestExpenseControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserMonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User testUser;
     private Expense testExpense;
 
@@ -205,6 +221,253 @@ class RestExpenseControllerTest {
                 .andExpect(jsonPath("$[1].category", is(oneOf("Groceries", "Entertainment"))));
     }
 
+    @Test
+    void getAllExpenses_WithCurrentEtag_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/expenses").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        mockMvc.perform(get("/api/v1/expenses")
+                        .header("Authorization", "Bearer " + testToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/expenses/{id}", testExpense.getId())
+                        .header("Authorization", "Bearer " + testToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getExpenseById_OfAnotherUser_IsNotFoundDespiteCurrentEtag() throws Exception {
+        User other = userRepository.save(new User(null, "Other", "other@example.com", "pw"));
+        Expense foreign = new Expense();
+        foreign.setUser(other);
+        foreign.setUserId(other.getId());
+        foreign.setAmount(new BigDecimal("20.00"));
+        foreign.setCategory("Rent");
+        foreign.setDate(LocalDate.of(2025, 9, 1));
+        foreign.setFrequency(Expense.Frequency.ONE_TIME);
+        foreign.setPaymentMethod(Expense.PaymentMethod.CARD);
+        foreign = expenseRepository.save(foreign);
+        String etag = mockMvc.perform(get("/api/v1/expenses").header("Authorization", "Bearer " + testToken))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/expenses/{id}", foreign.getId())
+                        .header("Authorization", "Bearer " + testToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/expenses/{id}", foreign.getId()).header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getAllExpenses_AfterChange_EtagNoLongerMatches() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/expenses").header("Authorization", "Bearer " + testToken))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(delete("/api/v1/expenses/{id}", testExpense.getId())
+                        .header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/expenses")
+                        .header("Authorization", "Bearer " + testToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void exportExpenses_Ndjson_StreamsOneLinePerExpenseOfUser() throws Exception {
+        Expense expense2 = new Expense();
+        expense2.setUser(testUser);
+        expense2.setUserId(testUser.getId());
+        expense2.setAmount(new BigDecimal("75.50"));
+        expense2.setCategory("Entertainment");
+        expense2.setDate(LocalDate.of(2025, 9, 18));
+        expense2.setFrequency(Expense.Frequency.ONE_TIME);
+        expense2.setPaymentMethod(Expense.PaymentMethod.CARD);
+        expenseRepository.save(expense2);
+
+        MvcResult result = mockMvc.perform(
+                        get("/api/v1/expenses/export").header("Authorization", "Bearer " + testToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", containsString("expenses.ndjson")))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], ExpenseDTO.class).getCategory())
+                .isEqualTo("Groceries");
+        assertThat(objectMapper.readValue(lines[1], ExpenseDTO.class).getCategory())
+                .isEqualTo("Entertainment");
+    }
+
+    @Test
+    void exportExpenses_Csv_QuotesFieldsWithSeparators() throws Exception {
+        testExpense.setDescription("Milk, eggs and \"bio\" bread");
+        expenseRepository.save(testExpense);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/expenses/export")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        assertThat(body.split("\r\n"))
+                .containsExactly(
+                        "id,date,amount,category,description,frequency,endDate,nextDueDate,paymentMethod",
+                        testExpense.getId()
+                                + ",2025-09-15,150.00,Groceries,\"Milk, eggs and \"\"bio\"\" bread\",ONE_TIME,,,CARD");
+    }
+
+    @Test
+    void exportExpenses_UnsupportedFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/expenses/export")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createExpenses_Batch_InsertsAllInJdbcBatches() throws Exception {
+        List<ExpenseDTO> dtos = IntStream.rangeClosed(1, 60)
+                .mapToObj(i -> new ExpenseDTO(
+                        null,
+                        testUser.getId(),
+                        new BigDecimal(i),
+                        "Batch",
+                        LocalDate.of(2025, 7, 1 + i % 28),
+                        null,
+                        ExpenseDTO.Frequency.ONE_TIME,
+                        null,
+                        null,
+                        ExpenseDTO.PaymentMethod.CARD))
+                .toList();
+        Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(post("/api/v1/expenses/batch")
+                        .header("Authorization", "Bearer " + testToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dtos)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(60))
+                .andExpect(jsonPath("$[59].amount").value(60));
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(60);
+        // Two insert batches, two sequence calls, the user lookup and the rollup row, not one statement per row
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(15);
+        assertThat(rollupRepository.sumByCategory(testUser.getId(), LedgerKind.EXPENSE, 202507, 202507))
+                .singleElement()
+                .satisfies(total -> assertThat(total.getCount()).isEqualTo(60));
+    }
+
+    @Test
+    void createExpenses_Batch_WithInvalidItem_StoresNothing() throws Exception {
+        ExpenseDTO valid = new ExpenseDTO(
+                null,
+                testUser.getId(),
+                new BigDecimal("10.00"),
+                "Books",
+                LocalDate.of(2025, 9, 1),
+                null,
+                ExpenseDTO.Frequency.ONE_TIME,
+                null,
+                null,
+                ExpenseDTO.PaymentMethod.CARD);
+        ExpenseDTO invalid = new ExpenseDTO(
+                null,
+                testUser.getId(),
+                new BigDecimal("-1"),
+                "Books",
+                LocalDate.of(2025, 9, 1),
+                null,
+                ExpenseDTO.Frequency.ONE_TIME,
+                null,
+                null,
+                ExpenseDTO.PaymentMethod.CARD);
+
+        mockMvc.perform(post("/api/v1/expenses/batch")
+                        .header("Authorization", "Bearer " + testToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(valid, invalid))))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("[1] Amount must be greater than 0")));
+
+        assertThat(expenseRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void importExpenses_Csv_StoresValidRowsAndReportsInvalidOnes() throws Exception {
+        String csv = "id,date,amount,category,description,frequency,endDate,nextDueDate,paymentMethod\r\n"
+                + ",2025-08-01,10.50,Books,\"Two lines,\r\nof text\",ONE_TIME,,,CARD\r\n"
+                + ",2025-08-02,abc,Books,,ONE_TIME,,,CARD\r\n"
+                + "99,2025-08-03,20.00,Books,,MONTHLY,,2025-09-03,TRANSFER\r\n"
+                + ",2025-08-04,5,Books,,WEEKLY,,,CARD\r\n"
+                + ",2025-08-05,7,,,ONE_TIME,,,CARD\r\n";
+
+        mockMvc.perform(post("/api/v1/expenses/import")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("format", "csv")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value("Invalid amount: abc"))
+                .andExpect(jsonPath("$.errors[1].line").value(6))
+                .andExpect(jsonPath("$.errors[1].messages[0]").value("Invalid frequency: WEEKLY"))
+                .andExpect(jsonPath("$.errors[2].line").value(7))
+                .andExpect(jsonPath("$.errors[2].messages[0]").value("Category cannot be empty"));
+
+        assertThat(expenseRepository.findAll())
+                .filteredOn(e -> "Books".equals(e.getCategory()))
+                .extracting(Expense::getDescription)
+                .containsExactlyInAnyOrder("Two lines,\r\nof text", null);
+        assertThat(rollupRepository.sumByCategory(testUser.getId(), LedgerKind.EXPENSE, 202508, 202508))
+                .singleElement()
+                .satisfies(total -> {
+                    assertThat(total.getTotal()).isEqualByComparingTo("30.50");
+                    assertThat(total.getCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void importExpenses_UnsupportedFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/v1/expenses/import")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("format", "xml")
+                        .content("<expenses/>"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void updateExpense_Success() throws Exception {
@@ -0,0 +1,81 @@
+package cloudflight.integra.backend.forecast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.ForecastMonthDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.service.calendar.BalanceForecast;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BalanceForecastTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 20);
+
+    @Test
+    void project_addsTheOccurrencesAfterTodayToTheBalanceMonthByMonth() {
+        List<ExpenseDTO> expenses = List.of(
+                expense("100", LocalDate.of(2000, 1, 31), ExpenseDTO.Frequency.MONTHLY, null),
+                expense("50", LocalDate.of(2025, 1, 10), ExpenseDTO.Frequency.ONE_TIME, null),
+                expense("50", LocalDate.of(2025, 3, 5), ExpenseDTO.Frequency.ONE_TIME, null));
+        List<IncomeDTO> incomes = List.of(
+                income("1000", LocalDate.of(2024, 12, 15), Frequency.MONTHLY, LocalDate.of(2025, 2, 20)),
+                income("500", LocalDate.of(2024, 3, 1), Frequency.YEARLY, null));
+
+        List<ForecastMonthDTO> forecast = BalanceForecast.project(new BigDecimal("200"), TODAY, 3, expenses, incomes);
+
+        assertThat(forecast)
+                .extracting(
+                        ForecastMonthDTO::getMonth,
+                        m -> m.getIncomes().intValue(),
+                        m -> m.getExpenses().intValue(),
+                        m -> m.getBalance().intValue())
+                .containsExactly(
+                        tuple(YearMonth.of(2025, 1), 0, 100, 100),
+                        tuple(YearMonth.of(2025, 2), 1000, 100, 1000),
+                        tuple(YearMonth.of(2025, 3), 500, 150, 1350));
+    }
+
+    @Test
+    void project_withoutEntries_keepsTheOpeningBalance() {
+        List<ForecastMonthDTO> forecast = BalanceForecast.project(new BigDecimal("42"), TODAY, 2, List.of(), List.of());
+
+        assertThat(forecast)
+                .extracting(ForecastMonthDTO::getMonth, ForecastMonthDTO::getBalance)
+                .containsExactly(
+                        tuple(YearMonth.of(2025, 1), new BigDecimal("42")),
+                        tuple(YearMonth.of(2025, 2), new BigDecimal("42")));
+    }
+
+    private static ExpenseDTO expense(String amount, LocalDate date, ExpenseDTO.Frequency frequency, LocalDate end) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(date);
+        dto.setFrequency(frequency);
+        dto.setEndDate(end);
+        return dto;
+    }
+
+    private static IncomeDTO income(String amount, LocalDate date, Frequency frequency, LocalDate end) {
+        IncomeDTO dto = new IncomeDTO();
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(toDate(date));
+        dto.setFrequency(frequency);
+        dto.setEndDate(toDate(end));
+        return dto;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null
+                ? null
+                : Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
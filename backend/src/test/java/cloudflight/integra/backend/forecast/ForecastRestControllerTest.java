@@ -0,0 +1,196 @@
+package cloudflight.integra.backend.forecast;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.dto.SavingDTO;
+import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
+import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
+import cloudflight.integra.backend.dto.auth.RegisterRequest;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.IncomeService;
+import cloudflight.integra.backend.service.SavingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ForecastRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private IncomeService incomeService;
+
+    @Autowired
+    private SavingService savingService;
+
+    private User testUser;
+
+    private String testToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String email = "forecast+" + UUID.randomUUID() + "@example.com";
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setName("Forecast User");
+        registerRequest.setEmail(email);
+        registerRequest.setPassword("password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk());
+
+        AuthenticationRequest loginRequest = new AuthenticationRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword("password123");
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        testToken = objectMapper
+                .readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+        testUser = userRepository.findByEmail(email).orElseThrow();
+    }
+
+    @Test
+    void getForecast_startsFromTodaysBalanceAndAddsTheRecurringEntries() throws Exception {
+        LocalDate today = LocalDate.now();
+        saveIncome("Salary", "1000.00", today.minusMonths(1), Frequency.MONTHLY, null);
+        saveExpense("Food", "300.00", today, ExpenseDTO.Frequency.ONE_TIME, null);
+
+        mockMvc.perform(get("/api/v1/forecast")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("months", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.asOf").value(today.toString()))
+                .andExpect(jsonPath("$.openingBalance").value(1700.0))
+                .andExpect(jsonPath("$.months.length()").value(3))
+                .andExpect(jsonPath("$.months[0].month").value(YearMonth.now().toString()))
+                .andExpect(jsonPath("$.months[1].incomes").value(1000.0))
+                .andExpect(jsonPath("$.months[1].expenses").value(0.0));
+    }
+
+    @Test
+    void getForecast_afterAWrite_isComputedAgain() throws Exception {
+        saveIncome("Salary", "1000.00", LocalDate.now(), Frequency.MONTHLY, null);
+        mockMvc.perform(get("/api/v1/forecast").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openingBalance").value(1000.0))
+                .andExpect(jsonPath("$.months.length()").value(12));
+
+        saveExpense("Food", "250.00", LocalDate.now(), ExpenseDTO.Frequency.ONE_TIME, null);
+
+        mockMvc.perform(get("/api/v1/forecast").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openingBalance").value(750.0));
+    }
+
+    @Test
+    void getForecast_setsTheSavingsAside() throws Exception {
+        saveIncome("Salary", "1000.00", LocalDate.now(), Frequency.MONTHLY, null);
+        saveSaving("Holiday", "200.00", LocalDate.now());
+        mockMvc.perform(get("/api/v1/forecast").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openingBalance").value(800.0));
+
+        saveSaving("Car", "50.00", LocalDate.now().minusDays(3));
+
+        mockMvc.perform(get("/api/v1/forecast").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.openingBalance").value(750.0))
+                .andExpect(jsonPath("$.months[1].incomes").value(1000.0));
+    }
+
+    @Test
+    void getForecast_monthsOutOfRange_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/forecast")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("months", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("'months' must be between 1 and 120"));
+    }
+
+    @Test
+    void getForecast_monthsNotANumber_returnsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/forecast")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("months", "many"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.details[0]").value("'months' must be a whole number"));
+    }
+
+    @Test
+    void getForecast_withoutToken_isRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/forecast")).andExpect(status().isUnauthorized());
+    }
+
+    private void saveExpense(
+            String category, String amount, LocalDate date, ExpenseDTO.Frequency frequency, LocalDate endDate) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setUserId(testUser.getId());
+        dto.setCategory(category);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(date);
+        dto.setFrequency(frequency);
+        dto.setEndDate(endDate);
+        dto.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+        expenseService.createExpense(dto);
+    }
+
+    private void saveIncome(String source, String amount, LocalDate date, Frequency frequency, LocalDate endDate) {
+        IncomeDTO dto = new IncomeDTO();
+        dto.setUserId(testUser.getId());
+        dto.setSource(source);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(toDate(date));
+        dto.setFrequency(frequency);
+        dto.setEndDate(toDate(endDate));
+        incomeService.createIncome(dto);
+    }
+
+    private void saveSaving(String goal, String amount, LocalDate date) {
+        savingService.addSaving(
+                new SavingDTO(null, testUser.getId(), new BigDecimal(amount), toDate(date), goal, null));
+    }
+
+    private static Date toDate(LocalDate date) {
+        return date == null
+                ? null
+                : Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -5,9 +5,11 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.IncomeDTO;
 import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
 import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
@@ -20,6 +22,7 @@ import cloudflight.integra.backend.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,12 +30,16 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+// Wipes all users before every test, so it must not share its database with other tests
+@TestPropertySource(
+        properties = "spring.datasource.url=jdbc:h2:mem:income-rest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
 class IncomeRestControllerTest {
 
     @Autowired
@@ -103,6 +110,32 @@ class IncomeRestControllerTest {
                 .andExpect(jsonPath("$.amount").value(500));
     }
 
+    @Test
+    void createIncomes_batch_returns201WithAllIncomes() throws Exception {
+        User testUser = userRepository.findByEmail("test@example.com").orElseThrow();
+        IncomeDTO salary = new IncomeDTO();
+        salary.setAmount(new BigDecimal("2000"));
+        salary.setSource("Salary");
+        salary.setDate(new Date());
+        salary.setFrequency(Frequency.MONTHLY);
+        salary.setUserId(testUser.getId());
+        IncomeDTO bonus = new IncomeDTO();
+        bonus.setAmount(new BigDecimal("300"));
+        bonus.setSource("Bonus");
+        bonus.setDate(new Date());
+        bonus.setFrequency(Frequency.ONE_TIME);
+        bonus.setUserId(testUser.getId());
+
+        mockMvc.perform(post("/api/v1/incomes/batch")
+                        .header("Authorization", "Bearer " + testToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(salary, bonus))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].source").value("Salary"))
+                .andExpect(jsonPath("$[1].source").value("Bonus"));
+    }
+
     @Test
     void getIncome_withNonExistingId_returns404() throws Exception {
         mockMvc.perform(get("/api/v1/incomes/999").header("Authorization", "Bearer " + testToken))
@@ -110,14 +143,16 @@ class IncomeRestControllerTest {
     }
 
     @Test
-    void getAllIncomes_returnsList() throws Exception {
+    void getAllIncomes_returnsOnlyIncomesOfAuthenticatedUser() throws Exception {
+        User testUser = userRepository.findByEmail("test@example.com").orElseThrow();
+
         Income i1 = new Income();
         i1.setAmount(new BigDecimal("100"));
         i1.setSource("Job1");
         i1.setDate(new Date());
         i1.setDescription("Desc1");
         i1.setFrequency(Frequency.ONE_TIME);
-        i1.setUser(user1);
+        i1.setUser(testUser);
 
         Income i2 = new Income();
         i2.setAmount(new BigDecimal("200"));
@@ -125,16 +160,101 @@ class IncomeRestControllerTest {
         i2.setDate(new Date());
         i2.setDescription("Desc2");
         i2.setFrequency(Frequency.ONE_TIME);
-        i2.setUser(user2);
+        i2.setUser(testUser);
+
+        Income foreign = new Income();
+        foreign.setAmount(new BigDecimal("300"));
+        foreign.setSource("Other");
+        foreign.setDate(new Date());
+        foreign.setFrequency(Frequency.ONE_TIME);
+        foreign.setUser(user2);
 
         repository.save(i1);
         repository.save(i2);
+        repository.save(foreign);
         mockMvc.perform(get("/api/v1/incomes").header("Authorization", "Bearer " + testToken))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].amount").value(100))
-                .andExpect(jsonPath("$[0].source").value("Job1"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].amount").value(200))
+                .andExpect(jsonPath("$[0].source").value("Job2"))
+                .andExpect(jsonPath("$[1].source").value("Job1"))
+                .andExpect(jsonPath("$[1].amount").value(100))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getAllIncomes_withLimit_followsCursorThroughAllPages() throws Exception {
+        User testUser = userRepository.findByEmail("test@example.com").orElseThrow();
+        for (int day = 1; day <= 3; day++) {
+            Income income = new Income();
+            income.setAmount(new BigDecimal(100 * day));
+            income.setSource("Job" + day);
+            income.setDate(new Date(day * 86_400_000L));
+            income.setFrequency(Frequency.ONE_TIME);
+            income.setUser(testUser);
+            repository.save(income);
+        }
+
+        MvcResult first = mockMvc.perform(get("/api/v1/incomes")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].source").value("Job3"))
                 .andExpect(jsonPath("$[1].source").value("Job2"))
-                .andExpect(jsonPath("$[1].amount").value(200));
+                .andExpect(header().exists(CursorPage.NEXT_CURSOR_HEADER))
+                .andReturn();
+
+        mockMvc.perform(get("/api/v1/incomes")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("limit", "2")
+                        .param("cursor", first.getResponse().getHeader(CursorPage.NEXT_CURSOR_HEADER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].source").value("Job1"))
+                .andExpect(header().doesNotExist(CursorPage.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getAllIncomes_withInvalidCursor_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/incomes")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importIncomes_Ndjson_storesValidRowsAndReportsInvalidOnes() throws Exception {
+        User testUser = userRepository.findByEmail("test@example.com").orElseThrow();
+        String ndjson = "{\"id\":7,\"date\":\"2025-08-01T00:00:00.000+00:00\",\"amount\":100.25,"
+                + "\"source\":\"Salary\",\"frequency\":\"MONTHLY\"}\n"
+                + "\n"
+                + "{not json\n"
+                + "{\"date\":\"2025-08-02\",\"amount\":50,\"source\":\"Gift\",\"frequency\":\"ONE_TIME\"}\n"
+                + "{\"date\":\"2025-08-03\",\"amount\":-5,\"source\":\"Gift\",\"frequency\":\"ONE_TIME\"}\n"
+                + "{\"date\":\"2025-08-04\",\"amount\":5,\"source\":\"Gift\"}\n";
+
+        mockMvc.perform(post("/api/v1/incomes/import")
+                        .header("Authorization", "Bearer " + testToken)
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value("Malformed JSON"))
+                .andExpect(jsonPath("$.errors[1].line").value(5))
+                .andExpect(jsonPath("$.errors[1].messages[0]").value("Amount must be greater than zero."))
+                .andExpect(jsonPath("$.errors[2].line").value(6))
+                .andExpect(jsonPath("$.errors[2].messages[0]").value("Frequency must be set."));
+
+        mockMvc.perform(get("/api/v1/incomes").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].source").value("Gift"))
+                .andExpect(jsonPath("$[1].source").value("Salary"))
+                .andExpect(jsonPath("$[1].amount").value(100.25))
+                .andExpect(jsonPath("$[1].userId").value(testUser.getId()));
     }
 
     @Test
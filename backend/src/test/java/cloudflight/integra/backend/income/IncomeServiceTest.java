@@ -2,29 +2,36 @@ package cloudflight.integra.backend.income;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.IncomeDTO;
 import cloudflight.integra.backend.entity.Frequency;
 import cloudflight.integra.backend.entity.Income;
 import cloudflight.integra.backend.entity.User;
 import cloudflight.integra.backend.entity.validation.IncomeValidator;
 import cloudflight.integra.backend.entity.validation.ValidationException;
+import cloudflight.integra.backend.mapper.IncomeMapper;
 import cloudflight.integra.backend.repository.IncomeRepository;
 import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.balance.BalanceWriter;
+import cloudflight.integra.backend.service.calendar.OccurrenceWriter;
 import cloudflight.integra.backend.service.impl.IncomeServiceImpl;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupWriter;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 @SpringBootTest
@@ -42,6 +49,18 @@ class IncomeServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private MonthlyRollupWriter monthlyRollup;
+
+    @Mock
+    private BalanceWriter balances;
+
+    @Mock
+    private OccurrenceWriter occurrences;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     private User user1, user2;
 
     @BeforeEach
@@ -131,7 +150,7 @@ class IncomeServiceTest {
     }
 
     @Test
-    void getAllIncomes_returnsAllCreatedIncomes() {
+    void getAllIncomes_returnsIncomesOfUser() {
         Income income1 = new Income();
         income1.setId(null);
         income1.setFrequency(Frequency.MONTHLY);
@@ -149,15 +168,17 @@ class IncomeServiceTest {
         income2.setSource("Gift");
         income2.setDate(new Date());
         income2.setDescription("Birthday");
-        income2.setUserId(user2.getId());
+        income2.setUserId(user1.getId());
         income2.setEndDate(null);
-        when(repo.findAll()).thenReturn(List.of(income1, income2));
+        when(repo.findPageByUserId(user1.getId(), Limit.of(101)))
+                .thenReturn(List.of(IncomeMapper.toDTO(income1), IncomeMapper.toDTO(income2)));
 
-        Iterable<IncomeDTO> all = service.getAllIncomes();
-        long count = StreamSupport.stream(all.spliterator(), false).count();
+        CursorPage<IncomeDTO> all = service.getAllIncomes(user1.getId(), null, 100);
 
-        assertEquals(2, count);
-        verify(repo).findAll();
+        assertEquals(2, all.getItems().size());
+        assertNull(all.getNextCursor());
+        verify(repo).findPageByUserId(user1.getId(), Limit.of(101));
+        verify(repo, never()).findAll();
     }
 
     @Test
@@ -171,9 +192,9 @@ class IncomeServiceTest {
         income.setDescription("Salary");
         income.setUserId(user1.getId());
         income.setEndDate(null);
-        when(repo.findById(1L)).thenReturn(Optional.of(income));
+        when(repo.findDTOByIdAndUserId(1L, user1.getId())).thenReturn(Optional.of(IncomeMapper.toDTO(income)));
 
-        IncomeDTO found = service.getIncomeById(1L);
+        IncomeDTO found = service.getIncomeById(1L, user1.getId());
         assertEquals(found.getId(), 1L);
         assertEquals(0, found.getAmount().compareTo(BigDecimal.valueOf(500)));
         assertEquals("Job", found.getSource());
@@ -0,0 +1,87 @@
+package cloudflight.integra.backend.metrics;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
+import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
+import cloudflight.integra.backend.dto.auth.RegisterRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void prometheusEndpoint_exposesServiceFilterPoolAndHibernateMeters() throws Exception {
+        String email = "metrics+" + UUID.randomUUID() + "@example.com";
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setName("Metrics User");
+        registerRequest.setEmail(email);
+        registerRequest.setPassword("password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk());
+
+        AuthenticationRequest loginRequest = new AuthenticationRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword("password123");
+        MvcResult login = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = objectMapper
+                .readValue(login.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+
+        mockMvc.perform(get("/api/v1/expenses").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/expenses/999999").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(content()
+                        .string(allOf(
+                                containsString(
+                                        "service_calls_seconds_count{class=\"cloudflight.integra.backend.service.impl.ExpenseServiceImpl\""),
+                                containsString("service_errors_total{"),
+                                containsString("exception=\"NotFoundException\""),
+                                containsString("security_jwt_filter_seconds_count{outcome=\"authenticated\""),
+                                containsString("hikaricp_connections_active"),
+                                containsString("hibernate_statements_total"),
+                                containsString("hibernate_flushes_total"),
+                                containsString("cache_gets_total{cache=\"principals\""),
+                                containsString("activity_writer_queue_size"))));
+    }
+
+    @Test
+    void prometheusEndpoint_requiresAuthentication_whileHealthStaysPublic() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,185 @@
+package cloudflight.integra.backend.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.PaymentDTO;
+import cloudflight.integra.backend.entity.Payment;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.PaymentService;
+import cloudflight.integra.backend.service.payment.DuePaymentJob;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DuePaymentJobIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 10);
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DuePaymentJob job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "Due", "due+" + UUID.randomUUID() + "@example.com", "pw"));
+    }
+
+    @Test
+    void dueExpenses_getAPendingPaymentOnTheirLatestDueDateAndAdvance() {
+        Long rent = create(
+                "Rent", ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 1, 31), LocalDate.of(2025, 3, 31), null);
+        Long insurance = create(
+                "Insurance",
+                ExpenseDTO.Frequency.YEARLY,
+                LocalDate.of(2025, 5, 1),
+                LocalDate.of(2025, 5, 1),
+                LocalDate.of(2026, 1, 1));
+        Long gym = create("Gym", ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 7, 1), null);
+        Long food = create("Food", ExpenseDTO.Frequency.ONE_TIME, LocalDate.of(2025, 1, 1), null);
+
+        assertThat(job.processDue(TODAY)).isGreaterThanOrEqualTo(2);
+
+        assertThat(payment(rent))
+                .containsEntry("NAME", "Rent")
+                .containsEntry("STATUS", "PENDING")
+                .containsEntry("PAYMENT_DATE", java.sql.Date.valueOf(LocalDate.of(2025, 5, 31)));
+        assertThat(nextDueDate(rent)).isEqualTo(LocalDate.of(2025, 6, 30));
+        assertThat(payment(insurance)).containsEntry("PAYMENT_DATE", java.sql.Date.valueOf(LocalDate.of(2025, 5, 1)));
+        assertThat(nextDueDate(insurance)).isNull();
+
+        assertThat(payment(gym)).isNull();
+        assertThat(nextDueDate(gym)).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(payment(food)).isNull();
+        assertThat(nextDueDate(food)).isEqualTo(LocalDate.of(2025, 1, 1));
+
+        job.processDue(TODAY);
+        assertThat(nextDueDate(rent)).isEqualTo(LocalDate.of(2025, 6, 30));
+    }
+
+    @Test
+    void monthlyExpenseOnThe31st_isDueOnThe31stAgainAfterFebruary() {
+        Long rent = create(
+                "Rent", ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 28), null);
+
+        job.processDue(LocalDate.of(2025, 3, 5));
+        assertThat(payment(rent)).containsEntry("PAYMENT_DATE", java.sql.Date.valueOf(LocalDate.of(2025, 2, 28)));
+        assertThat(nextDueDate(rent)).isEqualTo(LocalDate.of(2025, 3, 31));
+
+        job.processDue(LocalDate.of(2025, 4, 2));
+        assertThat(payment(rent)).containsEntry("PAYMENT_DATE", java.sql.Date.valueOf(LocalDate.of(2025, 3, 31)));
+        assertThat(nextDueDate(rent)).isEqualTo(LocalDate.of(2025, 4, 30));
+
+        job.processDue(LocalDate.of(2025, 5, 31));
+        assertThat(payment(rent)).containsEntry("PAYMENT_DATE", java.sql.Date.valueOf(LocalDate.of(2025, 5, 31)));
+        assertThat(nextDueDate(rent)).isEqualTo(LocalDate.of(2025, 6, 30));
+    }
+
+    @Test
+    void existingPayment_isResetToPending() {
+        Long rent = create("Rent", ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 6, 1), null);
+        paymentService.addPayment(
+                new PaymentDTO(null, rent, "May rent", Payment.StatusEnum.PAID, LocalDate.of(2025, 5, 1)));
+
+        job.processDue(TODAY);
+
+        assertThat(payment(rent))
+                .containsEntry("STATUS", "PENDING")
+                .containsEntry("PAYMENT_DATE", java.sql.Date.valueOf(LocalDate.of(2025, 6, 1)));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment WHERE expense_id = ?", Long.class, rent))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void expenseLockedByAnotherNode_isSkippedInsteadOfAwaited() throws Exception {
+        Long held = create("Rent", ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 6, 1), null);
+        Long free = create("Gym", ExpenseDTO.Frequency.MONTHLY, LocalDate.of(2025, 6, 1), null);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate otherNode = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> claim = CompletableFuture.runAsync(() -> otherNode.executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM expense WHERE id = ? FOR UPDATE", held);
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            job.processDue(TODAY);
+            assertThat(payment(held)).isNull();
+            assertThat(payment(free)).containsEntry("STATUS", "PENDING");
+        } finally {
+            release.countDown();
+            claim.get(10, TimeUnit.SECONDS);
+        }
+
+        job.processDue(TODAY);
+        assertThat(payment(held)).containsEntry("STATUS", "PENDING");
+    }
+
+    private Long create(String category, ExpenseDTO.Frequency frequency, LocalDate date, LocalDate endDate) {
+        return create(category, frequency, date, date, endDate);
+    }
+
+    private Long create(
+            String category, ExpenseDTO.Frequency frequency, LocalDate date, LocalDate nextDueDate, LocalDate endDate) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setUserId(user.getId());
+        dto.setCategory(category);
+        dto.setAmount(new BigDecimal("50.00"));
+        dto.setDate(date);
+        dto.setFrequency(frequency);
+        dto.setEndDate(endDate);
+        dto.setNextDueDate(nextDueDate);
+        dto.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+        return expenseService.createExpense(dto).getId();
+    }
+
+    private Map<String, Object> payment(Long expenseId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT name, status, payment_date FROM payment WHERE expense_id = ?", expenseId);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private LocalDate nextDueDate(Long expenseId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT next_due_date FROM expense WHERE id = ?", LocalDate.class, expenseId);
+    }
+}
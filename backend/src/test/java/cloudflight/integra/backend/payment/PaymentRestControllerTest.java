@@ -17,12 +17,15 @@ import cloudflight.integra.backend.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -123,6 +126,28 @@ public class PaymentRestControllerTest {
         payment2 = paymentService.addPayment(payment2);
     }
 
+    @Test
+    void testGetAllPayments_EtagChangesWhenAnExpenseOfTheUserIsDeleted() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/payments").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/payments")
+                        .header("Authorization", "Bearer " + testToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        expenseService.deleteExpense(expense1.getId());
+
+        mockMvc.perform(get("/api/v1/payments")
+                        .header("Authorization", "Bearer " + testToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
     @Test
     void testGetPaymentById() throws Exception {
         mockMvc.perform(get("/api/v1/payments/" + payment1.getId()).header("Authorization", "Bearer " + testToken))
@@ -133,6 +158,35 @@ public class PaymentRestControllerTest {
                 .andExpect(jsonPath("$.expenseId").value(expense1.getId()));
     }
 
+    @Test
+    void testCreatePaymentsBatch() throws Exception {
+        List<PaymentDTO> payments = new ArrayList<>();
+        for (String category : List.of("Gym", "Phone")) {
+            ExpenseDTO expense = new ExpenseDTO();
+            expense.setCategory(category);
+            expense.setAmount(BigDecimal.valueOf(40));
+            expense.setDate(LocalDate.now());
+            expense.setFrequency(ExpenseDTO.Frequency.MONTHLY);
+            expense.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+            expense.setUserId(testUser.getId());
+            PaymentDTO payment = new PaymentDTO();
+            payment.setName(category + " fee");
+            payment.setStatus(Payment.StatusEnum.PENDING);
+            payment.setPaymentDate(LocalDate.now());
+            payment.setExpenseId(expenseService.createExpense(expense).getId());
+            payments.add(payment);
+        }
+
+        mockMvc.perform(post("/api/v1/payments/batch")
+                        .header("Authorization", "Bearer " + testToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(payments)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Gym fee"))
+                .andExpect(jsonPath("$[1].expenseId").value(payments.get(1).getExpenseId()));
+    }
+
     @Test
     void testCreatePayment() throws Exception {
         ExpenseDTO newExpense = new ExpenseDTO();
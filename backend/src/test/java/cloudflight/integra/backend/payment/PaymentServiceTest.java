@@ -4,13 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import cloudflight.integra.backend.dto.CursorPage;
 import cloudflight.integra.backend.dto.PaymentDTO;
+import cloudflight.integra.backend.entity.Expense;
 import cloudflight.integra.backend.entity.Payment;
 import cloudflight.integra.backend.entity.validation.PaymentValidator;
 import cloudflight.integra.backend.entity.validation.ValidationException;
 import cloudflight.integra.backend.exception.NotFoundException;
+import cloudflight.integra.backend.mapper.PaymentMapper;
+import cloudflight.integra.backend.repository.ExpenseRepository;
 import cloudflight.integra.backend.repository.PaymentRepository;
 import cloudflight.integra.backend.service.impl.PaymentServiceImpl;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 class PaymentServiceTest {
     @Mock
@@ -27,6 +33,12 @@ class PaymentServiceTest {
     @Mock
     private PaymentValidator paymentValidator;
 
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -65,16 +77,19 @@ class PaymentServiceTest {
 
     @Test
     void testGetPaymentById() {
-        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.of(payment));
+        when(paymentRepository.findDTOByIdAndUserId(payment.getId(), 1L)).thenReturn(Optional.of(paymentDTO));
 
-        PaymentDTO found = paymentService.getPaymentById(payment.getId());
+        PaymentDTO found = paymentService.getPaymentById(payment.getId(), 1L);
         assertThat(found.getName()).isEqualTo("Rent Payment");
     }
 
     @Test
     void testUpdatePayment() {
         doNothing().when(paymentValidator).validate(paymentDTO);
-        when(paymentRepository.existsById(paymentDTO.getId())).thenReturn(true);
+        Expense expense = new Expense();
+        expense.setId(paymentDTO.getExpenseId());
+        payment.setExpense(expense);
+        when(paymentRepository.findById(paymentDTO.getId())).thenReturn(Optional.of(payment));
         when(paymentRepository.save(any(Payment.class))).thenReturn(payment);
 
         PaymentDTO updated = paymentService.updatePayment(paymentDTO);
@@ -83,11 +98,12 @@ class PaymentServiceTest {
 
     @Test
     void testGetAllPayments() {
-        when(paymentRepository.findAll()).thenReturn(List.of(payment));
+        when(paymentRepository.findPageByUserId(1L, Limit.of(101))).thenReturn(List.of(PaymentMapper.getDTO(payment)));
 
-        List<PaymentDTO> all = paymentService.getAllPayments();
-        assertThat(all).hasSize(1);
-        assertThat(all.get(0).getName()).isEqualTo("Rent Payment");
+        CursorPage<PaymentDTO> all = paymentService.getAllPayments(1L, null, 100);
+        assertThat(all.getItems()).hasSize(1);
+        assertThat(all.getItems().get(0).getName()).isEqualTo("Rent Payment");
+        assertThat(all.hasNext()).isFalse();
     }
 
     @Test
@@ -111,10 +127,10 @@ class PaymentServiceTest {
 
     @Test
     void testGetPaymentByIdNotFound() {
-        when(paymentRepository.findById(payment.getId())).thenReturn(Optional.empty());
+        when(paymentRepository.findDTOByIdAndUserId(payment.getId(), 1L)).thenReturn(Optional.empty());
 
         NotFoundException ex =
-                assertThrows(NotFoundException.class, () -> paymentService.getPaymentById(payment.getId()));
+                assertThrows(NotFoundException.class, () -> paymentService.getPaymentById(payment.getId(), 1L));
         assertThat(ex.getMessage()).contains("Payment not found");
     }
 
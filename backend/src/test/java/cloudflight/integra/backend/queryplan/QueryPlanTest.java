@@ -0,0 +1,67 @@
+package cloudflight.integra.backend.queryplan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL behind the per-user access paths and fails if a query would scan
+ * the whole table instead of seeking by {@code user_id}. H2 does not use an index for ordering, so the
+ * plans only prove the seek; the composite indexes from the migrations are checked to exist.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(
+            delimiter = '|',
+            textBlock =
+                    """
+            expense page          | SELECT * FROM expense WHERE user_id = 1 ORDER BY date DESC, id DESC FETCH FIRST 101 ROWS ONLY
+            expense page after    | SELECT * FROM expense WHERE user_id = 1 AND (date, id) < (DATE '2025-01-01', 10) ORDER BY date DESC, id DESC FETCH FIRST 101 ROWS ONLY
+            expense export        | SELECT * FROM expense WHERE user_id = 1 ORDER BY date, id
+            expense summary       | SELECT category, SUM(amount) FROM expense WHERE user_id = 1 AND date >= DATE '2025-01-01' AND date < DATE '2025-02-01' GROUP BY category
+            income page           | SELECT * FROM incomes WHERE user_id = 1 ORDER BY date DESC, id DESC FETCH FIRST 101 ROWS ONLY
+            income summary        | SELECT source, SUM(amount) FROM incomes WHERE user_id = 1 AND date >= DATE '2025-01-01' AND date < DATE '2025-02-01' GROUP BY source
+            saving page           | SELECT * FROM savings WHERE user_id = 1 ORDER BY date DESC, id DESC FETCH FIRST 101 ROWS ONLY
+            saving summary        | SELECT goal, SUM(amount) FROM savings WHERE user_id = 1 AND date >= DATE '2025-01-01' AND date < DATE '2025-02-01' GROUP BY goal
+            activity feed         | SELECT * FROM user_activities WHERE user_id = 1 ORDER BY created_at DESC FETCH FIRST 20 ROWS ONLY
+            payment page          | SELECT p.* FROM payment p JOIN expense e ON e.id = p.expense_id WHERE e.user_id = 1 ORDER BY p.id DESC FETCH FIRST 101 ROWS ONLY
+            monthly rollup        | SELECT year_month, SUM(total) FROM user_monthly_rollup WHERE user_id = 1 AND kind = 'EXPENSE' AND year_month BETWEEN 202501 AND 202512 GROUP BY year_month
+            calendar              | SELECT occurrence_date, SUM(amount) FROM ledger_occurrence WHERE user_id = 1 AND occurrence_date BETWEEN DATE '2025-01-01' AND DATE '2025-01-31' GROUP BY occurrence_date ORDER BY occurrence_date
+            """)
+    void query_seeksThroughUserIndex(String name, String sql) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan)
+                .as(name)
+                .doesNotContainIgnoringCase("tableScan")
+                .containsPattern("/\\* PUBLIC\\.\\w+: [^*]*USER_ID = ");
+    }
+
+    @Test
+    void accessPathIndexes_areDeclared() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_schema = 'PUBLIC'", String.class);
+
+        assertThat(indexes)
+                .contains(
+                        "IDX_EXPENSE_USER_DATE",
+                        "IDX_INCOMES_USER_DATE",
+                        "IDX_SAVINGS_USER_DATE",
+                        "IDX_USER_ACTIVITIES_USER_CREATED",
+                        "IDX_LEDGER_OCCURRENCE_USER_DATE",
+                        "IDX_EXPENSE_NEXT_DUE_DATE");
+    }
+}
@@ -0,0 +1,221 @@
+package cloudflight.integra.backend.rollup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.dto.SavingDTO;
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.entity.UserMonthlyRollup;
+import cloudflight.integra.backend.repository.UserMonthlyRollupRepository;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.IncomeService;
+import cloudflight.integra.backend.service.SavingService;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupRebuildJob;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MonthlyRollupIntegrationTest {
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private IncomeService incomeService;
+
+    @Autowired
+    private SavingService savingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserMonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private MonthlyRollupRebuildJob rebuildJob;
+
+    @Autowired
+    private MonthlyRollupWriter rollupWriter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "Rollup", "rollup+" + UUID.randomUUID() + "@example.com", "pw"));
+    }
+
+    @Test
+    void writes_applyDeltasToRollupRows() {
+        ExpenseDTO rent = expenseService.createExpense(expense("Rent", "500.00", LocalDate.of(2025, 3, 1)));
+        expenseService.createExpense(expense("Food", "20.00", LocalDate.of(2025, 3, 5)));
+        ExpenseDTO food = expenseService.createExpense(expense("Food", "30.00", LocalDate.of(2025, 3, 9)));
+        incomeService.createIncome(income("Salary", "1000.00", LocalDate.of(2025, 3, 1)));
+        savingService.addSaving(saving("Car", "50.00", LocalDate.of(2025, 3, 2)));
+
+        assertThat(rows())
+                .extracting(
+                        UserMonthlyRollup::getKind,
+                        UserMonthlyRollup::getYearMonth,
+                        UserMonthlyRollup::getCategory,
+                        r -> r.getTotal().stripTrailingZeros().toPlainString(),
+                        UserMonthlyRollup::getEntryCount)
+                .containsExactlyInAnyOrder(
+                        tuple(LedgerKind.EXPENSE, 202503, "Rent", "500", 1L),
+                        tuple(LedgerKind.EXPENSE, 202503, "Food", "50", 2L),
+                        tuple(LedgerKind.INCOME, 202503, "Salary", "1000", 1L),
+                        tuple(LedgerKind.SAVING, 202503, "Car", "50", 1L));
+
+        food.setCategory("Groceries");
+        food.setAmount(new BigDecimal("35.00"));
+        food.setDate(LocalDate.of(2025, 4, 1));
+        expenseService.updateExpense(food);
+        expenseService.deleteExpense(rent.getId());
+
+        assertThat(rows())
+                .filteredOn(r -> r.getKind() == LedgerKind.EXPENSE)
+                .extracting(
+                        UserMonthlyRollup::getYearMonth,
+                        UserMonthlyRollup::getCategory,
+                        r -> r.getTotal().stripTrailingZeros().toPlainString(),
+                        UserMonthlyRollup::getEntryCount)
+                .containsExactlyInAnyOrder(tuple(202503, "Food", "20", 1L), tuple(202504, "Groceries", "35", 1L));
+    }
+
+    @Test
+    void concurrentFirstEntries_allLandInOneRow() {
+        int writers = 8;
+        CyclicBarrier start = new CyclicBarrier(writers);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Expense lunch = new Expense(
+                null,
+                user,
+                new BigDecimal("10.00"),
+                "Food",
+                LocalDate.of(2025, 6, 1),
+                "Lunch",
+                Expense.Frequency.ONE_TIME,
+                null,
+                null,
+                Expense.PaymentMethod.CARD);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(writers)) {
+            CompletableFuture.allOf(IntStream.range(0, writers)
+                            .mapToObj(i -> CompletableFuture.runAsync(
+                                    () -> transaction.executeWithoutResult(status -> {
+                                        try {
+                                            start.await(5, TimeUnit.SECONDS);
+                                            rollupWriter.added(lunch);
+                                            // Keeps the first insert uncommitted while the others run into it
+                                            Thread.sleep(50);
+                                        } catch (Exception e) {
+                                            throw new IllegalStateException(e);
+                                        }
+                                    }),
+                                    pool))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        }
+
+        assertThat(rows())
+                .extracting(
+                        UserMonthlyRollup::getYearMonth,
+                        UserMonthlyRollup::getCategory,
+                        r -> r.getTotal().stripTrailingZeros().toPlainString(),
+                        UserMonthlyRollup::getEntryCount)
+                .containsExactly(tuple(202506, "Food", "80", (long) writers));
+    }
+
+    @Test
+    void rebuild_reproducesIncrementallyMaintainedRows() {
+        expenseService.createExpense(expense("Food", "20.00", LocalDate.of(2025, 1, 31)));
+        expenseService.createExpense(expense("Food", "30.00", LocalDate.of(2025, 2, 1)));
+        incomeService.createIncome(income("Salary", "1000.00", LocalDate.of(2025, 2, 1)));
+        savingService.addSaving(saving("Car", "50.00", LocalDate.of(2025, 2, 2)));
+        List<String> incremental = snapshot();
+
+        rollupRepository.deleteAll();
+        assertThat(rebuildJob.rebuildAll()).isGreaterThanOrEqualTo(1);
+
+        assertThat(snapshot()).isEqualTo(incremental).hasSize(4);
+    }
+
+    private List<UserMonthlyRollup> rows() {
+        return rollupRepository.findAll().stream()
+                .filter(r -> r.getUserId().equals(user.getId()))
+                .toList();
+    }
+
+    private List<String> snapshot() {
+        return rows().stream()
+                .sorted(Comparator.comparing(UserMonthlyRollup::getKind)
+                        .thenComparing(UserMonthlyRollup::getYearMonth)
+                        .thenComparing(UserMonthlyRollup::getCategory))
+                .map(r -> r.getKind() + "/" + r.getYearMonth() + "/" + r.getCategory() + "="
+                        + r.getTotal().stripTrailingZeros().toPlainString() + "x" + r.getEntryCount())
+                .toList();
+    }
+
+    private ExpenseDTO expense(String category, String amount, LocalDate date) {
+        ExpenseDTO dto = new ExpenseDTO();
+        dto.setUserId(user.getId());
+        dto.setCategory(category);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(date);
+        dto.setFrequency(ExpenseDTO.Frequency.ONE_TIME);
+        dto.setPaymentMethod(ExpenseDTO.PaymentMethod.CARD);
+        return dto;
+    }
+
+    private IncomeDTO income(String source, String amount, LocalDate date) {
+        IncomeDTO dto = new IncomeDTO();
+        dto.setUserId(user.getId());
+        dto.setSource(source);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(toDate(date));
+        dto.setFrequency(Frequency.ONE_TIME);
+        return dto;
+    }
+
+    private SavingDTO saving(String goal, String amount, LocalDate date) {
+        SavingDTO dto = new SavingDTO();
+        dto.setUserId(user.getId());
+        dto.setGoal(goal);
+        dto.setAmount(new BigDecimal(amount));
+        dto.setDate(toDate(date));
+        return dto;
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
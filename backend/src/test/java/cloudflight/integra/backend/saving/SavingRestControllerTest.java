@@ -1,5 +1,6 @@
 package cloudflight.integra.backend.saving;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -9,15 +10,18 @@ import cloudflight.integra.backend.entity.Saving;
 import cloudflight.integra.backend.entity.User;
 import cloudflight.integra.backend.repository.SavingRepository;
 import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.security.AuthenticatedUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigDecimal;
 import java.util.Date;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -60,7 +64,7 @@ class SavingRestControllerTest {
     @Test
     void testGetById() throws Exception {
         Saving saving = savingRepository.findAll().iterator().next();
-        mockMvc.perform(get("/api/v1/savings/" + saving.getId()))
+        mockMvc.perform(get("/api/v1/savings/" + saving.getId()).principal(principal()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(saving.getId()))
                 .andExpect(jsonPath("$.amount").value(saving.getAmount().doubleValue()))
@@ -69,14 +73,19 @@ class SavingRestControllerTest {
 
     @Test
     void testGetById_NotFound() throws Exception {
-        mockMvc.perform(get("/api/v1/savings/999999"))
+        mockMvc.perform(get("/api/v1/savings/999999").principal(principal()))
                 .andExpect(status().isNotFound())
                 .andExpect(content().string(containsString("not found")));
     }
 
     @Test
     void testGetAll() throws Exception {
-        mockMvc.perform(get("/api/v1/savings")).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(3)));
+        User other = userRepository.save(new User(null, "Marc", "marc@yahoo.com", "abcd999"));
+        savingRepository.save(new Saving(other, new BigDecimal("700.00"), new Date(), "Bike"));
+
+        mockMvc.perform(get("/api/v1/savings").principal(principal()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(3)));
     }
 
     @Test
@@ -96,6 +105,43 @@ class SavingRestControllerTest {
                 .andExpect(jsonPath("$.goal").value("New Laptop"));
     }
 
+    @Test
+    void testAddSavings_Batch() throws Exception {
+        SavingDTO laptop = new SavingDTO();
+        laptop.setUserId(testUser.getId());
+        laptop.setAmount(BigDecimal.valueOf(3000));
+        laptop.setDate(new Date());
+        laptop.setGoal("New Laptop");
+        SavingDTO holiday = new SavingDTO();
+        holiday.setUserId(testUser.getId());
+        holiday.setAmount(BigDecimal.valueOf(800));
+        holiday.setDate(new Date());
+        holiday.setGoal("Holiday");
+
+        mockMvc.perform(post("/api/v1/savings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(laptop, holiday))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[1].goal").value("Holiday"));
+
+        assertThat(savingRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void testAddSavings_Batch_UnknownUser_NotFound() throws Exception {
+        SavingDTO dto = new SavingDTO();
+        dto.setUserId(999999L);
+        dto.setAmount(BigDecimal.valueOf(100));
+        dto.setDate(new Date());
+        dto.setGoal("Bike");
+
+        mockMvc.perform(post("/api/v1/savings/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(dto))))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void testAddSaving_BadRequest() throws Exception {
         SavingDTO badDto = new SavingDTO();
@@ -122,7 +168,8 @@ class SavingRestControllerTest {
 
         mockMvc.perform(delete("/api/v1/savings/" + saving.getId())).andExpect(status().isNoContent());
 
-        mockMvc.perform(get("/api/v1/savings/" + saving.getId())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/savings/" + saving.getId()).principal(principal()))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -166,4 +213,9 @@ class SavingRestControllerTest {
                 .andExpect(
                         jsonPath("$.details", hasItem("Please provide a goal, need to know what you are saving for!")));
     }
+
+    /** The security filters are off, so the authenticated user is passed as the request's principal. */
+    private UsernamePasswordAuthenticationToken principal() {
+        return UsernamePasswordAuthenticationToken.authenticated(AuthenticatedUser.of(testUser), null, List.of());
+    }
 }
@@ -13,7 +13,10 @@ import cloudflight.integra.backend.exception.NotFoundException;
 import cloudflight.integra.backend.mapper.SavingMapper;
 import cloudflight.integra.backend.repository.SavingRepository;
 import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.balance.BalanceWriter;
 import cloudflight.integra.backend.service.impl.SavingServiceImpl;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupWriter;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
 class SavingServiceTest {
     @Mock
@@ -37,6 +41,15 @@ class SavingServiceTest {
     @Mock
     private SavingMapper savingMapper;
 
+    @Mock
+    private MonthlyRollupWriter monthlyRollup;
+
+    @Mock
+    private BalanceWriter balances;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private SavingServiceImpl savingService;
 
@@ -116,21 +129,21 @@ class SavingServiceTest {
 
     @Test
     void testGetSavingById() {
-        when(savingRepository.findById(1L)).thenReturn(Optional.of(saving));
+        when(savingRepository.findDTOByIdAndUserId(1L, 1L)).thenReturn(Optional.of(SavingMapper.toDTO(saving)));
 
-        SavingDTO found = savingService.getSavingById(1L);
+        SavingDTO found = savingService.getSavingById(1L, 1L);
 
         assertThat(found).isNotNull();
         assertThat(found.getId()).isEqualTo(1L);
         assertThat(found.getGoal()).isEqualTo("First house");
-        verify(savingRepository, times(1)).findById(1L);
+        verify(savingRepository, times(1)).findDTOByIdAndUserId(1L, 1L);
     }
 
     @Test
     void testGetSavingById_notFound() {
-        when(savingRepository.findById(1L)).thenReturn(Optional.empty());
+        when(savingRepository.findDTOByIdAndUserId(1L, 1L)).thenReturn(Optional.empty());
 
-        assertThrows(NotFoundException.class, () -> savingService.getSavingById(1L));
+        assertThrows(NotFoundException.class, () -> savingService.getSavingById(1L, 1L));
     }
 
     @Test
@@ -176,13 +189,14 @@ class SavingServiceTest {
 
     @Test
     void testGetAllSavings() {
-        when(savingRepository.findAll()).thenReturn(List.of(saving));
+        when(savingRepository.findPageByUserId(1L, Limit.of(101))).thenReturn(List.of(SavingMapper.toDTO(saving)));
 
-        List<SavingDTO> all = (List<SavingDTO>) savingService.getAllSavings();
+        List<SavingDTO> all = savingService.getAllSavings(1L, null, 100).getItems();
 
         assertThat(all).hasSize(1);
         assertThat(all.get(0).getId()).isEqualTo(1L);
         assertThat(all.get(0).getGoal()).isEqualTo("First house");
-        verify(savingRepository, times(1)).findAll();
+        verify(savingRepository, times(1)).findPageByUserId(1L, Limit.of(101));
+        verify(savingRepository, never()).findAll();
     }
 }
@@ -0,0 +1,107 @@
+package cloudflight.integra.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JwtUtilsTest {
+
+    private static final String SECRET = "NOCRGDotuoaauictvmrliaabeiurzesaruNacNeAinueankDOmndoaaeErlrnsmeaiaiisalian";
+
+    private static final AuthenticatedUser ALICE = new AuthenticatedUser(7L, "alice@email.com", "", 3);
+
+    private MutableClock clock;
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-09-15T10:00:00Z"));
+        jwtUtils = new JwtUtils(SECRET, 3600L, 16, clock);
+    }
+
+    @Test
+    void verify_validToken_returnsClaimsView() {
+        String token = jwtUtils.generateToken(ALICE);
+
+        Optional<VerifiedToken> verified = jwtUtils.verify(token);
+
+        assertThat(verified).isPresent();
+        assertThat(verified.get().getSubject()).isEqualTo("alice@email.com");
+        assertThat(verified.get().getExpiresAt()).isEqualTo(Instant.parse("2025-09-15T11:00:00Z"));
+        assertThat(verified.get().getClaim("sub", String.class)).isEqualTo("alice@email.com");
+        assertThat(verified.get().getUserId()).isEqualTo(7L);
+        assertThat(verified.get().getTokenVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void verify_repeatedToken_isServedFromCache() {
+        String token = jwtUtils.generateToken(ALICE);
+
+        VerifiedToken first = jwtUtils.verify(token).orElseThrow();
+        VerifiedToken second = jwtUtils.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void verify_foreignOrMalformedToken_returnsEmpty() {
+        JwtUtils foreign = new JwtUtils(SECRET.toLowerCase(), 3600L, 0, clock);
+        String forged = foreign.generateToken(ALICE);
+
+        assertThat(jwtUtils.verify(forged)).isEmpty();
+        assertThat(jwtUtils.verify("not-a-jwt")).isEmpty();
+    }
+
+    @Test
+    void verify_expiredToken_returnsEmptyEvenIfCached() {
+        String token = jwtUtils.generateToken(ALICE);
+        assertThat(jwtUtils.verify(token)).isPresent();
+
+        clock.advance(Duration.ofHours(1).plusSeconds(1));
+
+        assertThat(jwtUtils.verify(token)).isEmpty();
+    }
+
+    @Test
+    void verify_withCacheDisabled_stillVerifies() {
+        JwtUtils uncached = new JwtUtils(SECRET, 3600L, 0, clock);
+        String token = uncached.generateToken(ALICE);
+
+        assertThat(uncached.verify(token)).map(VerifiedToken::getSubject).contains("alice@email.com");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package cloudflight.integra.backend.security.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRateLimitBackendTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(-42 * SECOND);
+    private final InMemoryRateLimitBackend backend =
+            new InMemoryRateLimitBackend(1000, Duration.ofMinutes(10), now::get);
+    private final RateLimitPolicy policy = new RateLimitPolicy("test", 3, 1);
+
+    @Test
+    void burstUpToCapacity_thenWaitsForTheRefill() {
+        assertThat(IntStream.range(0, 3).mapToLong(i -> backend.tryConsume(policy, "ip:1")))
+                .containsOnly(0L);
+        assertThat(backend.tryConsume(policy, "ip:1")).isEqualTo(SECOND);
+
+        now.addAndGet(SECOND / 2);
+        assertThat(backend.tryConsume(policy, "ip:1")).isEqualTo(SECOND / 2);
+
+        now.addAndGet(SECOND / 2);
+        assertThat(backend.tryConsume(policy, "ip:1")).isZero();
+        assertThat(backend.tryConsume(policy, "ip:1")).isPositive();
+
+        now.addAndGet(60 * SECOND);
+        assertThat(IntStream.range(0, 3).mapToLong(i -> backend.tryConsume(policy, "ip:1")))
+                .containsOnly(0L);
+        assertThat(backend.tryConsume(policy, "ip:1")).isPositive();
+    }
+
+    @Test
+    void clientsAndPolicies_haveBucketsOfTheirOwn() {
+        RateLimitPolicy other = new RateLimitPolicy("other", 1, 1);
+        assertThat(backend.tryConsume(other, "ip:1")).isZero();
+        assertThat(backend.tryConsume(other, "ip:1")).isPositive();
+
+        assertThat(backend.tryConsume(other, "ip:2")).isZero();
+        assertThat(backend.tryConsume(policy, "ip:1")).isZero();
+    }
+
+    @Test
+    void concurrentRequests_neverExceedTheCapacity() {
+        RateLimitPolicy wide = new RateLimitPolicy("wide", 500, 1);
+        AtomicInteger allowed = new AtomicInteger();
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            CompletableFuture.allOf(IntStream.range(0, 2000)
+                            .mapToObj(i -> CompletableFuture.runAsync(
+                                    () -> {
+                                        if (backend.tryConsume(wide, "user:a") == 0) {
+                                            allowed.incrementAndGet();
+                                        }
+                                    },
+                                    pool))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        }
+
+        assertThat(allowed).hasValue(500);
+    }
+}
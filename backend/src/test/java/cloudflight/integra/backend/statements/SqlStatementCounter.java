@@ -0,0 +1,147 @@
+package cloudflight.integra.backend.statements;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the JDBC statements executed by a call, typically a MockMvc request, and fails the test when
+ * they exceed the call's budget. Import it into a Spring Boot test: it wraps the {@code dataSource}
+ * bean and records every statement prepared on the calling thread, and on the task executor threads
+ * the call hands work to, such as the writer of a streamed export. Statements of unrelated threads,
+ * like the activity writer, are not counted.
+ *
+ * <p>A statement executed repeatedly in a JDBC batch counts once, like a single round trip.
+ */
+public class SqlStatementCounter implements BeanPostProcessor, TaskDecorator {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ThreadLocal<List<String>> recording = new ThreadLocal<>();
+
+    /**
+     * Runs the call and asserts that it executed at most {@code budget} statements.
+     *
+     * @param budget the largest number of statements the call may execute
+     * @param call the call to measure
+     * @return the result of the call
+     * @throws AssertionError listing the executed statements if the budget is exceeded
+     */
+    public <T> T expectAtMost(int budget, Call<T> call) throws Exception {
+        List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        recording.set(statements);
+        T result;
+        try {
+            result = call.run();
+        } finally {
+            recording.remove();
+        }
+        synchronized (statements) {
+            if (statements.size() > budget) {
+                throw new AssertionError("Expected at most " + budget + " SQL statements but " + statements.size()
+                        + " were executed:\n  " + String.join("\n  ", statements));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /** Carries the recording of the submitting thread over to executor threads. */
+    @Override
+    public Runnable decorate(Runnable task) {
+        List<String> statements = recording.get();
+        if (statements == null) {
+            return task;
+        }
+        return () -> {
+            recording.set(statements);
+            try {
+                task.run();
+            } finally {
+                recording.remove();
+            }
+        };
+    }
+
+    private void record(String sql) {
+        List<String> statements = recording.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+
+    private Object forward(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** A call that may throw, such as a MockMvc request. */
+    @FunctionalInterface
+    public interface Call<T> {
+        T run() throws Exception;
+    }
+
+    private class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private Connection counting(Connection connection) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "prepareStatement", "prepareCall" -> record((String) args[0]);
+                    case "createStatement" -> {
+                        return countingStatement((Statement) forward(connection, method, args));
+                    }
+                    default -> {}
+                }
+                return forward(connection, method, args);
+            };
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+        }
+
+        private Statement countingStatement(Statement statement) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                if (method.getName().startsWith("execute") && args != null && args[0] instanceof String sql) {
+                    record(sql);
+                }
+                return forward(statement, method, args);
+            };
+            return (Statement)
+                    Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {Statement.class}, handler);
+        }
+    }
+}
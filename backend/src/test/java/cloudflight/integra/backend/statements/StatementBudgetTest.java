@@ -0,0 +1,604 @@
+package cloudflight.integra.backend.statements;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import cloudflight.integra.backend.dto.ExpenseDTO;
+import cloudflight.integra.backend.dto.IncomeDTO;
+import cloudflight.integra.backend.dto.PaymentDTO;
+import cloudflight.integra.backend.dto.SavingDTO;
+import cloudflight.integra.backend.dto.UserDTO;
+import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
+import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
+import cloudflight.integra.backend.dto.auth.RegisterRequest;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.Payment;
+import cloudflight.integra.backend.service.ExpenseService;
+import cloudflight.integra.backend.service.IncomeService;
+import cloudflight.integra.backend.service.PaymentService;
+import cloudflight.integra.backend.service.SavingService;
+import cloudflight.integra.backend.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * SQL statement budget of every endpoint, measured with {@link SqlStatementCounter}. The fixture owns
+ * several rows of each kind, so a budget that holds for it does not grow with the number of rows; an
+ * N+1 load or a repeated lookup makes the endpoint exceed its budget and fails the build.
+ *
+ * <p>The authenticated principal is cached after the first request, as it is for a client that keeps
+ * using its token, so the budgets do not include the principal lookup; the per-user endpoints take the
+ * user's id from the principal rather than looking it up. Writes also keep the
+ * monthly rollup current with one upsert per month and category they touch, so the batch endpoints
+ * grow with the number of distinct categories in the batch, never with its rows. The user's balance
+ * costs one update per write and per user in a batch.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class StatementBudgetTest {
+
+    private static final int ROWS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SqlStatementCounter statements;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ExpenseService expenseService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private IncomeService incomeService;
+
+    @Autowired
+    private SavingService savingService;
+
+    private String email;
+    private String token;
+    private Long userId;
+    private final List<ExpenseDTO> expenses = new ArrayList<>();
+    private final List<PaymentDTO> payments = new ArrayList<>();
+    private final List<IncomeDTO> incomes = new ArrayList<>();
+    private final List<SavingDTO> savings = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        email = "budget+" + UUID.randomUUID() + "@example.com";
+        register(email);
+        token = login(email);
+        userId = userService.getUserByEmail(email).getId();
+
+        for (int i = 0; i < ROWS; i++) {
+            ExpenseDTO expense = expenseService.createExpense(expense(i));
+            expenses.add(expense);
+            payments.add(paymentService.addPayment(payment(expense.getId(), i)));
+            incomes.add(incomeService.createIncome(income(i)));
+            savings.add(savingService.addSaving(saving(i)));
+        }
+        // Caches the principal, as any request after the first one finds it
+        mockMvc.perform(authorized(get("/test"))).andExpect(status().isOk());
+    }
+
+    // --- AuthController
+
+    @Test
+    void register() throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setName("Budget User");
+        request.setEmail("budget+" + UUID.randomUUID() + "@example.com");
+        request.setPassword("password123");
+
+        within(
+                        2,
+                        post("/api/auth/register")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(request)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void login() throws Exception {
+        AuthenticationRequest request = new AuthenticationRequest();
+        request.setEmail(email);
+        request.setPassword("password123");
+
+        // The lookup that authenticates the user also yields the id the activity is logged for
+        within(
+                        1,
+                        post("/api/auth/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(request)))
+                .andExpect(status().isOk());
+    }
+
+    // --- TestController
+
+    @Test
+    void test() throws Exception {
+        within(0, authorized(get("/test"))).andExpect(status().isOk());
+    }
+
+    // --- UserController
+
+    @Test
+    void getAllUsers() throws Exception {
+        within(1, authorized(get("/api/v1/users"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void getUser() throws Exception {
+        within(1, authorized(get("/api/v1/users/{id}", userId))).andExpect(status().isOk());
+    }
+
+    @Test
+    void getUserByEmail() throws Exception {
+        within(1, authorized(get("/api/v1/users/by-email").param("email", email)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void addUser() throws Exception {
+        UserDTO user = new UserDTO();
+        user.setName("Added User");
+        user.setEmail("budget+" + UUID.randomUUID() + "@example.com");
+        user.setPassword("password123");
+
+        within(
+                        2,
+                        authorized(post("/api/v1/users"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateUser() throws Exception {
+        UserDTO user = new UserDTO();
+        user.setId(userId);
+        user.setName("Renamed User");
+        user.setEmail(email);
+
+        within(
+                        3,
+                        authorized(put("/api/v1/users/{id}", userId))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(user)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deleteUser() throws Exception {
+        // A user without entries, as the fixture's entries reference their user
+        String unused = "budget+" + UUID.randomUUID() + "@example.com";
+        register(unused);
+        Long unusedId = userService.getUserByEmail(unused).getId();
+
+        within(2, authorized(delete("/api/v1/users/{id}", unusedId))).andExpect(status().isNoContent());
+    }
+
+    // --- ActivityController
+
+    @Test
+    void getRecentActivities() throws Exception {
+        within(1, authorized(get("/api/activities/recent"))).andExpect(status().isOk());
+    }
+
+    // --- SummaryController
+
+    @Test
+    void getSummary() throws Exception {
+        within(6, authorized(get("/api/v1/summary"))).andExpect(status().isOk());
+    }
+
+    // --- CalendarController
+
+    @Test
+    void getCalendar() throws Exception {
+        within(1, authorized(get("/api/v1/calendar"))).andExpect(status().isOk());
+    }
+
+    // --- ForecastController
+
+    @Test
+    void getForecast() throws Exception {
+        within(7, authorized(get("/api/v1/forecast"))).andExpect(status().isOk());
+        // Served from the cache after checking the version stamps
+        within(3, authorized(get("/api/v1/forecast"))).andExpect(status().isOk());
+    }
+
+    // --- ExpenseController
+
+    @Test
+    void createExpense() throws Exception {
+        within(
+                        7,
+                        authorized(post("/api/v1/expenses"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(expense(ROWS))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void createExpenses() throws Exception {
+        within(
+                        11,
+                        authorized(post("/api/v1/expenses/batch"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(List.of(expense(ROWS), expense(ROWS + 1), expense(ROWS + 2)))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getExpenseById() throws Exception {
+        within(2, authorized(get("/api/v1/expenses/{id}", expenses.get(0).getId())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllExpenses() throws Exception {
+        within(2, authorized(get("/api/v1/expenses")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    void getAllExpenses_NotModified() throws Exception {
+        String etag = etagOf("/api/v1/expenses");
+
+        within(1, authorized(get("/api/v1/expenses")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void exportExpenses() throws Exception {
+        withinAsync(1, authorized(get("/api/v1/expenses/export"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void importExpenses() throws Exception {
+        String ndjson = "{\"date\":\"2025-08-01\",\"amount\":10.5,\"category\":\"Books\",\"frequency\":\"ONE_TIME\","
+                + "\"paymentMethod\":\"CARD\"}\n"
+                + "{\"date\":\"2025-08-02\",\"amount\":11.5,\"category\":\"Books\",\"frequency\":\"ONE_TIME\","
+                + "\"paymentMethod\":\"CARD\"}\n";
+
+        within(
+                        7,
+                        authorized(post("/api/v1/expenses/import"))
+                                .contentType("application/x-ndjson")
+                                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+    }
+
+    @Test
+    void updateExpense() throws Exception {
+        ExpenseDTO expense = expenses.get(0);
+        expense.setAmount(new BigDecimal("99.00"));
+
+        within(
+                        12,
+                        authorized(put("/api/v1/expenses/{id}", expense.getId()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(expense)))
+                .andExpect(status().isOk());
+        // The expense keeps its payment
+        paymentService.getPaymentById(payments.get(0).getId(), userId);
+    }
+
+    @Test
+    void deleteExpense() throws Exception {
+        // Includes loading and deleting the expense's payment
+        within(10, authorized(delete("/api/v1/expenses/{id}", expenses.get(0).getId())))
+                .andExpect(status().isNoContent());
+    }
+
+    // --- IncomeController
+
+    @Test
+    void createIncome() throws Exception {
+        within(
+                        7,
+                        authorized(post("/api/v1/incomes"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(income(ROWS))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void createIncomes() throws Exception {
+        within(
+                        11,
+                        authorized(post("/api/v1/incomes/batch"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(List.of(income(ROWS), income(ROWS + 1), income(ROWS + 2)))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getIncomeById() throws Exception {
+        within(2, authorized(get("/api/v1/incomes/{id}", incomes.get(0).getId())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllIncomes() throws Exception {
+        within(2, authorized(get("/api/v1/incomes")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    void exportIncomes() throws Exception {
+        withinAsync(1, authorized(get("/api/v1/incomes/export"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void importIncomes() throws Exception {
+        String ndjson = "{\"date\":\"2025-08-01\",\"amount\":10.5,\"source\":\"Job\",\"frequency\":\"MONTHLY\"}\n"
+                + "{\"date\":\"2025-08-02\",\"amount\":11.5,\"source\":\"Job\",\"frequency\":\"MONTHLY\"}\n";
+
+        within(
+                        7,
+                        authorized(post("/api/v1/incomes/import"))
+                                .contentType("application/x-ndjson")
+                                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+    }
+
+    @Test
+    void updateIncome() throws Exception {
+        IncomeDTO income = incomes.get(0);
+        income.setAmount(new BigDecimal("99.00"));
+
+        within(
+                        11,
+                        authorized(put("/api/v1/incomes/{id}", income.getId()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(income)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deleteIncome() throws Exception {
+        within(7, authorized(delete("/api/v1/incomes/{id}", incomes.get(0).getId())))
+                .andExpect(status().isNoContent());
+    }
+
+    // --- SavingController
+
+    @Test
+    void addSaving() throws Exception {
+        within(
+                        6,
+                        authorized(post("/api/v1/savings"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(saving(ROWS))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void addSavings() throws Exception {
+        within(
+                        10,
+                        authorized(post("/api/v1/savings/batch"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(List.of(saving(ROWS), saving(ROWS + 1), saving(ROWS + 2)))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getSavingById() throws Exception {
+        within(2, authorized(get("/api/v1/savings/{id}", savings.get(0).getId())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllSavings() throws Exception {
+        within(2, authorized(get("/api/v1/savings")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    void exportSavings() throws Exception {
+        withinAsync(1, authorized(get("/api/v1/savings/export"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void updateSaving() throws Exception {
+        SavingDTO saving = savings.get(0);
+        saving.setAmount(new BigDecimal("99.00"));
+
+        within(
+                        9,
+                        authorized(put("/api/v1/savings/{id}", saving.getId()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(saving)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deleteSaving() throws Exception {
+        within(6, authorized(delete("/api/v1/savings/{id}", savings.get(0).getId())))
+                .andExpect(status().isNoContent());
+    }
+
+    // --- PaymentController
+
+    @Test
+    void addPayment() throws Exception {
+        ExpenseDTO expense = expenseService.createExpense(expense(ROWS));
+
+        within(
+                        3,
+                        authorized(post("/api/v1/payments"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(payment(expense.getId(), ROWS))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void addPayments() throws Exception {
+        List<PaymentDTO> batch = new ArrayList<>();
+        for (int i = ROWS; i < ROWS + 3; i++) {
+            batch.add(payment(expenseService.createExpense(expense(i)).getId(), i));
+        }
+
+        within(
+                        3,
+                        authorized(post("/api/v1/payments/batch"))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(batch)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getPaymentById() throws Exception {
+        within(2, authorized(get("/api/v1/payments/{id}", payments.get(0).getId())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllPayments() throws Exception {
+        within(2, authorized(get("/api/v1/payments")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(ROWS));
+    }
+
+    @Test
+    void updatePayment() throws Exception {
+        PaymentDTO payment = payments.get(0);
+        payment.setStatus(Payment.StatusEnum.PAID);
+
+        within(
+                        3,
+                        authorized(put("/api/v1/payments/{id}", payment.getId()))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(json(payment)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deletePayment() throws Exception {
+        within(3, authorized(delete("/api/v1/payments/{id}", payments.get(0).getId())))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions within(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        return statements.expectAtMost(budget, () -> mockMvc.perform(request));
+    }
+
+    /** Measures a streamed response, including the statements of its asynchronous part. */
+    private ResultActions withinAsync(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        return statements.expectAtMost(
+                budget,
+                () -> mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn())));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private String etagOf(String path) throws Exception {
+        return mockMvc.perform(authorized(get(path))).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private void register(String email) throws Exception {
+        RegisterRequest request = new RegisterRequest();
+        request.setName("Budget User");
+        request.setEmail(email);
+        request.setPassword("password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk());
+    }
+
+    private String login(String email) throws Exception {
+        AuthenticationRequest request = new AuthenticationRequest();
+        request.setEmail(email);
+        request.setPassword("password123");
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(response, AuthenticationResponse.class).getToken();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private ExpenseDTO expense(int i) {
+        return new ExpenseDTO(
+                null,
+                userId,
+                BigDecimal.valueOf(10 + i),
+                "Category " + i,
+                LocalDate.of(2025, 9, 1 + i),
+                null,
+                ExpenseDTO.Frequency.ONE_TIME,
+                null,
+                null,
+                ExpenseDTO.PaymentMethod.CARD);
+    }
+
+    private PaymentDTO payment(Long expenseId, int i) {
+        return new PaymentDTO(
+                null, expenseId, "Payment " + i, Payment.StatusEnum.PENDING, LocalDate.of(2025, 9, 1 + i));
+    }
+
+    private IncomeDTO income(int i) {
+        return new IncomeDTO(
+                null, userId, BigDecimal.valueOf(100 + i), "Source " + i, day(i), null, Frequency.ONE_TIME, null);
+    }
+
+    private SavingDTO saving(int i) {
+        return new SavingDTO(null, userId, BigDecimal.valueOf(50 + i), day(i), "Goal " + i, null);
+    }
+
+    private static Date day(int i) {
+        return Date.from(LocalDate.of(2025, 9, 1 + i)
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant());
+    }
+}
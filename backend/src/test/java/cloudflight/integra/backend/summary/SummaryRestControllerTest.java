@@ -0,0 +1,193 @@
+package cloudflight.integra.backend.summary;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
+import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
+import cloudflight.integra.backend.dto.auth.RegisterRequest;
+import cloudflight.integra.backend.entity.Expense;
+import cloudflight.integra.backend.entity.Frequency;
+import cloudflight.integra.backend.entity.Income;
+import cloudflight.integra.backend.entity.Saving;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.ExpenseRepository;
+import cloudflight.integra.backend.repository.IncomeRepository;
+import cloudflight.integra.backend.repository.SavingRepository;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.rollup.MonthlyRollupRebuildJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SummaryRestControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private IncomeRepository incomeRepository;
+
+    @Autowired
+    private SavingRepository savingRepository;
+
+    @Autowired
+    private MonthlyRollupRebuildJob rollupRebuildJob;
+
+    private User testUser;
+
+    private String testToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String email = "summary+" + UUID.randomUUID() + "@example.com";
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setName("Summary User");
+        registerRequest.setEmail(email);
+        registerRequest.setPassword("password123");
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isOk());
+
+        AuthenticationRequest loginRequest = new AuthenticationRequest();
+        loginRequest.setEmail(email);
+        loginRequest.setPassword("password123");
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn();
+        testToken = objectMapper
+                .readValue(result.getResponse().getContentAsString(), AuthenticationResponse.class)
+                .getToken();
+        testUser = userRepository.findByEmail(email).orElseThrow();
+    }
+
+    @Test
+    void getSummary_groupsTotalsByMonthAndCategory() throws Exception {
+        saveExpense("Rent", "100.00", LocalDate.of(2025, 1, 15));
+        saveExpense("Food", "30.00", LocalDate.of(2025, 1, 20));
+        saveExpense("Food", "20.00", LocalDate.of(2025, 2, 28));
+        saveExpense("Food", "999.00", LocalDate.of(2024, 12, 31));
+        saveIncome("Salary", "1000.00", LocalDate.of(2025, 1, 1));
+        saveIncome("Salary", "1000.00", LocalDate.of(2025, 2, 1));
+        savingRepository.save(new Saving(testUser, new BigDecimal("50.00"), toDate(LocalDate.of(2025, 2, 10)), "Car"));
+        // The rows bypass the services, so bring the rollup table used for whole months up to date
+        rollupRebuildJob.rebuild(List.of(testUser.getId()));
+
+        mockMvc.perform(get("/api/v1/summary")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-02-28"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.from").value("2025-01-01"))
+                .andExpect(jsonPath("$.to").value("2025-02-28"))
+                .andExpect(jsonPath("$.expenses.total").value(150.0))
+                .andExpect(jsonPath("$.expenses.count").value(3))
+                .andExpect(jsonPath("$.expenses.byMonth.length()").value(2))
+                .andExpect(jsonPath("$.expenses.byMonth[0].month").value("2025-01"))
+                .andExpect(jsonPath("$.expenses.byMonth[0].total").value(130.0))
+                .andExpect(jsonPath("$.expenses.byMonth[1].month").value("2025-02"))
+                .andExpect(jsonPath("$.expenses.byMonth[1].count").value(1))
+                .andExpect(jsonPath("$.expenses.byCategory[0].category").value("Rent"))
+                .andExpect(jsonPath("$.expenses.byCategory[1].category").value("Food"))
+                .andExpect(jsonPath("$.expenses.byCategory[1].total").value(50.0))
+                .andExpect(jsonPath("$.incomes.total").value(2000.0))
+                .andExpect(jsonPath("$.incomes.byCategory.length()").value(1))
+                .andExpect(jsonPath("$.incomes.byCategory[0].count").value(2))
+                .andExpect(jsonPath("$.savings.total").value(50.0))
+                .andExpect(jsonPath("$.savings.byCategory[0].category").value("Car"));
+    }
+
+    @Test
+    void getSummary_partialMonths_aggregatesLedgerRows() throws Exception {
+        saveExpense("Food", "30.00", LocalDate.of(2025, 1, 10));
+        saveExpense("Food", "20.00", LocalDate.of(2025, 1, 20));
+
+        mockMvc.perform(get("/api/v1/summary")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("from", "2025-01-15")
+                        .param("to", "2025-01-25"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expenses.total").value(20.0))
+                .andExpect(jsonPath("$.expenses.count").value(1));
+    }
+
+    @Test
+    void getSummary_withoutData_returnsZeroTotals() throws Exception {
+        mockMvc.perform(get("/api/v1/summary").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.expenses.total").value(0))
+                .andExpect(jsonPath("$.expenses.count").value(0))
+                .andExpect(jsonPath("$.incomes.byMonth.length()").value(0));
+    }
+
+    @Test
+    void getSummary_withFromAfterTo_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/summary")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("from", "2025-03-01")
+                        .param("to", "2025-02-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation Failed"));
+    }
+
+    @Test
+    void getSummary_withMalformedDate_returns400() throws Exception {
+        mockMvc.perform(get("/api/v1/summary")
+                        .header("Authorization", "Bearer " + testToken)
+                        .param("from", "yesterday"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void saveExpense(String category, String amount, LocalDate date) {
+        expenseRepository.save(new Expense(
+                null,
+                testUser,
+                new BigDecimal(amount),
+                category,
+                date,
+                null,
+                Expense.Frequency.ONE_TIME,
+                null,
+                null,
+                Expense.PaymentMethod.CARD));
+    }
+
+    private void saveIncome(String source, String amount, LocalDate date) {
+        incomeRepository.save(
+                new Income(null, testUser, new BigDecimal(amount), source, toDate(date), Frequency.ONE_TIME, null));
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,95 @@
+package cloudflight.integra.backend.summary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import cloudflight.integra.backend.dto.CategoryTotalDTO;
+import cloudflight.integra.backend.dto.MonthlyTotalDTO;
+import cloudflight.integra.backend.dto.SummaryDTO;
+import cloudflight.integra.backend.entity.LedgerKind;
+import cloudflight.integra.backend.entity.validation.ValidationException;
+import cloudflight.integra.backend.repository.ExpenseRepository;
+import cloudflight.integra.backend.repository.IncomeRepository;
+import cloudflight.integra.backend.repository.SavingRepository;
+import cloudflight.integra.backend.repository.UserMonthlyRollupRepository;
+import cloudflight.integra.backend.service.impl.SummaryServiceImpl;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryServiceTest {
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private IncomeRepository incomeRepository;
+
+    @Mock
+    private SavingRepository savingRepository;
+
+    @Mock
+    private UserMonthlyRollupRepository rollupRepository;
+
+    private SummaryServiceImpl summaryService;
+
+    @BeforeEach
+    void setUp() {
+        summaryService =
+                new SummaryServiceImpl(expenseRepository, incomeRepository, savingRepository, rollupRepository);
+    }
+
+    @Test
+    void getSummary_derivesTotalsFromCategoryGroups() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 30);
+        when(expenseRepository.sumByCategory(1L, from, LocalDate.of(2025, 1, 31)))
+                .thenReturn(List.of(
+                        new CategoryTotalDTO("Rent", new BigDecimal("100.00"), 1L),
+                        new CategoryTotalDTO("Food", new BigDecimal("45.50"), 3L)));
+
+        SummaryDTO summary = summaryService.getSummary(1L, from, to);
+
+        assertEquals(new BigDecimal("145.50"), summary.getExpenses().getTotal());
+        assertEquals(4, summary.getExpenses().getCount());
+        assertEquals(BigDecimal.ZERO, summary.getIncomes().getTotal());
+        verify(incomeRepository).sumByCategory(any(), any(), any());
+        verify(savingRepository).sumByMonth(any(), any(), any());
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void getSummary_wholeMonths_readsRollupTable() {
+        when(rollupRepository.sumByMonth(1L, LedgerKind.EXPENSE, 202501, 202502))
+                .thenReturn(List.of(
+                        new MonthlyTotalDTO(2025, 1, new BigDecimal("10.00"), 1L),
+                        new MonthlyTotalDTO(2025, 2, new BigDecimal("5.00"), 2L)));
+        when(rollupRepository.sumByCategory(1L, LedgerKind.EXPENSE, 202501, 202502))
+                .thenReturn(List.of(new CategoryTotalDTO("Food", new BigDecimal("15.00"), 3L)));
+
+        SummaryDTO summary = summaryService.getSummary(1L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 28));
+
+        assertEquals(new BigDecimal("15.00"), summary.getExpenses().getTotal());
+        assertEquals(2, summary.getExpenses().getByMonth().size());
+        verify(rollupRepository).sumByCategory(1L, LedgerKind.SAVING, 202501, 202502);
+        verifyNoInteractions(expenseRepository, incomeRepository, savingRepository);
+    }
+
+    @Test
+    void getSummary_fromAfterTo_throwsValidationException() {
+        assertThrows(
+                ValidationException.class,
+                () -> summaryService.getSummary(1L, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1)));
+        verifyNoInteractions(expenseRepository, incomeRepository, savingRepository, rollupRepository);
+    }
+}
@@ -9,6 +9,7 @@ import cloudflight.integra.backend.entity.validation.UserValidator;
 import cloudflight.integra.backend.entity.validation.ValidationException;
 import cloudflight.integra.backend.exception.NotFoundException;
 import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.security.PrincipalCache;
 import cloudflight.integra.backend.service.impl.UserServiceImpl;
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +34,9 @@ class UserServiceImplTest {
     @Mock
     private UserValidator userValidator;
 
+    @Mock
+    private PrincipalCache principalCache;
+
     private User user1, user2;
 
     @BeforeEach
@@ -52,7 +56,6 @@ class UserServiceImplTest {
             if (id.equals(user2.getId())) return Optional.of(user2);
             return Optional.empty();
         });
-        when(userRepo.findAll()).thenReturn(List.of(user1, user2));
     }
 
     @Test
@@ -104,6 +107,7 @@ class UserServiceImplTest {
         assertEquals("AliceUpdated", result.getName());
         assertEquals("alice@new.com", result.getEmail());
         verify(userRepo, atLeastOnce()).save(any(User.class));
+        verify(principalCache).invalidate(saved.getId());
     }
 
     @Test
@@ -128,16 +132,30 @@ class UserServiceImplTest {
         assertTrue(ex.getErrors().contains("Password cannot be null or empty!"));
     }
 
+    @Test
+    void testRevokeTokens() {
+        User saved = userService.addUser(user1);
+        when(userRepo.incrementTokenVersion(saved.getId())).thenReturn(1);
+
+        userService.revokeTokens(saved.getId());
+
+        verify(userRepo).incrementTokenVersion(saved.getId());
+        verify(principalCache).invalidate(saved.getId());
+        assertThrows(NotFoundException.class, () -> userService.revokeTokens(999L));
+    }
+
     @Test
     void testDeleteUser_Valid() {
         User saved = userService.addUser(user1);
         assertDoesNotThrow(() -> userService.deleteUser(saved.getId()));
         verify(userRepo).deleteById(saved.getId());
+        verify(principalCache).invalidate(saved.getId());
     }
 
     @Test
     void testDeleteUser_NotFound() {
         assertThrows(NotFoundException.class, () -> userService.deleteUser(999L));
+        verifyNoInteractions(principalCache);
     }
 
     @Test
@@ -0,0 +1,63 @@
+package cloudflight.integra.backend.user.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "security.bcrypt.strength=5")
+class PasswordUpgradeTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Test
+    void weakHash_isUpgradedOnSuccessfulLogin() throws Exception {
+        String email = "upgrade+" + UUID.randomUUID() + "@example.com";
+        userRepo.save(new User(null, "Upgrade", email, new BCryptPasswordEncoder(4).encode("password123")));
+
+        login(email, "wrong-password").andExpect(status().isUnauthorized());
+        assertThat(userRepo.findByEmail(email).orElseThrow().getPassword()).startsWith("$2a$04$");
+
+        login(email, "password123").andExpect(status().isOk());
+        String upgraded = userRepo.findByEmail(email).orElseThrow().getPassword();
+        assertThat(upgraded).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches("password123", upgraded)).isTrue();
+
+        login(email, "password123").andExpect(status().isOk());
+        assertThat(userRepo.findByEmail(email).orElseThrow().getPassword()).isEqualTo(upgraded);
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        AuthenticationRequest request = new AuthenticationRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+}
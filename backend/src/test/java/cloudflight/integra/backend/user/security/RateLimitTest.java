@@ -0,0 +1,119 @@
+package cloudflight.integra.backend.user.security;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import cloudflight.integra.backend.dto.auth.AuthenticationRequest;
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.security.AuthenticatedUser;
+import cloudflight.integra.backend.security.JwtUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@TestPropertySource(
+        properties = {
+            "rate-limit.enabled=true",
+            "rate-limit.auth.capacity=2",
+            "rate-limit.auth.refill-per-second=0.01",
+            "rate-limit.api.capacity=3",
+            "rate-limit.api.refill-per-second=0.01"
+        })
+class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Test
+    void authEndpoints_areLimitedPerClientIp() throws Exception {
+        login("10.0.0.1", "nobody@example.com").andExpect(status().isUnauthorized());
+        login("10.0.0.1", "someone@example.com").andExpect(status().isUnauthorized());
+
+        login("10.0.0.1", "anyone@example.com")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().longValue(HttpHeaders.RETRY_AFTER, 100))
+                .andExpect(jsonPath("$.error", containsString("Too many requests")));
+        login("10.0.0.2", "anyone@example.com").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void dataEndpoints_areLimitedPerUser() throws Exception {
+        String alice = token("alice");
+        String bob = token("bob");
+
+        for (int i = 0; i < 3; i++) {
+            users("10.0.1.1", alice).andExpect(status().isOk());
+        }
+        users("10.0.1.2", alice).andExpect(status().isTooManyRequests());
+
+        users("10.0.1.1", bob).andExpect(status().isOk());
+    }
+
+    @Test
+    void requestsWithoutValidToken_areLimitedPerClientIp() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            users("10.0.2.1", "not-a-jwt").andExpect(status().isUnauthorized());
+        }
+        users("10.0.2.1", "not-a-jwt").andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/actuator/health").with(request -> {
+                    request.setRemoteAddr("10.0.2.1");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+
+    private String token(String name) {
+        String email = name + "+" + UUID.randomUUID() + "@example.com";
+        User user = userRepo.save(new User(null, name, email, "pw"));
+        return jwtUtils.generateToken(AuthenticatedUser.of(user));
+    }
+
+    private ResultActions users(String ip, String token) throws Exception {
+        return mockMvc.perform(get("/api/v1/users")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .with(request -> {
+                    request.setRemoteAddr(ip);
+                    return request;
+                }));
+    }
+
+    private ResultActions login(String ip, String email) throws Exception {
+        AuthenticationRequest request = new AuthenticationRequest();
+        request.setEmail(email);
+        request.setPassword("password123");
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+                .with(r -> {
+                    r.setRemoteAddr(ip);
+                    return r;
+                }));
+    }
+}
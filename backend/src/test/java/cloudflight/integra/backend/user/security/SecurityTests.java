@@ -1,7 +1,10 @@
 package cloudflight.integra.backend.user.security;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -10,7 +13,9 @@ import cloudflight.integra.backend.dto.auth.AuthenticationResponse;
 import cloudflight.integra.backend.dto.auth.RegisterRequest;
 import cloudflight.integra.backend.entity.User;
 import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.security.PrincipalCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +47,11 @@ public class SecurityTests {
 
     private String marcEmail;
 
+    private String email;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
     @BeforeEach
     public void setUp() throws Exception {
 
@@ -52,7 +62,7 @@ public class SecurityTests {
 
         RegisterRequest registerRequest = new RegisterRequest();
         registerRequest.setName("Test User");
-        String email = "test+" + UUID.randomUUID() + "@example.com";
+        email = "test+" + UUID.randomUUID() + "@example.com";
         registerRequest.setEmail(email);
         registerRequest.setPassword("password123");
 
@@ -84,6 +94,57 @@ public class SecurityTests {
                 .andDo(print());
     }
 
+    @Test
+    public void testRepeatedRequestsReuseCachedPrincipal() throws Exception {
+        mockMvc.perform(get("/api/v1/users").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk());
+        long hitsBefore = principalCache.stats().hitCount();
+
+        mockMvc.perform(get("/api/v1/users").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk());
+
+        assertThat(principalCache.stats().hitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    public void testDeletedUserIsRejectedImmediately() throws Exception {
+        mockMvc.perform(get("/api/v1/users").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isOk());
+        User self = userRepo.findByEmail(email).orElseThrow();
+
+        mockMvc.perform(delete("/api/v1/users/" + self.getId()).header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/users").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void testPasswordChangeRevokesIssuedTokens() throws Exception {
+        User self = userRepo.findByEmail(email).orElseThrow();
+        // The passwords are write-only in UserDTO, so the body is built as a map
+        Map<String, Object> update = Map.of(
+                "id",
+                self.getId(),
+                "name",
+                self.getName(),
+                "email",
+                email,
+                "currentPassword",
+                "password123",
+                "password",
+                "password456");
+
+        mockMvc.perform(put("/api/v1/users/" + self.getId())
+                        .header("Authorization", "Bearer " + testToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/users").header("Authorization", "Bearer " + testToken))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     public void testGetAllWithoutToken() throws Exception {
         mockMvc.perform(get("/api/v1/users"))
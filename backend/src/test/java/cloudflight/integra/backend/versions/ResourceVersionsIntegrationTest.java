@@ -0,0 +1,82 @@
+package cloudflight.integra.backend.versions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import cloudflight.integra.backend.entity.User;
+import cloudflight.integra.backend.entity.VersionedResource;
+import cloudflight.integra.backend.repository.UserRepository;
+import cloudflight.integra.backend.service.versions.ResourceVersions;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ResourceVersionsIntegrationTest {
+
+    @Autowired
+    private ResourceVersions versions;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User(null, "Versions", "versions+" + UUID.randomUUID() + "@example.com", "pw"));
+    }
+
+    @Test
+    void bump_countsEveryChangeOfOneCollection() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> versions.bump(user.getId(), VersionedResource.PAYMENTS));
+        transaction.executeWithoutResult(
+                status -> versions.bump(List.of(user.getId(), user.getId()), VersionedResource.PAYMENTS));
+
+        assertThat(versions.current(user.getId(), VersionedResource.PAYMENTS)).isEqualTo(2);
+        assertThat(versions.current(user.getId(), VersionedResource.SAVINGS)).isZero();
+    }
+
+    @Test
+    void concurrentFirstChanges_allLandInOneRow() {
+        int writers = 8;
+        CyclicBarrier start = new CyclicBarrier(writers);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(writers)) {
+            CompletableFuture.allOf(IntStream.range(0, writers)
+                            .mapToObj(i -> CompletableFuture.runAsync(
+                                    () -> transaction.executeWithoutResult(status -> {
+                                        try {
+                                            start.await(5, TimeUnit.SECONDS);
+                                            versions.bump(user.getId(), VersionedResource.PAYMENTS);
+                                            // Keeps the first insert uncommitted while the others run into it
+                                            Thread.sleep(50);
+                                        } catch (Exception e) {
+                                            throw new IllegalStateException(e);
+                                        }
+                                    }),
+                                    pool))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        }
+
+        assertThat(versions.current(user.getId(), VersionedResource.PAYMENTS)).isEqualTo(writers);
+    }
+}
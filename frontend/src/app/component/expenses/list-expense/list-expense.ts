@@ -11,6 +11,7 @@ import { ToastModule } from 'primeng/toast';
 import { ConfirmationService, MessageService } from 'primeng/api';
 import { Subscription } from 'rxjs';
 import { TokenService } from '../../../services/token.service';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 @Component({
   selector: 'app-all-expenses',
@@ -31,6 +32,7 @@ export class AllExpensesComponent implements OnInit, OnDestroy {
   private router = inject(Router);
   private menuService = inject(MenuService);
   private expenseService = inject(ExpenseControllerService);
+  private cursorPaging = inject(CursorPagingService);
   private confirmationService = inject(ConfirmationService);
   private messageService = inject(MessageService);
   private tokenService = inject(TokenService);
@@ -81,7 +83,9 @@ export class AllExpensesComponent implements OnInit, OnDestroy {
     if (!this.userId) return;
     this.loading = true;
 
-    this.expenseService.getAllExpenses().subscribe({
+    this.cursorPaging
+      .fetchAll((cursor) => this.expenseService.getAllExpenses(cursor, undefined, 'response'))
+      .subscribe({
       next: (data: any) => {
         let expenses: ExpenseDTO[] = [];
 
@@ -13,6 +13,7 @@ import { ConfirmationService, MessageService } from 'primeng/api';
 import { ConfirmDialog } from 'primeng/confirmdialog';
 import { TokenService } from '../../../services/token.service';
 import { UserControllerService } from '../../../api';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 @Component({
   selector: 'app-overview-expense',
@@ -27,6 +28,7 @@ export class OverviewExpenseComponent implements OnInit {
   private router = inject(Router);
   private menuService = inject(MenuService);
   private expenseService = inject(ExpenseControllerService);
+  private cursorPaging = inject(CursorPagingService);
   private confirmationService = inject(ConfirmationService);
   private messageService = inject(MessageService);
   private tokenService = inject(TokenService);
@@ -70,7 +72,9 @@ export class OverviewExpenseComponent implements OnInit {
 
   loadExpenses(): void {
     this.loading = true;
-    this.expenseService.getAllExpenses().subscribe({
+    this.cursorPaging
+      .fetchAll((cursor) => this.expenseService.getAllExpenses(cursor, undefined, 'response'))
+      .subscribe({
       next: (data: any) => {
         if (Array.isArray(data)) {
           this.applyOverviewFiltering(data as ExpenseDTO[]);
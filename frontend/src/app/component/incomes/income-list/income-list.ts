@@ -9,6 +9,7 @@ import { InputTextModule } from 'primeng/inputtext';
 import {IncomeControllerService} from '../../../api';
 import {CommonModule} from '@angular/common';
 import {TokenService} from '../../../services/token.service';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 @Component({
   selector: 'app-income-list',
@@ -36,7 +37,8 @@ export class IncomeListComponent implements OnInit {
 
  constructor(private incomeService: IncomeControllerService,
              private userService: UserControllerService,
-             private tokenService: TokenService) {}
+             private tokenService: TokenService,
+             private cursorPaging: CursorPagingService) {}
 
   ngOnInit(): void {
     this.loadCurrentUser();
@@ -59,7 +61,9 @@ export class IncomeListComponent implements OnInit {
   loadIncomes(): void {
     const userId = this.userId;
     this.loading = true;
-    this.incomeService.getAllIncomes().subscribe({
+    this.cursorPaging
+      .fetchAll((cursor) => this.incomeService.getAllIncomes(cursor, undefined, 'response'))
+      .subscribe({
       next: (data) => {
         this.incomes = data.filter(i => i.userId === userId);
         this.filteredIncomes = data.filter(i => i.userId === userId);
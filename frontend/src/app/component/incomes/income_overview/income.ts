@@ -7,6 +7,7 @@ import {IncomeControllerService, UserControllerService} from '../../../api';
 import {IncomeDTO} from '../../../api/model/incomeDTO';
 import {CommonModule} from '@angular/common';
 import {TokenService} from '../../../services/token.service';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 @Component({
   selector: 'app-income',
@@ -36,7 +37,8 @@ export class IncomeComponent implements OnInit {
 
   constructor(private incomeService: IncomeControllerService,
               private userService: UserControllerService,
-              private tokenService: TokenService) {}
+              private tokenService: TokenService,
+              private cursorPaging: CursorPagingService) {}
 
   ngOnInit() {
     this.loadCurrentUser();
@@ -58,7 +60,9 @@ export class IncomeComponent implements OnInit {
 
   loadIncomes(): void {
     const userId = this.userId;
-    this.incomeService.getAllIncomes().subscribe({
+    this.cursorPaging
+      .fetchAll((cursor) => this.incomeService.getAllIncomes(cursor, undefined, 'response'))
+      .subscribe({
       next: (data:IncomeDTO[]) => {
         const filtered = data.filter(i => i.userId === userId);
         this.incomes = filtered;
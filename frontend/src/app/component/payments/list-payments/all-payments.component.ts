@@ -9,6 +9,7 @@ import {PaymentControllerService, PaymentDTO} from '../../../api';
 import {ConfirmDialogModule} from 'primeng/confirmdialog';
 import {ToastModule} from 'primeng/toast';
 import {ConfirmationService, MessageService} from 'primeng/api';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 
 @Component({
@@ -32,7 +33,8 @@ export class AllPaymentsComponent implements OnInit {
     private menuService: MenuService,
     private paymentService: PaymentControllerService,
     private confirmationService: ConfirmationService,
-    private messageService: MessageService
+    private messageService: MessageService,
+    private cursorPaging: CursorPagingService
   ) {}
 
   ngOnInit(): void {
@@ -41,8 +43,8 @@ export class AllPaymentsComponent implements OnInit {
 
   loadPayments(): void {
     this.loading = true;
-    this.paymentService
-      .getAllPayments()
+    this.cursorPaging
+      .fetchAll((cursor) => this.paymentService.getAllPayments(cursor, undefined, 'response'))
       .subscribe({
         next: (data: any) => {
           if (data instanceof Blob) {
@@ -10,6 +10,7 @@ import {PaymentControllerService, PaymentDTO} from '../../../api';
 import {ToastModule} from 'primeng/toast';
 import {ConfirmationService, MessageService} from 'primeng/api';
 import {ConfirmDialog} from 'primeng/confirmdialog';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 @Component({
   selector: 'app-overview',
@@ -47,7 +48,8 @@ export class OverviewComponent implements OnInit {
     private menuService: MenuService,
     private paymentService: PaymentControllerService,
     private confirmationService: ConfirmationService,
-    private messageService: MessageService
+    private messageService: MessageService,
+    private cursorPaging: CursorPagingService
   ) {}
 
   ngOnInit(): void {
@@ -56,8 +58,8 @@ export class OverviewComponent implements OnInit {
 
   loadPayments(): void {
     this.loading = true;
-    this.paymentService
-      .getAllPayments()
+    this.cursorPaging
+      .fetchAll((cursor) => this.paymentService.getAllPayments(cursor, undefined, 'response'))
       .subscribe({
         next: (data: any) => {
           const handlePayments = (payments: any[]) => {
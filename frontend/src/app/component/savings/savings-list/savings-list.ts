@@ -10,6 +10,7 @@ import { ButtonModule } from 'primeng/button';
 import { DatePickerModule } from 'primeng/datepicker';
 import { InputTextModule } from 'primeng/inputtext';
 import { SidebarComponent } from '../../sidebar/sidebar.component';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 @Component({
   selector: 'app-savings-list',
@@ -40,7 +41,8 @@ export class SavingsList implements OnInit {
   constructor(
       private savingService: SavingService,
       private userService: UserControllerService,
-      private tokenService: TokenService
+      private tokenService: TokenService,
+      private cursorPaging: CursorPagingService
   ) {}
 
   ngOnInit(): void {
@@ -63,7 +65,9 @@ export class SavingsList implements OnInit {
   loadSavings(): void {
     const userId = this.userId;
     this.loading = true;
-    this.savingService.getAllSavings().subscribe({
+    this.cursorPaging
+      .fetchAll((cursor) => this.savingService.getAllSavings(cursor, undefined, 'response'))
+      .subscribe({
       next: (data) => {
         this.savings = data.filter(s => s.userId === userId);
         this.filteredSavings = data.filter(s => s.userId === userId);
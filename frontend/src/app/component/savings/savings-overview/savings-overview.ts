@@ -7,6 +7,7 @@ import { SavingService, SavingDTO, UserControllerService } from '../../../api';
 import { TokenService } from '../../../services/token.service';
 import { CommonModule } from '@angular/common';
 import { SidebarComponent } from '../../sidebar/sidebar.component';
+import { CursorPagingService } from '../../../services/cursor-paging.service';
 
 @Component({
   selector: 'app-savings-overview',
@@ -37,7 +38,8 @@ export class SavingsOverview implements OnInit {
   constructor(
       private savingService: SavingService,
       private userService: UserControllerService,
-      private tokenService: TokenService
+      private tokenService: TokenService,
+      private cursorPaging: CursorPagingService
   ) {}
 
   ngOnInit() {
@@ -59,7 +61,9 @@ export class SavingsOverview implements OnInit {
 
   loadSavings(): void {
     const userId = this.userId;
-    this.savingService.getAllSavings().subscribe({
+    this.cursorPaging
+      .fetchAll((cursor) => this.savingService.getAllSavings(cursor, undefined, 'response'))
+      .subscribe({
       next: (data: any) => {
         this.savings = Array.isArray(data)
             ? data.filter((s: SavingDTO) => s.userId === userId)
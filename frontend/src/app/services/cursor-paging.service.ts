@@ -0,0 +1,27 @@
+import { Injectable } from '@angular/core';
+import { HttpResponse } from '@angular/common/http';
+import { EMPTY, Observable, expand, reduce } from 'rxjs';
+
+/** Response header carrying the token of the next page of a collection; absent on the last page. */
+export const NEXT_CURSOR_HEADER = 'X-Next-Cursor';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class CursorPagingService {
+
+  /**
+   * Loads a paginated collection page by page, following the X-Next-Cursor header
+   * @param fetchPage - requests the page starting at the given cursor, observing the whole response
+   * @returns Observable emitting the items of all pages once the last page has arrived
+   */
+  fetchAll<T>(fetchPage: (cursor?: string) => Observable<HttpResponse<T[]>>): Observable<T[]> {
+    return fetchPage().pipe(
+      expand((response) => {
+        const cursor = response.headers.get(NEXT_CURSOR_HEADER);
+        return cursor ? fetchPage(cursor) : EMPTY;
+      }),
+      reduce((items: T[], response) => items.concat(response.body ?? []), [])
+    );
+  }
+}